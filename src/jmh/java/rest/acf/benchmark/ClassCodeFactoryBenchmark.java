@@ -0,0 +1,124 @@
+package rest.acf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.ClassCodeFactory;
+import rest.acf.InterfaceCodeFactory;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.persistence.CRUDRepositoryInterfaceGenerator;
+import rest.acf.generator.persistence.DBOConverterClassGenerator;
+import rest.acf.generator.persistence.DBOJPAClassGenerator;
+import rest.acf.generator.persistence.PersistenceAdapterClassGenerator;
+import rest.acf.generator.rest.DTOClassGenerator;
+import rest.acf.generator.rest.DTOConverterClassGenerator;
+import rest.acf.generator.service.PersistencePortInterfaceGenerator;
+import rest.acf.generator.service.SOClassGenerator;
+import rest.acf.generator.service.ServiceImplClassGenerator;
+import rest.acf.generator.service.ServiceInterfaceGenerator;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+
+/**
+ * A benchmark for the class and interface code factories. One operation generates the source model for all tables of
+ * the model.
+ *
+ * @author ollie
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClassCodeFactoryBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class FactoryState {
+
+		@Param({ "DBOJPAClassGenerator", "DBOConverterClassGenerator", "DTOClassGenerator",
+				"DTOConverterClassGenerator", "SOClassGenerator", "PersistenceAdapterClassGenerator",
+				"ServiceImplClassGenerator", "CRUDRepositoryInterfaceGenerator", "PersistencePortInterfaceGenerator",
+				"ServiceInterfaceGenerator" })
+		public String generator;
+
+		public ClassCodeFactory classCodeFactory;
+		public InterfaceCodeFactory interfaceCodeFactory;
+
+		@Setup(Level.Trial)
+		public void setUp(ModelState model) {
+			DatabaseSO databaseSO = model.databaseSO;
+			ClassSourceModelUtils utils = new ClassSourceModelUtils(new NameConverter(), new TypeConverter())
+					.setForeignKeyIndex(model.foreignKeyIndex);
+			NameConverter nameConverter = new NameConverter();
+			TypeConverter typeConverter = new TypeConverter();
+			switch (this.generator) {
+			case "DBOJPAClassGenerator":
+				this.classCodeFactory = new DBOJPAClassGenerator(utils, nameConverter, typeConverter, databaseSO);
+				break;
+			case "DBOConverterClassGenerator":
+				this.classCodeFactory = new DBOConverterClassGenerator(utils, nameConverter, typeConverter);
+				break;
+			case "DTOClassGenerator":
+				this.classCodeFactory = new DTOClassGenerator(utils, nameConverter, typeConverter);
+				break;
+			case "DTOConverterClassGenerator":
+				this.classCodeFactory = new DTOConverterClassGenerator(utils, nameConverter, typeConverter);
+				break;
+			case "SOClassGenerator":
+				this.classCodeFactory = new SOClassGenerator(utils, nameConverter, typeConverter);
+				break;
+			case "PersistenceAdapterClassGenerator":
+				this.classCodeFactory = new PersistenceAdapterClassGenerator(utils, nameConverter, typeConverter,
+						databaseSO);
+				break;
+			case "ServiceImplClassGenerator":
+				this.classCodeFactory = new ServiceImplClassGenerator(utils, nameConverter, typeConverter,
+						databaseSO);
+				break;
+			case "CRUDRepositoryInterfaceGenerator":
+				this.interfaceCodeFactory = new CRUDRepositoryInterfaceGenerator(utils, nameConverter, typeConverter,
+						databaseSO);
+				break;
+			case "PersistencePortInterfaceGenerator":
+				this.interfaceCodeFactory = new PersistencePortInterfaceGenerator(utils, nameConverter,
+						typeConverter, databaseSO);
+				break;
+			case "ServiceInterfaceGenerator":
+				this.interfaceCodeFactory = new ServiceInterfaceGenerator(utils, nameConverter, typeConverter,
+						databaseSO);
+				break;
+			default:
+				throw new IllegalArgumentException("unknown generator: " + this.generator);
+			}
+		}
+
+	}
+
+	@Benchmark
+	public void generate(ModelState model, FactoryState factory, Blackhole blackhole) {
+		for (TableSO table : model.getTables()) {
+			if (factory.classCodeFactory != null) {
+				blackhole.consume(factory.classCodeFactory.generate(table, "benchmark"));
+			} else {
+				blackhole.consume(factory.interfaceCodeFactory.generate(table, "benchmark"));
+			}
+		}
+	}
+
+}
\ No newline at end of file
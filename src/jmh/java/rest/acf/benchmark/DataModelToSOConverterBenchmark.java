@@ -0,0 +1,63 @@
+package rest.acf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import archimedes.model.DataModel;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import rest.acf.SyntheticModelBuilder;
+import rest.acf.generator.converter.DataModelToSOConverter;
+
+/**
+ * A benchmark for the conversion of a data model into service objects. The table counts include a 2,000 table model
+ * to watch the costs of the foreign key resolution.
+ *
+ * @author ollie
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataModelToSOConverterBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class DataModelState {
+
+		@Param({ "10", "100", "1000", "2000" })
+		public int tableCount;
+
+		@Param({ "0", "1", "4" })
+		public int maxForeignKeysPerTable;
+
+		public DataModel dataModel;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			this.dataModel = new SyntheticModelBuilder().setSeed(4711L).setTableCount(this.tableCount)
+					.setMaxForeignKeysPerTable(this.maxForeignKeysPerTable).buildDataModel();
+		}
+
+	}
+
+	private final DataModelToSOConverter converter = new DataModelToSOConverter();
+
+	@Benchmark
+	public DatabaseSO convert(DataModelState model) {
+		return this.converter.convert(model.dataModel);
+	}
+
+}
\ No newline at end of file
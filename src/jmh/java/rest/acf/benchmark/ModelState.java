@@ -0,0 +1,49 @@
+package rest.acf.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import archimedes.model.DataModel;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.SyntheticModelBuilder;
+import rest.acf.generator.converter.DataModelToSOConverter;
+import rest.acf.generator.utils.ForeignKeyIndex;
+
+/**
+ * The synthetic model which the benchmarks are run with (see SyntheticModelBuilder).
+ *
+ * @author ollie
+ *
+ */
+@State(Scope.Benchmark)
+public class ModelState {
+
+	private static final long SEED = 4711L;
+
+	@Param({ "10", "100", "1000" })
+	public int tableCount;
+
+	@Param({ "0", "1", "4" })
+	public int maxForeignKeysPerTable;
+
+	public DataModel dataModel;
+	public DatabaseSO databaseSO;
+	public ForeignKeyIndex foreignKeyIndex;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.dataModel = new SyntheticModelBuilder().setSeed(SEED).setTableCount(this.tableCount)
+				.setMaxForeignKeysPerTable(this.maxForeignKeysPerTable).buildDataModel();
+		this.databaseSO = new DataModelToSOConverter().convert(this.dataModel);
+		this.foreignKeyIndex = new ForeignKeyIndex(this.databaseSO);
+	}
+
+	public Iterable<TableSO> getTables() {
+		return this.databaseSO.getSchemes().get(0).getTables();
+	}
+
+}
\ No newline at end of file
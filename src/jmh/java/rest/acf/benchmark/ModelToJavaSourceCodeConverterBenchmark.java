@@ -0,0 +1,81 @@
+package rest.acf.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.generator.converter.ModelToJavaSourceCodeConverter;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.persistence.CRUDRepositoryInterfaceGenerator;
+import rest.acf.generator.persistence.DBOJPAClassGenerator;
+import rest.acf.generator.service.ServiceImplClassGenerator;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.model.ClassSourceModel;
+import rest.acf.model.InterfaceSourceModel;
+
+/**
+ * A benchmark for the conversion of source models into Java source code. One operation converts the DBO, service
+ * implementation and CRUD repository source models of all tables.
+ *
+ * @author ollie
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ModelToJavaSourceCodeConverterBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class SourceModelState {
+
+		public List<ClassSourceModel> classSourceModels = new ArrayList<>();
+		public List<InterfaceSourceModel> interfaceSourceModels = new ArrayList<>();
+
+		@Setup(Level.Trial)
+		public void setUp(ModelState model) {
+			ClassSourceModelUtils utils = new ClassSourceModelUtils(new NameConverter(), new TypeConverter());
+			DBOJPAClassGenerator dboGenerator = new DBOJPAClassGenerator(utils, new NameConverter(),
+					new TypeConverter(), model.databaseSO);
+			ServiceImplClassGenerator serviceImplGenerator = new ServiceImplClassGenerator(utils, new NameConverter(),
+					new TypeConverter(), model.databaseSO);
+			CRUDRepositoryInterfaceGenerator repositoryGenerator = new CRUDRepositoryInterfaceGenerator(utils,
+					new NameConverter(), new TypeConverter(), model.databaseSO);
+			for (TableSO table : model.getTables()) {
+				this.classSourceModels.add(dboGenerator.generate(table, "benchmark"));
+				this.classSourceModels.add(serviceImplGenerator.generate(table, "benchmark"));
+				this.interfaceSourceModels.add(repositoryGenerator.generate(table, "benchmark"));
+			}
+		}
+
+	}
+
+	private final ModelToJavaSourceCodeConverter converter = new ModelToJavaSourceCodeConverter();
+
+	@Benchmark
+	public void convert(SourceModelState sourceModels, Blackhole blackhole) {
+		for (ClassSourceModel csm : sourceModels.classSourceModels) {
+			blackhole.consume(this.converter.classSourceModelToJavaSourceCode(csm));
+		}
+		for (InterfaceSourceModel ism : sourceModels.interfaceSourceModels) {
+			blackhole.consume(this.converter.interfaceSourceModelToJavaSourceCode(ism));
+		}
+	}
+
+}
\ No newline at end of file
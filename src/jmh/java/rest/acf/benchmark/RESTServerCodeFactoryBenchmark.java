@@ -0,0 +1,84 @@
+package rest.acf.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rest.acf.RESTServerCodeFactory;
+
+/**
+ * A benchmark for the complete code generation including the writing of the files. Every invocation generates into an
+ * empty output directory. The names of the written files, which are printed to the standard output by the factory,
+ * are discarded while the benchmark runs.
+ *
+ * @author ollie
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class RESTServerCodeFactoryBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class OutputState {
+
+		public Path outputPath;
+
+		@Setup(Level.Invocation)
+		public void setUp() throws IOException {
+			this.outputPath = Files.createTempDirectory("restacf-benchmark");
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() throws IOException {
+			Files.walk(this.outputPath).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class ConsoleState {
+
+		private PrintStream out;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			this.out = System.out;
+			System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			System.setOut(this.out);
+		}
+
+	}
+
+	@Benchmark
+	public boolean generate(ModelState model, OutputState output, ConsoleState console) {
+		RESTServerCodeFactory factory = new RESTServerCodeFactory();
+		factory.setDataModel(model.dataModel);
+		return factory.generate(output.outputPath.resolve("src/main/java").toString());
+	}
+
+}
\ No newline at end of file
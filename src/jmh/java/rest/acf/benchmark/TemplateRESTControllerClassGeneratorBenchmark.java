@@ -0,0 +1,57 @@
+package rest.acf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.generator.rest.TemplateRESTControllerClassGenerator;
+import rest.acf.generator.template.TemplateCache;
+
+/**
+ * A benchmark for the template based REST controller generator. One operation generates the controllers of all
+ * tables. The generator and its template cache are created once per trial, so the templates are read in the first
+ * operation only.
+ *
+ * @author ollie
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TemplateRESTControllerClassGeneratorBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class GeneratorState {
+
+		public TemplateRESTControllerClassGenerator generator;
+
+		@Setup(Level.Trial)
+		public void setUp(ModelState model) {
+			this.generator = new TemplateRESTControllerClassGenerator(model.foreignKeyIndex, new TemplateCache());
+		}
+
+	}
+
+	@Benchmark
+	public void generate(ModelState model, GeneratorState generator, Blackhole blackhole) {
+		for (TableSO table : model.getTables()) {
+			blackhole.consume(generator.generator.generate(table, model.databaseSO,
+					model.dataModel.getBasePackageName(), "benchmark"));
+		}
+	}
+
+}
\ No newline at end of file
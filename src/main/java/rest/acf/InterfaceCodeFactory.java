@@ -0,0 +1,31 @@
+/*
+ * InterfaceCodeFactory.java
+ *
+ * (c) by Ollie
+ *
+ * 18.10.2026
+ */
+package rest.acf;
+
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.model.InterfaceSourceModel;
+
+/**
+ * An interface for CodeFactory objects which create interfaces in the REST Archimedes code factory.
+ *
+ * @author ollie
+ *
+ */
+public interface InterfaceCodeFactory {
+
+	/**
+	 * Creates a new InterfaceSourceModel for the passed table service object.
+	 *
+	 * @param tableSO    The table service object which the InterfaceSourceModel is to create for.
+	 * @param authorName The name of the author.
+	 * @return The InterfaceSourceModel which is generated or a "null" value if a "null" value is passed or the table
+	 *         is not suitable for the interface.
+	 */
+	InterfaceSourceModel generate(TableSO tableSO, String authorName);
+
+}
\ No newline at end of file
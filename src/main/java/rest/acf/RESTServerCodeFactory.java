@@ -2,11 +2,28 @@ package rest.acf;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
@@ -47,7 +64,12 @@ import rest.acf.generator.service.ResultPageSOClassGenerator;
 import rest.acf.generator.service.SOClassGenerator;
 import rest.acf.generator.service.ServiceImplClassGenerator;
 import rest.acf.generator.service.ServiceInterfaceGenerator;
+import rest.acf.generator.template.PlaceholderRenderer;
+import rest.acf.generator.template.TemplateCache;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.ForeignKeyIndex;
+import rest.acf.generator.utils.ModelFingerprintBuilder;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.ClassSourceModel;
 import rest.acf.model.InterfaceSourceModel;
 
@@ -63,10 +85,32 @@ public class RESTServerCodeFactory
 
 	public static final String DO_NOT_CHANGE_TAG = "GENERATED CODE!!! DO NOT CHANGE!!!";
 
+	/**
+	 * The name of the system property which defines the number of threads used for the per table generation. A value
+	 * less than one uses one thread per available processor, the default value of one generates sequentially.
+	 */
+	public static final String GENERATION_THREADS_PROPERTY = "restacf.generation.threads";
+
+	/**
+	 * The name of the system property which activates the incremental generation. If set to "true", only the code for
+	 * the tables is regenerated whose fingerprint has changed since the last generation.
+	 */
+	public static final String INCREMENTAL_GENERATION_PROPERTY = "restacf.generation.incremental";
+
+	/**
+	 * The name of the file in the output path which stores the model fingerprints of the last generation.
+	 */
+	public static final String FINGERPRINT_INDEX_FILE_NAME = ".restacf-fingerprints";
+
+	/**
+	 * The name of the resource which contains the version of the artifact (property "version").
+	 */
+	static final String VERSION_RESOURCE_NAME = "/rest-acf.properties";
+
 	private static final Logger LOG = Logger.getLogger(RESTServerCodeFactory.class);
 	private static final String FACTORY_NAME = "REST Server Code Factory";
 
-	private static final String BASE_PACKAGE_NAME = "${base.package.name}";
+	private static final String BASE_PACKAGE_NAME = "base.package.name";
 	private static final String DOT_JAVA = ".java";
 	private static final String GENERATE_CODE = "Generate Code";
 	private static final String IGNORED_BY_PACKAGE = "ignored by package: ";
@@ -78,6 +122,11 @@ public class RESTServerCodeFactory
 
 	private List<CodeFactoryProgressionListener> progressListeners = new ArrayList<>();
 
+	private final AtomicInteger protectedFiles = new AtomicInteger();
+	private final AtomicInteger skippedFiles = new AtomicInteger();
+	private final AtomicInteger writtenFiles = new AtomicInteger();
+	private final TemplateCache templateCache = new TemplateCache();
+
 	@Override
 	public void addCodeFactoryListener(CodeFactoryListener listener) {
 		this.listeners.add(listener);
@@ -87,35 +136,60 @@ public class RESTServerCodeFactory
 	public boolean generate(String path) {
 		LOG.info("Started code generation");
 		new File(path).mkdirs();
+		this.protectedFiles.set(0);
+		this.skippedFiles.set(0);
+		this.writtenFiles.set(0);
 		DatabaseSO databaseSO = new DataModelToSOConverter().convert(this.dataModel);
+		ForeignKeyIndex foreignKeyIndex = new ForeignKeyIndex(databaseSO);
+		ClassSourceModelUtils utils = new ClassSourceModelUtils(new NameConverter(), new TypeConverter())
+				.setForeignKeyIndex(foreignKeyIndex);
+		checkETagOptions(databaseSO, utils);
 		ClassCodeFactory[] classCodeFactories = new ClassCodeFactory[] {
-				new DBOJPAClassGenerator(new ClassSourceModelUtils(new NameConverter(), new TypeConverter()),
-						new NameConverter(), new TypeConverter()),
-				new DBOConverterClassGenerator(new ClassSourceModelUtils(new NameConverter(), new TypeConverter()),
-						new NameConverter(), new TypeConverter()),
-				new DTOClassGenerator(new ClassSourceModelUtils(new NameConverter(), new TypeConverter()),
-						new NameConverter(), new TypeConverter()),
-				new DTOConverterClassGenerator(new ClassSourceModelUtils(new NameConverter(), new TypeConverter()),
-						new NameConverter(), new TypeConverter()),
-				new SOClassGenerator(new ClassSourceModelUtils(new NameConverter(), new TypeConverter()),
-						new NameConverter(), new TypeConverter()),
-				new PersistenceAdapterClassGenerator(
-						new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter(),
-						new TypeConverter(), databaseSO),
+				new DBOJPAClassGenerator(utils, new NameConverter(), new TypeConverter(), databaseSO),
+				new DBOConverterClassGenerator(utils, new NameConverter(), new TypeConverter()),
+				new DTOClassGenerator(utils, new NameConverter(), new TypeConverter()),
+				new DTOConverterClassGenerator(utils, new NameConverter(), new TypeConverter()),
+				new SOClassGenerator(utils, new NameConverter(), new TypeConverter()),
+				new PersistenceAdapterClassGenerator(utils, new NameConverter(), new TypeConverter(), databaseSO),
 //				new RESTControllerClassGenerator(new ClassSourceModelUtils(new NameConverter(), new TypeConverter()),
 //						new NameConverter(), new TypeConverter()),
-				new ServiceImplClassGenerator(new ClassSourceModelUtils(new NameConverter(), new TypeConverter()),
-						new NameConverter(), new TypeConverter(), databaseSO) };
-		CRUDRepositoryInterfaceGenerator crudRepositoryGenerator = new CRUDRepositoryInterfaceGenerator(
-				new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter(),
-				new TypeConverter(), databaseSO);
-		PersistencePortInterfaceGenerator persistencePortGenerator = new PersistencePortInterfaceGenerator(
-				new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter(),
-				new TypeConverter(), databaseSO);
-		ServiceInterfaceGenerator serviceGenerator = new ServiceInterfaceGenerator(
-				new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter(),
+				new ServiceImplClassGenerator(utils, new NameConverter(), new TypeConverter(), databaseSO) };
+		CRUDRepositoryInterfaceGenerator crudRepositoryGenerator = new CRUDRepositoryInterfaceGenerator(utils,
+				new NameConverter(), new TypeConverter(), databaseSO);
+		PersistencePortInterfaceGenerator persistencePortGenerator = new PersistencePortInterfaceGenerator(utils,
+				new NameConverter(), new TypeConverter(), databaseSO);
+		ServiceInterfaceGenerator serviceGenerator = new ServiceInterfaceGenerator(utils, new NameConverter(),
 				new TypeConverter(), databaseSO);
+		TemplateRESTControllerClassGenerator restControllerClassGenerator = new TemplateRESTControllerClassGenerator(
+				foreignKeyIndex, this.templateCache);
 		String basePackageName = this.dataModel.getBasePackageName();
+		ModelFingerprintBuilder fingerprintBuilder = new ModelFingerprintBuilder(utils);
+		Path fingerprintIndex = Paths.get(path, FINGERPRINT_INDEX_FILE_NAME);
+		Map<String, String> fingerprints = null;
+		Set<String> changedTableKeys = null;
+		if (Boolean.getBoolean(INCREMENTAL_GENERATION_PROPERTY)) {
+			fingerprints = fingerprintBuilder.build(databaseSO, basePackageName, getGeneratorFingerprintVersion());
+			Map<String, String> lastFingerprints = readFingerprints(fingerprintIndex);
+			if (fingerprints.equals(lastFingerprints)) {
+				LOG.info("Model is unchanged since the last generation, nothing to generate.");
+				return false;
+			}
+			changedTableKeys = getChangedTableKeys(fingerprints, lastFingerprints);
+			LOG.info("Regenerating code for " + changedTableKeys.size() + " changed table(s)");
+			removeFilesOfDeletedTables(path, basePackageName, databaseSO, utils, fingerprintBuilder,
+					lastFingerprints.keySet());
+		}
+		Map<SchemeSO, List<TableSO>> tablesToGenerate = new IdentityHashMap<>();
+		for (SchemeSO scheme : databaseSO.getSchemes()) {
+			List<TableSO> tables = new ArrayList<>();
+			for (TableSO table : scheme.getTables()) {
+				if ((changedTableKeys == null)
+						|| changedTableKeys.contains(fingerprintBuilder.getTableKey(scheme, table))) {
+					tables.add(table);
+				}
+			}
+			tablesToGenerate.put(scheme, tables);
+		}
 		Counter currentStep = new Counter();
 		createApplicationClass(databaseSO, path, basePackageName, currentStep);
 		createApplicationProperties(databaseSO, path, currentStep);
@@ -123,121 +197,314 @@ public class RESTServerCodeFactory
 		createPersistenceExceptionClass(databaseSO, path, REST_ACF, basePackageName, currentStep);
 		createResultPageDTOClass(databaseSO, path, REST_ACF, basePackageName, currentStep);
 		createResultPageSOClass(databaseSO, path, REST_ACF, basePackageName, currentStep);
-		createRESTControllerClass(databaseSO, path, REST_ACF, basePackageName, currentStep);
 		int tableCount = 0;
 		for (SchemeSO scheme : databaseSO.getSchemes()) {
-			tableCount += scheme.getTables().size();
+			tableCount += tablesToGenerate.get(scheme).size();
 		}
 		int maxSteps = tableCount * (3 + classCodeFactories.length + 1) + 6;
 		fireCodeFactoryProgressEvent(
 				new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE, null, 0, 0, 1, maxSteps));
+		List<Runnable> tasks = new ArrayList<>();
+		Set<String> failedTableKeys = ConcurrentHashMap.newKeySet();
 		for (SchemeSO scheme : databaseSO.getSchemes()) {
-			for (TableSO table : scheme.getTables()) {
+			for (TableSO table : tablesToGenerate.get(scheme)) {
+				String tableKey = fingerprintBuilder.getTableKey(scheme, table);
+				tasks.add(createTableTask(tableKey, failedTableKeys, () -> createRESTControllerClass(
+						restControllerClassGenerator, table, databaseSO, path, basePackageName, currentStep)));
 				for (ClassCodeFactory ccf : classCodeFactories) {
-					ClassSourceModel csm = ccf.generate(table, REST_ACF);
-					csm.getPackageModel().setPackageName(
-							csm.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
-					if (!isIgnoredByPackage(databaseSO, csm.getPackageModel().getPackageName())) {
-						String p = path + "/" + csm.getPackageModel().getPackageName().replace(".", "/");
-						new File(p).mkdirs();
-						String code = new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(csm);
-						code = code.replace(BASE_PACKAGE_NAME, basePackageName);
-						try {
-							writeFile(Paths.get(p + "/" + csm.getName() + DOT_JAVA), code.getBytes());
-						} catch (Exception e) {
-							printStackTrace(e);
-						}
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								"generated class: " + csm.getClass().getSimpleName(), 0, currentStep.inc()));
-					} else {
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								IGNORED_BY_PACKAGE + csm.getClass().getSimpleName(), 0, currentStep.inc()));
-					}
+					tasks.add(createTableTask(tableKey, failedTableKeys,
+							() -> createClass(ccf, table, databaseSO, path, basePackageName, currentStep)));
 				}
 			}
+			for (TableSO table : tablesToGenerate.get(scheme)) {
+				tasks.add(createTableTask(fingerprintBuilder.getTableKey(scheme, table), failedTableKeys,
+						() -> createInterface(crudRepositoryGenerator, table, databaseSO, path, basePackageName,
+								"generated CRUD repository interface: ", currentStep)));
+			}
+			for (TableSO table : tablesToGenerate.get(scheme)) {
+				tasks.add(createTableTask(fingerprintBuilder.getTableKey(scheme, table), failedTableKeys,
+						() -> createInterface(persistencePortGenerator, table, databaseSO, path, basePackageName,
+								"generated persistence port interface: ", currentStep)));
+			}
+			for (TableSO table : tablesToGenerate.get(scheme)) {
+				tasks.add(createTableTask(fingerprintBuilder.getTableKey(scheme, table), failedTableKeys,
+						() -> createInterface(serviceGenerator, table, databaseSO, path, basePackageName,
+								"generated service interface: ", currentStep)));
+			}
+		}
+		runGenerationTasks(tasks, getGenerationThreadCount());
+		LOG.info("Generated files: " + this.writtenFiles.get() + " written, " + this.skippedFiles.get()
+				+ " unchanged (skipped), " + this.protectedFiles.get() + " protected (no \"" + DO_NOT_CHANGE_TAG
+				+ "\" tag)");
+		if (fingerprints != null) {
+			// Tables with failed files are left out, so their code is generated again by the next run.
+			failedTableKeys.forEach(fingerprints::remove);
+			writeFingerprints(fingerprintIndex, fingerprints);
+		}
+		return false;
+	}
+
+	private Runnable createTableTask(String tableKey, Set<String> failedTableKeys, Runnable task) {
+		return () -> {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				LOG.error("error while generating code for " + tableKey + ": " + e.getMessage(), e);
+				failedTableKeys.add(tableKey);
+			}
+		};
+	}
+
+	/**
+	 * Warns about the tables whose option ETAG is ignored, because changes of the objects which are embedded into their
+	 * DTO's would not change the ETag (see ClassSourceModelUtils.isETagged(TableSO)).
+	 */
+	private void checkETagOptions(DatabaseSO databaseSO, ClassSourceModelUtils utils) {
+		for (SchemeSO scheme : databaseSO.getSchemes()) {
 			for (TableSO table : scheme.getTables()) {
-				InterfaceSourceModel ism = crudRepositoryGenerator.generate(table, REST_ACF);
-				if (ism != null) {
-					ism.getPackageModel().setPackageName(
-							ism.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
-					if (!isIgnoredByPackage(databaseSO, ism.getPackageModel().getPackageName())) {
-						String p = path + "/" + ism.getPackageModel().getPackageName().replace(".", "/");
-						new File(p).mkdirs();
-						String code = new ModelToJavaSourceCodeConverter().interfaceSourceModelToJavaSourceCode(ism);
-						code = code.replace(BASE_PACKAGE_NAME, basePackageName);
-						try {
-							writeFile(Paths.get(p + "/" + ism.getName() + DOT_JAVA), code.getBytes());
-						} catch (Exception e) {
-							printStackTrace(e);
-						}
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								"generated CRUD repository interface: " + ism.getClass().getSimpleName(), 0,
-								currentStep.inc()));
-					} else {
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								IGNORED_BY_PACKAGE + ism.getClass().getSimpleName(), 0, currentStep.inc()));
-					}
-				} else {
-					fireCodeFactoryProgressEvent(
-							new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE, null, 0, currentStep.inc()));
+				if (utils.isOptionSet(table, Options.ETAG) && !utils.isETagged(table)) {
+					LOG.warn("option " + Options.ETAG + " ignored for table " + table.getName()
+							+ ": set it for all referenced tables (or " + Options.DTO_REFERENCES_BY_ID
+							+ ") and avoid reference cycles");
 				}
 			}
+		}
+	}
+
+	/**
+	 * Returns the version of the generator which is a part of the model fingerprints. It consists of the version of
+	 * the artifact and the names and contents of the templates in use, so changes of the generator or its templates
+	 * lead to a complete regeneration.
+	 */
+	private String getGeneratorFingerprintVersion() {
+		StringBuilder version = new StringBuilder(getArtifactVersion());
+		try {
+			version.append("\n").append(this.templateCache.getTemplatesDescription());
+		} catch (IOException e) {
+			LOG.warn("templates could not be read for the fingerprints: " + e.getMessage());
+		}
+		return version.toString();
+	}
+
+	private String getArtifactVersion() {
+		Properties properties = new Properties();
+		try (InputStream in = RESTServerCodeFactory.class.getResourceAsStream(VERSION_RESOURCE_NAME)) {
+			if (in != null) {
+				properties.load(in);
+			}
+		} catch (IOException e) {
+			LOG.warn("version resource could not be read: " + e.getMessage());
+		}
+		return properties.getProperty("version", getVersion());
+	}
+
+	private void removeFilesOfDeletedTables(String path, String basePackageName, DatabaseSO databaseSO,
+			ClassSourceModelUtils utils, ModelFingerprintBuilder fingerprintBuilder, Set<String> lastKeys) {
+		Set<String> tableNames = new HashSet<>();
+		for (SchemeSO scheme : databaseSO.getSchemes()) {
 			for (TableSO table : scheme.getTables()) {
-				InterfaceSourceModel ism = persistencePortGenerator.generate(table, REST_ACF);
-				if (ism != null) {
-					ism.getPackageModel().setPackageName(
-							ism.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
-					if (!isIgnoredByPackage(databaseSO, ism.getPackageModel().getPackageName())) {
-						String p = path + "/" + ism.getPackageModel().getPackageName().replace(".", "/");
-						new File(p).mkdirs();
-						String code = new ModelToJavaSourceCodeConverter().interfaceSourceModelToJavaSourceCode(ism);
-						code = code.replace(BASE_PACKAGE_NAME, basePackageName);
-						try {
-							writeFile(Paths.get(p + "/" + ism.getName() + DOT_JAVA), code.getBytes());
-						} catch (Exception e) {
-							printStackTrace(e);
-						}
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								"generated persistence port interface: " + ism.getClass().getSimpleName(), 0,
-								currentStep.inc()));
-					} else {
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								IGNORED_BY_PACKAGE + ism.getClass().getSimpleName(), 0, currentStep.inc()));
-					}
-				} else {
-					fireCodeFactoryProgressEvent(
-							new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE, null, 0, currentStep.inc()));
+				tableNames.add(table.getName());
+			}
+		}
+		for (String key : lastKeys) {
+			String tableName = fingerprintBuilder.getTableName(key);
+			if ((tableName != null) && !tableNames.contains(tableName)) {
+				LOG.info("Removing the generated files of the deleted table " + tableName);
+				for (Path file : getGeneratedTableFiles(path, basePackageName, utils,
+						new TableSO().setName(tableName))) {
+					removeFile(file);
 				}
 			}
-			for (TableSO table : scheme.getTables()) {
-				InterfaceSourceModel ism = serviceGenerator.generate(table, REST_ACF);
-				if (ism != null) {
-					ism.getPackageModel().setPackageName(
-							ism.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
-					if (!isIgnoredByPackage(databaseSO, ism.getPackageModel().getPackageName())) {
-						String p = path + "/" + ism.getPackageModel().getPackageName().replace(".", "/");
-						new File(p).mkdirs();
-						String code = new ModelToJavaSourceCodeConverter().interfaceSourceModelToJavaSourceCode(ism);
-						code = code.replace(BASE_PACKAGE_NAME, basePackageName);
-						try {
-							writeFile(Paths.get(p + "/" + ism.getName() + DOT_JAVA), code.getBytes());
-						} catch (Exception e) {
-							printStackTrace(e);
-						}
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								"generated service interface: " + ism.getClass().getSimpleName(), 0,
-								currentStep.inc()));
-					} else {
-						fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-								IGNORED_BY_PACKAGE + ism.getClass().getSimpleName(), 0, currentStep.inc()));
+		}
+	}
+
+	/**
+	 * Returns the paths of the files which are generated for the passed table. The names of these files depend on the
+	 * name of the table only.
+	 *
+	 * @param path            The path which the code is generated to.
+	 * @param basePackageName The base package name of the generated code.
+	 * @param utils           An access to the class source model utils.
+	 * @param table           The table whose generated files are to return.
+	 * @return The paths of the files which are generated for the passed table.
+	 */
+	List<Path> getGeneratedTableFiles(String path, String basePackageName, ClassSourceModelUtils utils,
+			TableSO table) {
+		List<Path> files = new ArrayList<>();
+		addFile(files, path, basePackageName, utils.createRESTControllerClassPackageNameSuffix(),
+				utils.createRESTControllerClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createJPAModelPackageNameSuffix(),
+				utils.createJPAModelClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createDBOConverterPackageNameSuffix(),
+				utils.createDBOConverterClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createDTOPackageNameSuffix(),
+				utils.createDTOClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createDTOConverterPackageNameSuffix(),
+				utils.createDTOConverterClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createSOPackageNameSuffix(),
+				utils.createSOClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createPersistenceAdapterPackageNameSuffix(),
+				utils.createPersistenceAdapterClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createServiceImplPackageNameSuffix(),
+				utils.createServiceImplClassSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createCRUDRepositoryPackageNameSuffix(),
+				utils.createCRUDRepitoryInterfaceSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createPersistencePortPackageNameSuffix(),
+				utils.createPersistencePortInterfaceSourceModel(table).getName());
+		addFile(files, path, basePackageName, utils.createServicePackageNameSuffix(),
+				utils.createServiceInterfaceSourceModel(table).getName());
+		return files;
+	}
+
+	private void addFile(List<Path> files, String path, String basePackageName, String packageNameSuffix,
+			String className) {
+		String p = path + "/" + (basePackageName + "." + packageNameSuffix).replace(".", "/");
+		files.add(Paths.get(p + "/" + className + DOT_JAVA));
+	}
+
+	private void removeFile(Path path) {
+		try {
+			if (Files.exists(path) && Files.readString(path).contains(DO_NOT_CHANGE_TAG)) {
+				Files.delete(path);
+				LOG.info("Removed file: " + path);
+			}
+		} catch (IOException e) {
+			LOG.warn("file could not be removed: " + path + ", " + e.getMessage());
+		}
+	}
+
+	private Set<String> getChangedTableKeys(Map<String, String> fingerprints, Map<String, String> lastFingerprints) {
+		boolean databaseChanged = !Objects.equals(fingerprints.get(ModelFingerprintBuilder.DATABASE_KEY),
+				lastFingerprints.get(ModelFingerprintBuilder.DATABASE_KEY));
+		Set<String> keys = new HashSet<>();
+		for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+			if (!entry.getKey().equals(ModelFingerprintBuilder.DATABASE_KEY)
+					&& (databaseChanged || !entry.getValue().equals(lastFingerprints.get(entry.getKey())))) {
+				keys.add(entry.getKey());
+			}
+		}
+		return keys;
+	}
+
+	private Map<String, String> readFingerprints(Path fingerprintIndex) {
+		Map<String, String> fingerprints = new HashMap<>();
+		if (Files.exists(fingerprintIndex)) {
+			Properties properties = new Properties();
+			try (Reader reader = Files.newBufferedReader(fingerprintIndex)) {
+				properties.load(reader);
+			} catch (IOException e) {
+				LOG.warn("fingerprint index could not be read, generating all: " + e.getMessage());
+				return fingerprints;
+			}
+			properties.stringPropertyNames().forEach(name -> fingerprints.put(name, properties.getProperty(name)));
+		}
+		return fingerprints;
+	}
+
+	private void writeFingerprints(Path fingerprintIndex, Map<String, String> fingerprints) {
+		StringBuilder content = new StringBuilder("# " + DO_NOT_CHANGE_TAG + "\n");
+		fingerprints.forEach((key, fingerprint) -> content.append(key).append("=").append(fingerprint).append("\n"));
+		try {
+			Files.write(fingerprintIndex, content.toString().getBytes());
+		} catch (IOException e) {
+			LOG.warn("fingerprint index could not be written: " + e.getMessage());
+		}
+	}
+
+	private int getGenerationThreadCount() {
+		String threads = System.getProperty(GENERATION_THREADS_PROPERTY, "1").trim();
+		try {
+			int count = Integer.parseInt(threads);
+			return count < 1 ? Runtime.getRuntime().availableProcessors() : count;
+		} catch (NumberFormatException e) {
+			LOG.warn("invalid value for system property '" + GENERATION_THREADS_PROPERTY + "': " + threads
+					+ ", generating sequentially.");
+			return 1;
+		}
+	}
+
+	/**
+	 * Runs the passed generation tasks. The tasks are processed in the calling thread if the thread count is one,
+	 * otherwise they are distributed over a pool with the passed number of threads. Since every task writes its own
+	 * file, the generated output does not depend on the thread count.
+	 *
+	 * @param tasks       The generation tasks to run.
+	 * @param threadCount The maximum number of threads to use for the generation.
+	 */
+	void runGenerationTasks(List<Runnable> tasks, int threadCount) {
+		if ((threadCount <= 1) || (tasks.size() <= 1)) {
+			tasks.forEach(Runnable::run);
+			return;
+		}
+		LOG.info("Generating " + tasks.size() + " artifacts with " + threadCount + " threads");
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, tasks.size()));
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Runnable task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
 					}
-				} else {
-					fireCodeFactoryProgressEvent(
-							new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE, null, 0, currentStep.inc()));
+					throw new IllegalStateException("error while generating code.", e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("code generation has been interrupted.", e);
 				}
 			}
+		} finally {
+			executor.shutdownNow();
 		}
-		return false;
+	}
+
+	private void createClass(ClassCodeFactory ccf, TableSO table, DatabaseSO databaseSO, String path,
+			String basePackageName, Counter currentStep) {
+		ClassSourceModel csm = ccf.generate(table, REST_ACF);
+		csm.getPackageModel()
+				.setPackageName(resolveBasePackageName(csm.getPackageModel().getPackageName(), basePackageName));
+		if (!isIgnoredByPackage(databaseSO, csm.getPackageModel().getPackageName())) {
+			String p = path + "/" + csm.getPackageModel().getPackageName().replace(".", "/");
+			new File(p).mkdirs();
+			String code = new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(csm);
+			code = resolveBasePackageName(code, basePackageName);
+			writeTableFile(Paths.get(p + "/" + csm.getName() + DOT_JAVA), code.getBytes());
+			fireCodeFactoryProgressEvent("generated class: " + csm.getClass().getSimpleName(), currentStep);
+		} else {
+			fireCodeFactoryProgressEvent(IGNORED_BY_PACKAGE + csm.getClass().getSimpleName(), currentStep);
+		}
+	}
+
+	private void createInterface(InterfaceCodeFactory icf, TableSO table, DatabaseSO databaseSO, String path,
+			String basePackageName, String message, Counter currentStep) {
+		InterfaceSourceModel ism = icf.generate(table, REST_ACF);
+		if (ism != null) {
+			ism.getPackageModel().setPackageName(
+					resolveBasePackageName(ism.getPackageModel().getPackageName(), basePackageName));
+			if (!isIgnoredByPackage(databaseSO, ism.getPackageModel().getPackageName())) {
+				String p = path + "/" + ism.getPackageModel().getPackageName().replace(".", "/");
+				new File(p).mkdirs();
+				String code = new ModelToJavaSourceCodeConverter().interfaceSourceModelToJavaSourceCode(ism);
+				code = resolveBasePackageName(code, basePackageName);
+				writeTableFile(Paths.get(p + "/" + ism.getName() + DOT_JAVA), code.getBytes());
+				fireCodeFactoryProgressEvent(message + ism.getClass().getSimpleName(), currentStep);
+			} else {
+				fireCodeFactoryProgressEvent(IGNORED_BY_PACKAGE + ism.getClass().getSimpleName(), currentStep);
+			}
+		} else {
+			fireCodeFactoryProgressEvent(null, currentStep);
+		}
+	}
+
+	/**
+	 * Replaces the base package name placeholders of the passed string. All other placeholders are left untouched,
+	 * since the generated code may contain "${...}" sequences of its own.
+	 */
+	private String resolveBasePackageName(String s, String basePackageName) {
+		return PlaceholderRenderer.renderLenient(s, Collections.singletonMap(BASE_PACKAGE_NAME, basePackageName));
 	}
 
 	private void printStackTrace(Exception e) {
@@ -266,12 +533,12 @@ public class RESTServerCodeFactory
 				new TypeConverter());
 		ClassSourceModel csm = applicationClassGenerator.generate(databaseSO, REST_ACF);
 		csm.getPackageModel()
-				.setPackageName(csm.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
+				.setPackageName(resolveBasePackageName(csm.getPackageModel().getPackageName(), basePackageName));
 		if (!isIgnoredByPackage(databaseSO, csm.getPackageModel().getPackageName())) {
 			String p = path + "/" + csm.getPackageModel().getPackageName().replace(".", "/");
 			new File(p).mkdirs();
 			String code = new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(csm);
-			code = code.replace(BASE_PACKAGE_NAME, basePackageName);
+			code = resolveBasePackageName(code, basePackageName);
 			try {
 				writeFile(Paths.get(p + "/" + csm.getName() + DOT_JAVA), code.getBytes());
 			} catch (Exception e) {
@@ -323,12 +590,12 @@ public class RESTServerCodeFactory
 				new TypeConverter());
 		ClassSourceModel csm = persistenceExceptionClassGenerator.generate(REST_ACF);
 		csm.getPackageModel()
-				.setPackageName(csm.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
+				.setPackageName(resolveBasePackageName(csm.getPackageModel().getPackageName(), basePackageName));
 		if (!isIgnoredByPackage(databaseSO, csm.getPackageModel().getPackageName())) {
 			String p = path + "/" + csm.getPackageModel().getPackageName().replace(".", "/");
 			new File(p).mkdirs();
 			String code = new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(csm);
-			code = code.replace(BASE_PACKAGE_NAME, basePackageName);
+			code = resolveBasePackageName(code, basePackageName);
 			try {
 				writeFile(Paths.get(p + "/" + csm.getName() + DOT_JAVA), code.getBytes());
 			} catch (Exception e) {
@@ -347,14 +614,14 @@ public class RESTServerCodeFactory
 		ResultPageDTOClassGenerator resultPageDTOClassGenerator = new ResultPageDTOClassGenerator(
 				new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter(),
 				new TypeConverter());
-		ClassSourceModel csm = resultPageDTOClassGenerator.generate(REST_ACF);
+		ClassSourceModel csm = resultPageDTOClassGenerator.generate(databaseSO, REST_ACF);
 		csm.getPackageModel()
-				.setPackageName(csm.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
+				.setPackageName(resolveBasePackageName(csm.getPackageModel().getPackageName(), basePackageName));
 		if (!isIgnoredByPackage(databaseSO, csm.getPackageModel().getPackageName())) {
 			String p = path + "/" + csm.getPackageModel().getPackageName().replace(".", "/");
 			new File(p).mkdirs();
 			String code = new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(csm);
-			code = code.replace(BASE_PACKAGE_NAME, basePackageName);
+			code = resolveBasePackageName(code, basePackageName);
 			try {
 				writeFile(Paths.get(p + "/" + csm.getName() + DOT_JAVA), code.getBytes());
 			} catch (Exception e) {
@@ -375,12 +642,12 @@ public class RESTServerCodeFactory
 				new TypeConverter());
 		ClassSourceModel csm = resultPageSOClassGenerator.generate(REST_ACF);
 		csm.getPackageModel()
-				.setPackageName(csm.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
+				.setPackageName(resolveBasePackageName(csm.getPackageModel().getPackageName(), basePackageName));
 		if (!isIgnoredByPackage(databaseSO, csm.getPackageModel().getPackageName())) {
 			String p = path + "/" + csm.getPackageModel().getPackageName().replace(".", "/");
 			new File(p).mkdirs();
 			String code = new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(csm);
-			code = code.replace(BASE_PACKAGE_NAME, basePackageName);
+			code = resolveBasePackageName(code, basePackageName);
 			try {
 				writeFile(Paths.get(p + "/" + csm.getName() + DOT_JAVA), code.getBytes());
 			} catch (Exception e) {
@@ -394,44 +661,95 @@ public class RESTServerCodeFactory
 		}
 	}
 
-	private void createRESTControllerClass(DatabaseSO databaseSO, String path, String authorName,
-			String basePackageName, Counter currentStep) {
-		TemplateRESTControllerClassGenerator restControllerClassGenerator = new TemplateRESTControllerClassGenerator();
+	private void createRESTControllerClass(TemplateRESTControllerClassGenerator restControllerClassGenerator,
+			TableSO table, DatabaseSO databaseSO, String path, String basePackageName, Counter currentStep) {
 		ClassSourceModelUtils utils = new ClassSourceModelUtils(new NameConverter(), new TypeConverter());
-		for (SchemeSO scheme : databaseSO.getSchemes()) {
-			for (TableSO table : scheme.getTables()) {
-				String code = restControllerClassGenerator.generate(table, databaseSO, REST_ACF);
-				String className = utils.createRESTControllerClassSourceModel(table).getName();
-//		csm.getPackageModel().setPackageName(
-//				csm.getPackageModel().getPackageName().replace(BASE_PACKAGE_NAME, basePackageName));
-//		String p = path + "/" + csm.getPackageModel().getPackageName().replace(".", "/");
-				if (!isIgnoredByPackage(databaseSO, (basePackageName + ".rest.v1.controller"))) {
-					String p = path + "/" + (basePackageName + ".rest.v1.controller").replace(".", "/");
-					new File(p).mkdirs();
-					code = code.replace(BASE_PACKAGE_NAME, basePackageName);
-					try {
-						writeFile(Paths.get(p + "/" + className + DOT_JAVA), code.getBytes());
-					} catch (Exception e) {
-						printStackTrace(e);
-					}
-					fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-							"generated REST controller class: " + className, 0, currentStep.inc()));
-				} else {
-					fireCodeFactoryProgressEvent(new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE,
-							IGNORED_BY_PACKAGE + className, 0, currentStep.inc()));
-				}
-			}
+		String code = restControllerClassGenerator.generate(table, databaseSO, basePackageName, REST_ACF);
+		String className = utils.createRESTControllerClassSourceModel(table).getName();
+		if (code == null) {
+			throw new IllegalStateException("REST controller class could not be generated: " + className);
+		}
+		if (!isIgnoredByPackage(databaseSO, (basePackageName + ".rest.v1.controller"))) {
+			String p = path + "/" + (basePackageName + ".rest.v1.controller").replace(".", "/");
+			new File(p).mkdirs();
+			writeTableFile(Paths.get(p + "/" + className + DOT_JAVA), code.getBytes());
+			fireCodeFactoryProgressEvent("generated REST controller class: " + className, currentStep);
+		} else {
+			fireCodeFactoryProgressEvent(IGNORED_BY_PACKAGE + className, currentStep);
 		}
 	}
 
-	private void writeFile(Path path, byte[] content) throws IOException {
-		if (new File(path.toString()).exists() && !Files.readString(path).contains(DO_NOT_CHANGE_TAG)) {
-			return;
+	private void writeTableFile(Path path, byte[] content) {
+		try {
+			writeFile(path, content);
+		} catch (IOException e) {
+			throw new UncheckedIOException("file could not be written: " + path, e);
+		}
+	}
+
+	/**
+	 * Writes the passed content to the file with the passed path. Files with the same content are not rewritten (and
+	 * keep their time of modification), existing files without the DO_NOT_CHANGE_TAG are protected from overwriting.
+	 *
+	 * @param path    The path of the file to write.
+	 * @param content The content of the file.
+	 * @throws IOException If the file cannot be read or written.
+	 */
+	void writeFile(Path path, byte[] content) throws IOException {
+		if (Files.exists(path)) {
+			if (isContentEqual(path, content)) {
+				this.skippedFiles.incrementAndGet();
+				return;
+			}
+			if (!Files.readString(path).contains(DO_NOT_CHANGE_TAG)) {
+				this.protectedFiles.incrementAndGet();
+				return;
+			}
 		}
 		Files.write(path, content);
+		this.writtenFiles.incrementAndGet();
 		System.out.println(path.toString());
 	}
 
+	private boolean isContentEqual(Path path, byte[] content) throws IOException {
+		if (Files.size(path) != content.length) {
+			return false;
+		}
+		try (InputStream in = Files.newInputStream(path)) {
+			byte[] buffer = new byte[8192];
+			int offset = 0;
+			for (int read = in.read(buffer); read > 0; read = in.read(buffer)) {
+				for (int i = 0; i < read; i++, offset++) {
+					if ((offset >= content.length) || (buffer[i] != content[offset])) {
+						return false;
+					}
+				}
+			}
+			return offset == content.length;
+		}
+	}
+
+	/**
+	 * Returns the number of files which were protected from overwriting by the last generation.
+	 */
+	int getProtectedFileCount() {
+		return this.protectedFiles.get();
+	}
+
+	/**
+	 * Returns the number of files which were not rewritten by the last generation, because they were unchanged.
+	 */
+	int getSkippedFileCount() {
+		return this.skippedFiles.get();
+	}
+
+	/**
+	 * Returns the number of files which were written by the last generation.
+	 */
+	int getWrittenFileCount() {
+		return this.writtenFiles.get();
+	}
+
 	@Override
 	public void removeCodeFactoryListener(CodeFactoryListener listener) {
 		this.listeners.remove(listener);
@@ -496,7 +814,14 @@ public class RESTServerCodeFactory
 		}
 	}
 
-	protected void fireCodeFactoryProgressEvent(CodeFactoryProgressionEvent event) {
+	private void fireCodeFactoryProgressEvent(String message, Counter currentStep) {
+		synchronized (currentStep) {
+			fireCodeFactoryProgressEvent(
+					new CodeFactoryProgressionEvent(FACTORY_NAME, GENERATE_CODE, message, 0, currentStep.inc()));
+		}
+	}
+
+	protected synchronized void fireCodeFactoryProgressEvent(CodeFactoryProgressionEvent event) {
 		this.progressListeners //
 				.forEach(l -> {
 					try {
@@ -511,14 +836,14 @@ public class RESTServerCodeFactory
 
 class Counter {
 
-	private int value = 0;
+	private final AtomicInteger value = new AtomicInteger();
 
 	public Counter() {
 		super();
 	}
 
 	public int inc() {
-		return ++this.value;
+		return this.value.incrementAndGet();
 	}
 
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import rest.acf.RESTServerCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 
 /**
  * A generator for an initial "application.properties" file.
@@ -17,6 +18,10 @@ public class ApplicationPropertiesGenerator {
 
 	private static final Logger LOG = Logger.getLogger(ApplicationPropertiesGenerator.class);
 
+	private static final int DEFAULT_CACHE_EXPIRY_SECONDS = 3600;
+	private static final int DEFAULT_CACHE_MAXIMUM_SIZE = 10000;
+	private static final int DEFAULT_JDBC_BATCH_SIZE = 50;
+
 	private final ClassSourceModelUtils classSourceModelUtils;
 	private final NameConverter nameConverter;
 
@@ -46,7 +51,11 @@ public class ApplicationPropertiesGenerator {
 				+ "spring.liquibase.change-log=classpath:db/change-log/change-log-master.xml\n" //
 				+ "\n" //
 				+ "spring.jpa.hibernate.ddl-auto=update\n" //
+				+ "spring.jpa.open-in-view=false\n" //
 				+ "\n" //
+				+ getJDBCBatchProperties(databaseSO) //
+				+ getCacheProperties(databaseSO) //
+				+ getMetricsProperties(databaseSO) //
 				+ "logging.level.root=INFO\n" //
 				+ "\n" //
 				+ "spring.datasource.url=jdbc:hsqldb:mem:" + nameConverter.classNameToAttrName(databaseSO.getName())
@@ -56,4 +65,60 @@ public class ApplicationPropertiesGenerator {
 				+ "spring.datasource.password=";
 	}
 
+	private String getJDBCBatchProperties(DatabaseSO databaseSO) {
+		if (!this.classSourceModelUtils.isOptionSet(databaseSO, Options.JDBC_BATCH_SIZE)) {
+			return "";
+		}
+		return "spring.jpa.properties.hibernate.jdbc.batch_size="
+				+ this.classSourceModelUtils.getIntOptionValue(databaseSO, Options.JDBC_BATCH_SIZE,
+						DEFAULT_JDBC_BATCH_SIZE)
+				+ "\n" //
+				+ "spring.jpa.properties.hibernate.order_inserts=true\n" //
+				+ "spring.jpa.properties.hibernate.order_updates=true\n" //
+				+ "\n";
+	}
+
+	/**
+	 * Returns the properties of the second level and query cache, if at least one table is cached. The cache provider
+	 * is Caffeine (JCache), which reads its "caffeine.jcache" settings from the "application.properties" too.
+	 */
+	private String getCacheProperties(DatabaseSO databaseSO) {
+		if (!this.classSourceModelUtils.isAnyTableCached(databaseSO)) {
+			return "";
+		}
+		return "spring.jpa.properties.hibernate.cache.use_second_level_cache=true\n" //
+				+ "spring.jpa.properties.hibernate.cache.use_query_cache=true\n" //
+				+ "spring.jpa.properties.hibernate.cache.region.factory_class=jcache\n" //
+				+ "spring.jpa.properties.hibernate.javax.cache.provider="
+				+ "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider\n" //
+				+ "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create\n" //
+				+ "spring.jpa.properties.javax.persistence.sharedCache.mode=ENABLE_SELECTIVE\n" //
+				+ "caffeine.jcache.default.policy.maximum.size="
+				+ this.classSourceModelUtils.getIntOptionValue(databaseSO, Options.CACHE_MAXIMUM_SIZE,
+						DEFAULT_CACHE_MAXIMUM_SIZE)
+				+ "\n" //
+				+ "caffeine.jcache.default.policy.eager-expiration.after-write="
+				+ this.classSourceModelUtils.getIntOptionValue(databaseSO, Options.CACHE_EXPIRY_SECONDS,
+						DEFAULT_CACHE_EXPIRY_SECONDS)
+				+ "s\n" //
+				+ "\n";
+	}
+
+	/**
+	 * Returns the properties which expose the metrics for Prometheus by the actuator, if the database option METRICS
+	 * is set. The latencies of the services and the persistence adapters are published as histograms.
+	 */
+	private String getMetricsProperties(DatabaseSO databaseSO) {
+		if (!this.classSourceModelUtils.isOptionSet(databaseSO, Options.METRICS)) {
+			return "";
+		}
+		return "management.endpoints.web.exposure.include=health,info,prometheus\n" //
+				+ "management.metrics.tags.application=" + this.nameConverter.classNameToAttrName(databaseSO.getName())
+				+ "\n" //
+				+ "management.metrics.distribution.percentiles-histogram.service.calls=true\n" //
+				+ "management.metrics.distribution.percentiles-histogram.persistence.calls=true\n" //
+				+ "management.metrics.distribution.percentiles-histogram.persistence.rows=true\n" //
+				+ "\n";
+	}
+
 }
\ No newline at end of file
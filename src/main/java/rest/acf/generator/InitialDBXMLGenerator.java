@@ -1,17 +1,23 @@
 package rest.acf.generator;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
 import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
 import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import rest.acf.RESTServerCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.persistence.DBOJPAClassGenerator;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 
 /**
  * A generator for an initial Liquibase DB update script.
@@ -23,6 +29,12 @@ public class InitialDBXMLGenerator {
 
 	private static final Logger LOG = Logger.getLogger(InitialDBXMLGenerator.class);
 
+	/**
+	 * The default maximum length of the generated index and constraint names (Oracle before 12.2). The names are valid
+	 * for PostgreSQL (63) and most other DBMS too.
+	 */
+	public static final int DEFAULT_MAX_IDENTIFIER_LENGTH = 30;
+
 	private final ClassSourceModelUtils classSourceModelUtils;
 	private final NameConverter nameConverter;
 	private final TypeConverter typeConverter;
@@ -59,19 +71,148 @@ public class InitialDBXMLGenerator {
 				+ "				http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-1.9.xsd\">\n" //
 				+ "	<!-- " + RESTServerCodeFactory.DO_NOT_CHANGE_TAG + " -->\n" //
 		;
+		int allocationSize = this.classSourceModelUtils.isOptionSet(databaseSO, Options.SEQUENCE_ALLOCATION_SIZE)
+				? this.classSourceModelUtils.getIntOptionValue(databaseSO, Options.SEQUENCE_ALLOCATION_SIZE,
+						DBOJPAClassGenerator.DEFAULT_ALLOCATION_SIZE)
+				: 0;
+		int maxIdentifierLength = this.classSourceModelUtils.getIntOptionValue(databaseSO,
+				Options.MAX_IDENTIFIER_LENGTH, DEFAULT_MAX_IDENTIFIER_LENGTH);
 		int i = 1;
 		for (SchemeSO schemeSO : databaseSO.getSchemes()) {
 			for (TableSO tableSO : schemeSO.getTables()) {
 				code += "	<changeSet author=\"" + authorName + "\" id=\"" + getChangeSetNumber(i++) + "\">\n" //
 						+ "		<createTable tableName=\"" + tableSO.getName() + "\">\n" //
-						+ getColumnsXML(tableSO.getColumns()) //
+						+ getColumnsXML(this.classSourceModelUtils.getPersistentColumns(tableSO)) //
 						+ "		</createTable>\n" //
 						+ "	</changeSet>\n";
 			}
 		}
+		for (SchemeSO schemeSO : databaseSO.getSchemes()) {
+			for (TableSO tableSO : schemeSO.getTables()) {
+				if (hasSequence(tableSO, allocationSize)) {
+					String sequenceName = getSequenceName(tableSO);
+					code += "	<changeSet author=\"" + authorName + "\" id=\"" + sequenceName + "\">\n" //
+							+ "		<createSequence sequenceName=\"" + sequenceName + "\" startValue=\"1\""
+							+ " incrementBy=\"" + allocationSize + "\"/>\n" //
+							+ "	</changeSet>\n";
+				}
+			}
+		}
+		for (SchemeSO schemeSO : databaseSO.getSchemes()) {
+			for (TableSO tableSO : schemeSO.getTables()) {
+				for (List<String> columnNames : getIndexColumnNames(tableSO)) {
+					String indexName = getIdentifier("IX_" + tableSO.getName() + "_" + String.join("_", columnNames),
+							maxIdentifierLength);
+					code += "	<changeSet author=\"" + authorName + "\" id=\"" + indexName + "\">\n" //
+							+ getCreateIndexXML(tableSO, indexName, columnNames) //
+							+ "	</changeSet>\n";
+				}
+			}
+		}
+		for (SchemeSO schemeSO : databaseSO.getSchemes()) {
+			for (TableSO tableSO : schemeSO.getTables()) {
+				for (ForeignKeySO foreignKeySO : tableSO.getForeignKeys()) {
+					String constraintName = getIdentifier("FK_" + tableSO.getName() + "_"
+							+ String.join("_", getReferencingColumnNames(foreignKeySO)), maxIdentifierLength);
+					code += "	<changeSet author=\"" + authorName + "\" id=\"" + constraintName + "\">\n" //
+							+ getAddForeignKeyConstraintXML(tableSO, constraintName, foreignKeySO) //
+							+ "	</changeSet>\n";
+				}
+			}
+		}
 		return code + "</databaseChangeLog>";
 	}
 
+	/**
+	 * Returns the column name lists of the indices of the passed table. These are the referencing columns of the
+	 * foreign keys (which are filtered by the generated finder queries) and the composite indices of the table option
+	 * INDEXES. Column names which are not found in the table are logged and skipped.
+	 */
+	private List<List<String>> getIndexColumnNames(TableSO tableSO) {
+		List<List<String>> indices = new ArrayList<>();
+		for (ForeignKeySO foreignKeySO : tableSO.getForeignKeys()) {
+			indices.add(getReferencingColumnNames(foreignKeySO));
+		}
+		String indexes = this.classSourceModelUtils.getTableOptionValue(tableSO, Options.INDEXES, "");
+		for (String index : indexes.split(";")) {
+			List<String> columnNames = new ArrayList<>();
+			for (String name : index.split(",")) {
+				if (!name.trim().isEmpty()) {
+					String columnName = getColumnName(tableSO, name.trim());
+					if (columnName == null) {
+						LOG.warn("index column '" + name.trim() + "' not found in table: " + tableSO.getName());
+					} else {
+						columnNames.add(columnName);
+					}
+				}
+			}
+			if (!columnNames.isEmpty() && !indices.contains(columnNames)) {
+				indices.add(columnNames);
+			}
+		}
+		return indices;
+	}
+
+	private String getColumnName(TableSO tableSO, String name) {
+		for (ColumnSO columnSO : tableSO.getColumns()) {
+			if (columnSO.getName().equalsIgnoreCase(name)) {
+				return columnSO.getName();
+			}
+		}
+		return null;
+	}
+
+	private List<String> getReferencingColumnNames(ForeignKeySO foreignKeySO) {
+		return foreignKeySO.getReferences().stream().map(r -> r.getReferencingColumn().getName())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the passed name if it does not exceed the passed maximum length. Longer names are cut and end with a hash
+	 * of the whole name, so they stay distinct. Since the index and constraint names are used as change set ids too,
+	 * the ids do not change if tables are added to the model.
+	 */
+	String getIdentifier(String name, int maxLength) {
+		if (name.length() <= maxLength) {
+			return name;
+		}
+		String hash = String.format("%08X", name.hashCode());
+		return name.substring(0, Math.max(0, maxLength - hash.length() - 1)) + "_" + hash;
+	}
+
+	private String getCreateIndexXML(TableSO tableSO, String indexName, List<String> columnNames) {
+		StringBuilder sb = new StringBuilder("		<createIndex tableName=\"").append(tableSO.getName())
+				.append("\" indexName=\"").append(indexName).append("\">\n");
+		for (String columnName : columnNames) {
+			sb.append("			<column name=\"").append(columnName).append("\"/>\n");
+		}
+		return sb.append("		</createIndex>\n").toString();
+	}
+
+	private String getAddForeignKeyConstraintXML(TableSO tableSO, String constraintName, ForeignKeySO foreignKeySO) {
+		List<String> columnNames = getReferencingColumnNames(foreignKeySO);
+		List<ReferenceSO> references = foreignKeySO.getReferences();
+		return "		<addForeignKeyConstraint constraintName=\"" + constraintName + "\" baseTableName=\""
+				+ tableSO.getName() + "\" baseColumnNames=\"" + String.join(",", columnNames)
+				+ "\" referencedTableName=\""
+				+ references.get(0).getReferencedColumn().getTable().getName() + "\" referencedColumnNames=\""
+				+ references.stream().map(r -> r.getReferencedColumn().getName()).collect(Collectors.joining(","))
+				+ "\"/>\n";
+	}
+
+	/**
+	 * Checks if a sequence is to create for the primary key of the passed table. This is the case if sequence
+	 * generators are generated (allocationSize greater than 0) and the table has a primary key. The sequence is
+	 * created in a change set of its own with the allocation size of the sequence generator as increment.
+	 */
+	private boolean hasSequence(TableSO tableSO, int allocationSize) {
+		return (allocationSize > 0) && tableSO.getColumns().stream().anyMatch(ColumnSO::isPkMember);
+	}
+
+	private String getSequenceName(TableSO tableSO) {
+		return tableSO.getName() + "_IDS";
+	}
+
 	private String getChangeSetNumber(int i) {
 		String s = String.valueOf(i);
 		while (s.length() < 3) {
@@ -1,6 +1,10 @@
 package rest.acf.generator.converter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import archimedes.model.ColumnModel;
 import archimedes.model.DataModel;
@@ -13,6 +17,7 @@ import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
 import de.ollie.archimedes.alexandrian.service.so.OptionSO;
 import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
 import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import de.ollie.archimedes.alexandrian.service.so.TypeSO;
 
@@ -35,8 +40,14 @@ public class DataModelToSOConverter {
 			return null;
 		}
 		SchemeSO sso = new SchemeSO().setName("public");
+		Map<String, TableSO> tablesByName = new HashMap<>();
+		Map<TableSO, Map<String, ColumnSO>> columnsByTable = new IdentityHashMap<>();
 		for (TableModel tm : dataModel.getTables()) {
 			TableSO tso = new TableSO().setName(tm.getName());
+			copyTableOptions(tm, tso);
+			Map<String, ColumnSO> columnsByName = new HashMap<>();
+			tablesByName.putIfAbsent(tso.getName(), tso);
+			columnsByTable.put(tso, columnsByName);
 			for (ColumnModel cm : tm.getColumns()) {
 				ColumnSO cso = new ColumnSO().setName(cm.getName());
 				DomainModel dom = cm.getDomain();
@@ -53,16 +64,18 @@ public class DataModelToSOConverter {
 				cso.setTable(tso);
 				cso.setUnique(cm.isUnique());
 				tso.getColumns().add(cso);
+				columnsByName.putIfAbsent(cso.getName(), cso);
 			}
 			sso.getTables().add(tso);
 		}
 		for (TableModel tm : dataModel.getTables()) {
-			TableSO tso = getTableSOByName(tm.getName(), sso);
+			TableSO tso = tablesByName.get(tm.getName());
 			for (ColumnModel cm : tm.getColumns()) {
 				if ((cm.getReferencedColumn() != null) && (cm.getReferencedTable() != null)) {
-					ColumnSO cso = getColumnSOByName(cm.getName(), tso);
-					TableSO tsoReferenced = getTableSOByName(cm.getReferencedTable().getName(), sso);
-					ColumnSO csoReferenced = getColumnSOByName(cm.getReferencedColumn().getName(), tsoReferenced);
+					ColumnSO cso = columnsByTable.get(tso).get(cm.getName());
+					TableSO tsoReferenced = tablesByName.get(cm.getReferencedTable().getName());
+					ColumnSO csoReferenced = tsoReferenced == null ? null
+							: columnsByTable.get(tsoReferenced).get(cm.getReferencedColumn().getName());
 					ReferenceSO reference = new ReferenceSO().setReferencedColumn(csoReferenced)
 							.setReferencingColumn(cso);
 					ForeignKeySO foreignKey = new ForeignKeySO().setReferences(Arrays.asList(reference));
@@ -77,22 +90,20 @@ public class DataModelToSOConverter {
 		return dbso;
 	}
 
-	private TableSO getTableSOByName(String tableName, SchemeSO sso) {
-		for (TableSO tso : sso.getTables()) {
-			if (tso.getName().equals(tableName)) {
-				return tso;
-			}
+	private void copyTableOptions(TableModel tm, TableSO tso) {
+		if (tm.getOptions() == null) {
+			return;
 		}
-		return null;
-	}
-
-	private ColumnSO getColumnSOByName(String columnName, TableSO tso) {
-		for (ColumnSO cso : tso.getColumns()) {
-			if (cso.getName().equals(columnName)) {
-				return cso;
-			}
+		if (tso.getMetaInfo() == null) {
+			tso.setMetaInfo(new TableMetaInfo());
+		}
+		if (tso.getMetaInfo().getOptions() == null) {
+			tso.getMetaInfo().setOptions(new ArrayList<>());
+		}
+		for (OptionModel option : tm.getOptions()) {
+			tso.getMetaInfo().getOptions()
+					.add(new OptionSO().setName(option.getName()).setValue(option.getParameter()));
 		}
-		return null;
 	}
 
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package rest.acf.generator.converter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -38,168 +41,171 @@ public class ModelToJavaSourceCodeConverter {
 		if (csm == null) {
 			return null;
 		}
-		String code = "";
-		PackageSourceModel psm = csm.getPackageModel();
-		if (psm != null) {
-			code += "package " + psm.getPackageName() + ";\n\n";
-		}
-		String importStart = "";
-		if (!csm.getImports().isEmpty()) {
-			for (ImportSourceModel ism : csm.getImports()) {
-				String packageName = ism.getPackageModel().getPackageName();
-				if (!importStart.equals(getFirstPackageNamePart(packageName))) {
-					if (!importStart.isEmpty()) {
-						code += "\n";
-					}
-					importStart = getFirstPackageNamePart(packageName);
-				}
-				code += "import " + ism.getPackageModel().getPackageName() + ".";
-				if (ism.getClassName() != null) {
-					code += ism.getClassName();
-				} else {
-					code += "*";
-				}
-				code += ";\n";
-			}
-			code += "\n";
+		StringBuilder code = new StringBuilder(estimateCodeLength(csm.getMethods(), csm.getConstructors()));
+		try {
+			writeClassSourceModel(csm, code);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
+		return code.toString();
+	}
+
+	/**
+	 * Writes the Java source code of the passed class source model to the passed appendable (e. g. a writer).
+	 * 
+	 * @param csm The class source model to convert.
+	 * @param out The appendable which the Java source code is written to.
+	 * @throws IOException If an error occurs while writing to the appendable.
+	 */
+	public void writeClassSourceModel(ClassSourceModel csm, Appendable out) throws IOException {
+		writePackageAndImports(csm.getPackageModel(), csm.getImports(), out);
 		if (csm.getComment() != null) {
-			code += csm.getComment().getComment();
+			out.append(csm.getComment().getComment());
 		}
 		for (AnnotationSourceModel asm : csm.getAnnotations()) {
-			code += "@" + asm.getName();
-			if (!asm.getProperties().isEmpty()) {
-				code += "(";
-				boolean first = true;
-				for (PropertySourceModel<?> prosm : asm.getProperties()) {
-					if (!first) {
-						code += ", ";
-					}
-					code += prosm.getName() + " = " + getJavaConstantValue(prosm);
-					first = false;
-				}
-				code += ")";
-			} else if (asm.getValue() != null) {
-				code += "(\"" + asm.getValue() + "\")";
+			out.append("@").append(asm.getName());
+			if (!writeProperties(asm, out) && (asm.getValue() != null)) {
+				out.append("(\"").append(String.valueOf(asm.getValue())).append("\")");
 			}
-			code += "\n";
+			out.append("\n");
 		}
-		code += "public class " + csm.getName() + createGenericParameters(csm.getGenericParameters())
-				+ createExtendsStatement(csm.getExtendsModel()) + getImplementsString(csm.getInterfaces()) + " {\n";
-		code += "\n";
+		out.append("public class ").append(csm.getName()).append(createGenericParameters(csm.getGenericParameters()))
+				.append(createExtendsStatement(csm.getExtendsModel())).append(getImplementsString(csm.getInterfaces()))
+				.append(" {\n");
+		out.append("\n");
 		for (EnumTypeSourceModel etsm : csm.getEnums()) {
-			String enumCode = "\t" + getModifierString(etsm.getModifiers()) + "enum " + etsm.getName();
-			String ids = "";
+			out.append("\t").append(getModifierString(etsm.getModifiers())).append("enum ").append(etsm.getName())
+					.append(" { ");
+			boolean first = true;
 			for (String id : etsm.getIdentifiers()) {
-				if (!ids.isEmpty()) {
-					ids += ", ";
+				if (!first) {
+					out.append(", ");
 				}
-				ids += id;
+				out.append(id);
+				first = false;
 			}
-			enumCode += " { " + ids + " }\n\n";
-			code += enumCode;
+			out.append(" }\n\n");
 		}
 		for (AttributeSourceModel asm : csm.getAttributes()) {
 			for (AnnotationSourceModel ansm : asm.getAnnotations()) {
-				code += "\t@" + ansm.getName();
-				if (!ansm.getProperties().isEmpty()) {
-					code += "(";
-					boolean first = true;
-					for (PropertySourceModel<?> prosm : ansm.getProperties()) {
-						if (!first) {
-							code += ", ";
-						}
-						code += prosm.getName() + " = " + getJavaConstantValue(prosm);
-						first = false;
-					}
-					code += ")";
-				}
-				code += "\n";
+				out.append("\t@").append(ansm.getName());
+				writeProperties(ansm, out);
+				out.append("\n");
 			}
-			code += "\t" + getModifierString(asm.getModifiers()) + asm.getType() + " " + asm.getName();
+			out.append("\t").append(getModifierString(asm.getModifiers())).append(asm.getType()).append(" ")
+					.append(asm.getName());
 			if (asm.getInitialValue() != null) {
-				code += " = " + asm.getInitialValue();
+				out.append(" = ").append(asm.getInitialValue());
 			}
-			code += ";\n";
+			out.append(";\n");
 		}
 		if (csm.getAttributes().size() > 0) {
-			code += "\n";
+			out.append("\n");
 		}
 		for (ConstructorSourceModel cosm : csm.getConstructors()) {
-			code += "\tpublic " + csm.getName() + "(";
-			String paramStr = "";
-			for (ParameterSourceModel param : cosm.getParameters()) {
-				if (!paramStr.isEmpty()) {
-					paramStr += ", ";
-				}
-				paramStr += param.getType() + " " + param.getName();
-			}
-			code += paramStr;
-			code += ") {\n";
-			code += cosm.getCode() + "\n";
+			out.append("\tpublic ").append(csm.getName()).append("(");
+			writeParameters(cosm.getParameters(), out);
+			out.append(") {\n");
+			out.append(cosm.getCode()).append("\n");
 		}
 		for (MethodSourceModel method : csm.getMethods()) {
 			for (AnnotationSourceModel ansm : method.getAnnotations()) {
-				code += "\t@" + ansm.getName();
-				if (!ansm.getProperties().isEmpty()) {
-					code += "(";
-					boolean first = true;
-					for (PropertySourceModel<?> prosm : ansm.getProperties()) {
-						if (!first) {
-							code += ", ";
-						}
-						code += prosm.getName() + " = " + getJavaConstantValue(prosm);
-						first = false;
-					}
-					code += ")";
-				} else if (ansm.getValue() != null) {
-					code += "(\"" + ansm.getValue() + "\")";
+				out.append("\t@").append(ansm.getName());
+				if (!writeProperties(ansm, out) && (ansm.getValue() != null)) {
+					out.append("(\"").append(String.valueOf(ansm.getValue())).append("\")");
 				}
-				code += "\n";
+				out.append("\n");
 			}
-			code += "\t" + getModifierString(method.getModifiers()) + method.getReturnType() + " " + method.getName()
-					+ "(";
-			String paramStr = "";
+			out.append("\t").append(getModifierString(method.getModifiers())).append(method.getReturnType())
+					.append(" ").append(method.getName()).append("(");
+			// The annotations of all parameters are written in front of the parameter list.
 			for (ParameterSourceModel param : method.getParameters()) {
-				if (!paramStr.isEmpty()) {
-					paramStr += ", ";
-				}
 				for (AnnotationSourceModel ansm : param.getAnnotations()) {
-					code += "@" + ansm.getName();
-					if (!ansm.getProperties().isEmpty()) {
-						code += "(";
-						boolean first = true;
-						for (PropertySourceModel<?> prosm : ansm.getProperties()) {
-							if (!first) {
-								code += ", ";
-							}
-							code += prosm.getName() + " = " + getJavaConstantValue(prosm);
-							first = false;
-						}
-						code += ")";
-					} else if (ansm.getValue() != null) {
-						code += "(\"" + ansm.getValue() + "\")";
+					out.append("@").append(ansm.getName());
+					if (!writeProperties(ansm, out) && (ansm.getValue() != null)) {
+						out.append("(\"").append(String.valueOf(ansm.getValue())).append("\")");
 					}
-					code += " ";
+					out.append(" ");
 				}
-				paramStr += param.getType() + " " + param.getName();
 			}
-			code += paramStr;
-			code += ")";
-			String thrownExceptions = "";
-			for (ThrownExceptionSourceModel e : method.getThrownExceptions()) {
-				if (!thrownExceptions.isEmpty()) {
-					thrownExceptions += ", ";
-				} else {
-					thrownExceptions += " throws ";
+			writeParameters(method.getParameters(), out);
+			out.append(")");
+			writeThrownExceptions(method.getThrownExceptions(), out);
+			out.append(" {\n");
+			out.append(method.getCode()).append("\n");
+		}
+		out.append("}");
+	}
+
+	private int estimateCodeLength(List<MethodSourceModel> methods, List<ConstructorSourceModel> constructors) {
+		int length = 1024;
+		for (MethodSourceModel method : methods) {
+			length += 128 + (method.getCode() != null ? method.getCode().length() : 0);
+		}
+		for (ConstructorSourceModel constructor : constructors) {
+			length += 128 + (constructor.getCode() != null ? constructor.getCode().length() : 0);
+		}
+		return length;
+	}
+
+	private void writePackageAndImports(PackageSourceModel psm, List<ImportSourceModel> imports, Appendable out)
+			throws IOException {
+		if (psm != null) {
+			out.append("package ").append(psm.getPackageName()).append(";\n\n");
+		}
+		String importStart = "";
+		if (!imports.isEmpty()) {
+			for (ImportSourceModel ism : imports) {
+				String packageName = ism.getPackageModel().getPackageName();
+				if (!importStart.equals(getFirstPackageNamePart(packageName))) {
+					if (!importStart.isEmpty()) {
+						out.append("\n");
+					}
+					importStart = getFirstPackageNamePart(packageName);
 				}
-				thrownExceptions += e.getName();
+				out.append("import ").append(packageName).append(".");
+				out.append(ism.getClassName() != null ? ism.getClassName() : "*");
+				out.append(";\n");
+			}
+			out.append("\n");
+		}
+	}
+
+	private boolean writeProperties(AnnotationSourceModel asm, Appendable out) throws IOException {
+		if (asm.getProperties().isEmpty()) {
+			return false;
+		}
+		out.append("(");
+		boolean first = true;
+		for (PropertySourceModel<?> prosm : asm.getProperties()) {
+			if (!first) {
+				out.append(", ");
+			}
+			out.append(prosm.getName()).append(" = ").append(getJavaConstantValue(prosm));
+			first = false;
+		}
+		out.append(")");
+		return true;
+	}
+
+	private void writeParameters(List<ParameterSourceModel> parameters, Appendable out) throws IOException {
+		boolean first = true;
+		for (ParameterSourceModel param : parameters) {
+			if (!first) {
+				out.append(", ");
 			}
-			code += thrownExceptions + " {\n";
-			code += method.getCode() + "\n";
+			out.append(param.getType()).append(" ").append(param.getName());
+			first = false;
+		}
+	}
+
+	private void writeThrownExceptions(Collection<ThrownExceptionSourceModel> exceptions, Appendable out)
+			throws IOException {
+		boolean first = true;
+		for (ThrownExceptionSourceModel e : exceptions) {
+			out.append(first ? " throws " : ", ").append(e.getName());
+			first = false;
 		}
-		code += "}";
-		return code;
 	}
 
 	private String getFirstPackageNamePart(String s) {
@@ -285,98 +291,54 @@ public class ModelToJavaSourceCodeConverter {
 		if (insm == null) {
 			return null;
 		}
-		String code = "";
-		PackageSourceModel psm = insm.getPackageModel();
-		if (psm != null) {
-			code += "package " + psm.getPackageName() + ";\n\n";
-		}
-		String importStart = "";
-		if (!insm.getImports().isEmpty()) {
-			for (ImportSourceModel ism : insm.getImports()) {
-				String packageName = ism.getPackageModel().getPackageName();
-				if (!importStart.equals(getFirstPackageNamePart(packageName))) {
-					if (!importStart.isEmpty()) {
-						code += "\n";
-					}
-					importStart = getFirstPackageNamePart(packageName);
-				}
-				code += "import " + ism.getPackageModel().getPackageName() + ".";
-				if (ism.getClassName() != null) {
-					code += ism.getClassName();
-				} else {
-					code += "*";
-				}
-				code += ";\n";
-			}
-			code += "\n";
+		StringBuilder code = new StringBuilder(estimateCodeLength(insm.getMethods(), List.of()));
+		try {
+			writeInterfaceSourceModel(insm, code);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
+		return code.toString();
+	}
+
+	/**
+	 * Writes the Java source code of the passed interface source model to the passed appendable (e. g. a writer).
+	 * 
+	 * @param insm The interface source model to convert.
+	 * @param out  The appendable which the Java source code is written to.
+	 * @throws IOException If an error occurs while writing to the appendable.
+	 */
+	public void writeInterfaceSourceModel(InterfaceSourceModel insm, Appendable out) throws IOException {
+		writePackageAndImports(insm.getPackageModel(), insm.getImports(), out);
 		if (insm.getComment() != null) {
-			code += insm.getComment().getComment();
+			out.append(insm.getComment().getComment());
 		}
 		for (AnnotationSourceModel asm : insm.getAnnotations()) {
-			code += "@" + asm.getName();
-			if (!asm.getProperties().isEmpty()) {
-				code += "(";
-				boolean first = true;
-				for (PropertySourceModel<?> prosm : asm.getProperties()) {
-					if (!first) {
-						code += ", ";
-					}
-					code += prosm.getName() + " = " + getJavaConstantValue(prosm);
-					first = false;
-				}
-				code += ")";
-			}
-			code += "\n";
+			out.append("@").append(asm.getName());
+			writeProperties(asm, out);
+			out.append("\n");
 		}
-		code += "public interface " + insm.getName() + createExtendsStatement(insm.getExtendsModel()) + " {\n";
+		out.append("public interface ").append(insm.getName()).append(createExtendsStatement(insm.getExtendsModel()))
+				.append(" {\n");
 		boolean hasMethod = false;
 		for (MethodSourceModel method : insm.getMethods()) {
 			if (!hasMethod) {
-				code += "\n";
+				out.append("\n");
 			}
 			for (AnnotationSourceModel asm : method.getAnnotations()) {
-				code += "\t@" + asm.getName();
-				if (!asm.getProperties().isEmpty()) {
-					code += "(";
-					boolean first = true;
-					for (PropertySourceModel<?> prosm : asm.getProperties()) {
-						if (!first) {
-							code += ", ";
-						}
-						code += prosm.getName() + " = " + getJavaConstantValue(prosm);
-						first = false;
-					}
-					code += ")";
-				} else if (asm.getValue() != null) {
-					code += "(" + getJavaConstantValue(asm) + ")";
+				out.append("\t@").append(asm.getName());
+				if (!writeProperties(asm, out) && (asm.getValue() != null)) {
+					out.append("(").append(getJavaConstantValue(asm)).append(")");
 				}
-				code += "\n";
+				out.append("\n");
 			}
-			code += "\t" + method.getReturnType() + " " + method.getName() + "(";
+			out.append("\t").append(method.getReturnType()).append(" ").append(method.getName()).append("(");
 			hasMethod = true;
-			String paramStr = "";
-			for (ParameterSourceModel param : method.getParameters()) {
-				if (!paramStr.isEmpty()) {
-					paramStr += ", ";
-				}
-				paramStr += param.getType() + " " + param.getName();
-			}
-			code += paramStr;
-			code += ")";
-			String thrownExceptions = "";
-			for (ThrownExceptionSourceModel e : method.getThrownExceptions()) {
-				if (!thrownExceptions.isEmpty()) {
-					thrownExceptions += ", ";
-				} else {
-					thrownExceptions += " throws ";
-				}
-				thrownExceptions += e.getName();
-			}
-			code += thrownExceptions + ";\n\n";
+			writeParameters(method.getParameters(), out);
+			out.append(")");
+			writeThrownExceptions(method.getThrownExceptions(), out);
+			out.append(";\n\n");
 		}
-		code += "}";
-		return code;
+		out.append("}");
 	}
 
 }
\ No newline at end of file
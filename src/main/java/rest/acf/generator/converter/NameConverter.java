@@ -121,6 +121,47 @@ public class NameConverter {
 		return "set" + this.firstCharToUpperCase(this.columnNameToAttributeName(column));
 	}
 
+	/**
+	 * Returns the name of the attribute which carries the key of the object referenced by the passed column (e. g.
+	 * "rackId" for a column "RACK").
+	 * 
+	 * @param column The referencing column service object whose reference id attribute name is to return.
+	 * @return The name of the reference id attribute or a "null" value if a "null" value is passed.
+	 */
+	public String getReferenceIdAttributeName(ColumnSO column) {
+		if (column == null) {
+			return null;
+		}
+		String attributeName = this.columnNameToAttributeName(column);
+		return attributeName.endsWith("Id") ? attributeName : attributeName + "Id";
+	}
+
+	/**
+	 * Returns the getter name of the reference id attribute for the passed column service object.
+	 * 
+	 * @param column The referencing column service object whose reference id getter name is to return.
+	 * @return The getter name of the reference id attribute or a "null" value if a "null" value is passed.
+	 */
+	public String getReferenceIdGetterName(ColumnSO column) {
+		if (column == null) {
+			return null;
+		}
+		return "get" + this.firstCharToUpperCase(this.getReferenceIdAttributeName(column));
+	}
+
+	/**
+	 * Returns the setter name of the reference id attribute for the passed column service object.
+	 * 
+	 * @param column The referencing column service object whose reference id setter name is to return.
+	 * @return The setter name of the reference id attribute or a "null" value if a "null" value is passed.
+	 */
+	public String getReferenceIdSetterName(ColumnSO column) {
+		if (column == null) {
+			return null;
+		}
+		return "set" + this.firstCharToUpperCase(this.getReferenceIdAttributeName(column));
+	}
+
 	/**
 	 * Returns a plural name for the passed table with a starting uppercase letter.
 	 * 
@@ -316,6 +357,20 @@ public class NameConverter {
 		return getClassName(tableSO) + "Repository";
 	}
 
+	/**
+	 * Converts the name of the passed table service object into the value of the "table" tag of the metrics.
+	 * 
+	 * @param tableSO The table service object whose name is to convert into a metrics tag value.
+	 * @return The metrics tag value for the passed table service object. Passing a "null" value delivers a "null"
+	 *         value also.
+	 */
+	public String tableNameToMetricsTagValue(TableSO tableSO) {
+		if (tableSO == null) {
+			return null;
+		}
+		return classNameToAttrName(getClassName(tableSO));
+	}
+
 	/**
 	 * Converts the name of the passed table service object into a REST controller class name.
 	 * 
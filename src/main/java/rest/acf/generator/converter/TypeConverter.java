@@ -83,6 +83,8 @@ public class TypeConverter {
 			return "CHAR" + (typeSO.getLength() != null ? "(" + typeSO.getLength() + ")" : "");
 		} else if (typeSO.getSqlType() == Types.INTEGER) {
 			return "INT";
+		} else if (typeSO.getSqlType() == Types.TIMESTAMP) {
+			return "TIMESTAMP";
 		} else if (typeSO.getSqlType() == Types.VARCHAR) {
 			return "VARCHAR" + (typeSO.getLength() != null ? "(" + typeSO.getLength() + ")" : "");
 		}
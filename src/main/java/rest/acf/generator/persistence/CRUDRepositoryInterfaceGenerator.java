@@ -10,10 +10,13 @@ import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
 import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.InterfaceCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationSourceModel;
+import rest.acf.model.AnnotationValue;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ExtensionSourceModel;
 import rest.acf.model.InterfaceSourceModel;
@@ -27,10 +30,12 @@ import rest.acf.model.ParameterSourceModel;
  * @author ollie
  *
  */
-public class CRUDRepositoryInterfaceGenerator {
+public class CRUDRepositoryInterfaceGenerator implements InterfaceCodeFactory {
 
 	private static final Logger LOG = Logger.getLogger(CRUDRepositoryInterfaceGenerator.class);
 
+	private static final int EXPORT_FETCH_SIZE = 1000;
+
 	private final ClassSourceModelUtils classSourceModelUtils;
 	private final DatabaseSO databaseSO;
 	private final NameConverter nameConverter;
@@ -52,6 +57,7 @@ public class CRUDRepositoryInterfaceGenerator {
 	 * @param authorName The name which should be inserted as author name.
 	 * @returns A CRUD repository interface for passed database table or a "null" value if a "null" value is passed.
 	 */
+	@Override
 	public InterfaceSourceModel generate(TableSO tableSO, String authorName) {
 		if (tableSO == null) {
 			return null;
@@ -66,7 +72,7 @@ public class CRUDRepositoryInterfaceGenerator {
 		InterfaceSourceModel ism = this.classSourceModelUtils.createCRUDRepitoryInterfaceSourceModel(tableSO);
 		ism.setPackageModel(new PackageSourceModel().setPackageName(
 				"${base.package.name}." + this.classSourceModelUtils.createCRUDRepositoryPackageNameSuffix()));
-		this.classSourceModelUtils.addImport(ism, "org.springframework.data.repository", "CrudRepository");
+		this.classSourceModelUtils.addImport(ism, "org.springframework.data.repository", "PagingAndSortingRepository");
 		this.classSourceModelUtils.addImport(ism, "org.springframework.stereotype", "Repository");
 		this.classSourceModelUtils.addImport(ism, "${base.package.name}." + jpaModelPackageName, dboClassName);
 		this.classSourceModelUtils.addAnnotation(ism, "Repository");
@@ -77,15 +83,53 @@ public class CRUDRepositoryInterfaceGenerator {
 				+ " *\n" //
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
-		String parentClassName = "CrudRepository<" + dboClassName + ", "
+		String parentClassName = "PagingAndSortingRepository<" + dboClassName + ", "
 				+ this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(), true) + ">";
 		ism.setExtendsModel(new ExtensionSourceModel().setParentClassName(parentClassName));
+		this.classSourceModelUtils.addImport(ism, "java.util", "List");
+		this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "Modifying");
+		this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "Query");
+		this.classSourceModelUtils.addImport(ism, "org.springframework.transaction.annotation", "Transactional");
+		ism.getMethods().add(createDeleteWithId(pkMembers.get(0), tableSO));
+		ism.getMethods().add(createDeleteWithIds(pkMembers.get(0), tableSO));
+		List<String> fetchPaths = getFetchPaths(tableSO);
+		if (this.classSourceModelUtils.isOptionSet(tableSO, Options.CACHE)) {
+			this.classSourceModelUtils.addImport(ism, "javax.persistence", "QueryHint");
+			this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "QueryHints");
+		}
+		if (!fetchPaths.isEmpty() || this.classSourceModelUtils.isOptionSet(tableSO, Options.CACHE)) {
+			this.classSourceModelUtils.addImport(ism, "org.springframework.data.domain", "Page");
+			this.classSourceModelUtils.addImport(ism, "org.springframework.data.domain", "Pageable");
+			ism.getMethods().add(createFindAll(tableSO, dboClassName, fetchPaths));
+		}
+		if (!fetchPaths.isEmpty()) {
+			this.classSourceModelUtils.addImport(ism, "java.util", "Optional");
+			if (isEntityGraph(tableSO)) {
+				this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "EntityGraph");
+			}
+			ism.getMethods().add(createFindById(pkMembers.get(0), tableSO, dboClassName, fetchPaths));
+		}
 		this.classSourceModelUtils.getReferencedColumns(tableSO, this.databaseSO) //
 				.forEach(columnSO -> {
-					this.classSourceModelUtils.addImport(ism, "java.util", "List");
+					this.classSourceModelUtils.addImport(ism, "org.springframework.data.domain", "Page");
+					this.classSourceModelUtils.addImport(ism, "org.springframework.data.domain", "Pageable");
 					this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "Query");
-					ism.getMethods().add(createFindXByY(columnSO, tableSO, dboClassName));
+					ism.getMethods().add(createFindXByY(columnSO, tableSO, dboClassName, fetchPaths));
 				});
+		if (this.classSourceModelUtils.isKeysetPaginated(this.databaseSO, tableSO)) {
+			this.classSourceModelUtils.addImport(ism, "java.util", "List");
+			this.classSourceModelUtils.addImport(ism, "org.springframework.data.domain", "Pageable");
+			this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "Query");
+			ism.getMethods().add(createFindAllAfter(this.classSourceModelUtils.getKeysetColumn(tableSO).get(), tableSO,
+					dboClassName, fetchPaths));
+		}
+		if (this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT)) {
+			this.classSourceModelUtils.addImport(ism, "java.util.stream", "Stream");
+			this.classSourceModelUtils.addImport(ism, "javax.persistence", "QueryHint");
+			this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "Query");
+			this.classSourceModelUtils.addImport(ism, "org.springframework.data.jpa.repository", "QueryHints");
+			ism.getMethods().add(createStreamAll(tableSO, dboClassName, fetchPaths));
+		}
 		return ism;
 	}
 
@@ -99,20 +143,184 @@ public class CRUDRepositoryInterfaceGenerator {
 		return pkMembers;
 	}
 
-	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String dboClassName) {
+	private MethodSourceModel createDeleteWithId(ColumnSO pkColumnSO, TableSO tableSO) {
 		String letter = this.nameConverter.getSingularName(tableSO).substring(0, 1).toLowerCase();
 		return new MethodSourceModel() //
-				.addAnnotations(new AnnotationSourceModel().setName("Query").setValue("SELECT " + letter //
-						+ " FROM " + this.nameConverter.getSingularName(tableSO) + " " + letter //
-						+ " WHERE " + letter + "."
-						+ this.nameConverter.columnNameToAttributeName(getReferencingColum(columnSO, tableSO)) + "."
-						+ this.nameConverter.columnNameToAttributeName(columnSO) + "=?1")) //
+				.addAnnotations(new AnnotationSourceModel().setName("Modifying"), //
+						new AnnotationSourceModel().setName("Query").setValue("DELETE FROM " //
+								+ this.nameConverter.getSingularName(tableSO) + " " + letter + " WHERE " + letter + "."
+								+ this.nameConverter.columnNameToAttributeName(pkColumnSO) + "=?1"), //
+						new AnnotationSourceModel().setName("Transactional")) //
+				.setName("deleteWithId") //
+				.setReturnType("int") //
+				.addParameters(new ParameterSourceModel() //
+						.setName(this.nameConverter.columnNameToAttributeName(pkColumnSO)) //
+						.setType(this.typeConverter.typeSOToTypeString(pkColumnSO.getType(), pkColumnSO.isNullable())));
+	}
+
+	private MethodSourceModel createDeleteWithIds(ColumnSO pkColumnSO, TableSO tableSO) {
+		String letter = this.nameConverter.getSingularName(tableSO).substring(0, 1).toLowerCase();
+		return new MethodSourceModel() //
+				.addAnnotations(new AnnotationSourceModel().setName("Modifying"), //
+						new AnnotationSourceModel().setName("Query").setValue("DELETE FROM " //
+								+ this.nameConverter.getSingularName(tableSO) + " " + letter + " WHERE " + letter + "."
+								+ this.nameConverter.columnNameToAttributeName(pkColumnSO) + " IN ?1"), //
+						new AnnotationSourceModel().setName("Transactional")) //
+				.setName("deleteWithIds") //
+				.setReturnType("int") //
+				.addParameters(new ParameterSourceModel() //
+						.setName(this.nameConverter.columnNameToAttributeName(pkColumnSO) + "s") //
+						.setType("List<" + this.typeConverter.typeSOToTypeString(pkColumnSO.getType(), true) + ">"));
+	}
+
+	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String dboClassName,
+			List<String> fetchPaths) {
+		String letter = this.nameConverter.getSingularName(tableSO).substring(0, 1).toLowerCase();
+		String from = " FROM " + this.nameConverter.getSingularName(tableSO) + " " + letter;
+		String where = " WHERE " + letter + "."
+				+ this.nameConverter.columnNameToAttributeName(getReferencingColum(columnSO, tableSO)) + "."
+				+ this.nameConverter.columnNameToAttributeName(columnSO) + "=?1";
+		MethodSourceModel method = new MethodSourceModel() //
 				.setName("find" + this.nameConverter.getPluralName(tableSO) + "For"
 						+ this.nameConverter.getSingularName(columnSO.getTable())) //
-				.setReturnType("List<" + dboClassName + ">") //
+				.setReturnType("Page<" + dboClassName + ">") //
 				.addParameters(new ParameterSourceModel() //
 						.setName(this.nameConverter.columnNameToAttributeName(columnSO, true)) //
-						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable())));
+						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable())), //
+						new ParameterSourceModel().setName("pageable").setType("Pageable"));
+		addEntityGraph(method, tableSO, fetchPaths);
+		this.classSourceModelUtils.addAnnotation(method, "Query", "value",
+				"SELECT " + letter + from + getJoinFetches(tableSO, letter, fetchPaths) + where, "countQuery",
+				"SELECT COUNT(" + letter + ")" + from + where);
+		addCacheableHint(method, tableSO);
+		return method;
+	}
+
+	private MethodSourceModel createFindAllAfter(ColumnSO pkColumnSO, TableSO tableSO, String dboClassName,
+			List<String> fetchPaths) {
+		String letter = this.nameConverter.getSingularName(tableSO).substring(0, 1).toLowerCase();
+		String pkAttrName = this.nameConverter.columnNameToAttributeName(pkColumnSO);
+		MethodSourceModel method = new MethodSourceModel();
+		addEntityGraph(method, tableSO, fetchPaths);
+		method.addAnnotations(new AnnotationSourceModel().setName("Query").setValue("SELECT " + letter //
+				+ " FROM " + this.nameConverter.getSingularName(tableSO) + " " + letter //
+				+ getJoinFetches(tableSO, letter, fetchPaths) //
+				+ " WHERE " + letter + "." + pkAttrName + ">?1 ORDER BY " + letter + "." + pkAttrName)) //
+				.setName("findAllAfter") //
+				.setReturnType("List<" + dboClassName + ">") //
+				.addParameters(
+						new ParameterSourceModel().setName("after")
+								.setType(this.classSourceModelUtils.getKeysetType(tableSO)), //
+						new ParameterSourceModel().setName("pageable").setType("Pageable"));
+		addCacheableHint(method, tableSO);
+		return method;
+	}
+
+	/**
+	 * Creates an override of the inherited "findAll(Pageable)" method which fetches the references of the table in the
+	 * same statement and/or uses the query cache.
+	 */
+	private MethodSourceModel createFindAll(TableSO tableSO, String dboClassName, List<String> fetchPaths) {
+		String letter = this.nameConverter.getSingularName(tableSO).substring(0, 1).toLowerCase();
+		String from = " FROM " + this.nameConverter.getSingularName(tableSO) + " " + letter;
+		MethodSourceModel method = new MethodSourceModel() //
+				.setName("findAll") //
+				.setReturnType("Page<" + dboClassName + ">") //
+				.addParameters(new ParameterSourceModel().setName("pageable").setType("Pageable"));
+		addEntityGraph(method, tableSO, fetchPaths);
+		if (!fetchPaths.isEmpty() && !isEntityGraph(tableSO)) {
+			this.classSourceModelUtils.addAnnotation(method, "Query", "value",
+					"SELECT " + letter + from + getJoinFetches(tableSO, letter, fetchPaths), "countQuery",
+					"SELECT COUNT(" + letter + ")" + from);
+		}
+		addCacheableHint(method, tableSO);
+		return method;
+	}
+
+	/**
+	 * Creates an override of the inherited "findById" method which fetches the references of the table in the same
+	 * statement.
+	 */
+	private MethodSourceModel createFindById(ColumnSO pkColumnSO, TableSO tableSO, String dboClassName,
+			List<String> fetchPaths) {
+		String letter = this.nameConverter.getSingularName(tableSO).substring(0, 1).toLowerCase();
+		MethodSourceModel method = new MethodSourceModel() //
+				.setName("findById") //
+				.setReturnType("Optional<" + dboClassName + ">") //
+				.addParameters(new ParameterSourceModel() //
+						.setName(this.nameConverter.columnNameToAttributeName(pkColumnSO)) //
+						.setType(this.typeConverter.typeSOToTypeString(pkColumnSO.getType(), true)));
+		addEntityGraph(method, tableSO, fetchPaths);
+		if (!isEntityGraph(tableSO)) {
+			method.addAnnotations(new AnnotationSourceModel().setName("Query").setValue("SELECT " + letter //
+					+ " FROM " + this.nameConverter.getSingularName(tableSO) + " " + letter //
+					+ getJoinFetches(tableSO, letter, fetchPaths) //
+					+ " WHERE " + letter + "." + this.nameConverter.columnNameToAttributeName(pkColumnSO) + "=?1"));
+			addCacheableHint(method, tableSO);
+		}
+		return method;
+	}
+
+	/**
+	 * Creates a method which streams all rows of the table. The fetch size hint makes the JDBC driver read the rows in
+	 * chunks instead of loading the whole result set.
+	 */
+	private MethodSourceModel createStreamAll(TableSO tableSO, String dboClassName, List<String> fetchPaths) {
+		String letter = this.nameConverter.getSingularName(tableSO).substring(0, 1).toLowerCase();
+		MethodSourceModel method = new MethodSourceModel();
+		addEntityGraph(method, tableSO, fetchPaths);
+		method.addAnnotations(new AnnotationSourceModel().setName("Query").setValue("SELECT " + letter //
+				+ " FROM " + this.nameConverter.getSingularName(tableSO) + " " + letter //
+				+ getJoinFetches(tableSO, letter, fetchPaths))) //
+				.setName("streamAll") //
+				.setReturnType("Stream<" + dboClassName + ">");
+		this.classSourceModelUtils.addAnnotation(method, "QueryHints", "value", new AnnotationValue().setQuoted(false)
+				.setValue("@QueryHint(name = \"org.hibernate.fetchSize\", value = \"" + EXPORT_FETCH_SIZE + "\")"));
+		return method;
+	}
+
+	/**
+	 * Returns the names of the attributes which reference other entities, if the references of the table are fetched
+	 * lazily. Otherwise the returned list is empty.
+	 */
+	private List<String> getFetchPaths(TableSO tableSO) {
+		List<String> fetchPaths = new ArrayList<>();
+		if (this.classSourceModelUtils.isLazyFetched(tableSO)) {
+			for (ForeignKeySO foreignKey : tableSO.getForeignKeys()) {
+				if (foreignKey.getReferences().size() == 1) {
+					fetchPaths.add(this.nameConverter
+							.columnNameToAttributeName(foreignKey.getReferences().get(0).getReferencingColumn()));
+				}
+			}
+		}
+		return fetchPaths;
+	}
+
+	private boolean isEntityGraph(TableSO tableSO) {
+		return Options.FETCH_STRATEGY_ENTITY_GRAPH.equalsIgnoreCase(
+				this.classSourceModelUtils.getTableOptionValue(tableSO, Options.FETCH_STRATEGY, ""));
+	}
+
+	private void addEntityGraph(MethodSourceModel method, TableSO tableSO, List<String> fetchPaths) {
+		if (!fetchPaths.isEmpty() && isEntityGraph(tableSO)) {
+			this.classSourceModelUtils.addAnnotation(method, "EntityGraph", "attributePaths", new AnnotationValue()
+					.setQuoted(false).setValue("{ \"" + String.join("\", \"", fetchPaths) + "\" }"));
+		}
+	}
+
+	private void addCacheableHint(MethodSourceModel method, TableSO tableSO) {
+		if (this.classSourceModelUtils.isOptionSet(tableSO, Options.CACHE)) {
+			this.classSourceModelUtils.addAnnotation(method, "QueryHints", "value", new AnnotationValue()
+					.setQuoted(false).setValue("@QueryHint(name = \"org.hibernate.cacheable\", value = \"true\")"));
+		}
+	}
+
+	private String getJoinFetches(TableSO tableSO, String letter, List<String> fetchPaths) {
+		StringBuilder joins = new StringBuilder();
+		if (!isEntityGraph(tableSO)) {
+			fetchPaths.forEach(path -> joins.append(" LEFT JOIN FETCH ").append(letter).append(".").append(path));
+		}
+		return joins.toString();
 	}
 
 	private ColumnSO getReferencingColum(ColumnSO columnSO, TableSO tableSO) {
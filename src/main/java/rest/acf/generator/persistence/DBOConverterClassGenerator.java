@@ -66,13 +66,15 @@ public class DBOConverterClassGenerator implements ClassCodeFactory {
 				.setReturnType(soClassName) //
 				.setName("convertDBOToSO") //
 				.setParameters(Arrays.asList(new ParameterSourceModel().setName("dbo").setType(dboClassName))) //
-				.setCode(createConvertDBOToSO(tableSO.getColumns(), soClassName, csm)));
+				.setCode(createConvertDBOToSO(this.classSourceModelUtils.getPersistentColumns(tableSO), soClassName,
+						csm)));
 		csm.getMethods().add(new MethodSourceModel() //
 				.addModifiers(ModifierSourceModel.PUBLIC) //
 				.setReturnType(dboClassName) //
 				.setName("convertSOToDBO") //
 				.setParameters(Arrays.asList(new ParameterSourceModel().setName("so").setType(soClassName))) //
-				.setCode(createConvertSOToDBO(tableSO.getColumns(), dboClassName, csm)));
+				.setCode(createConvertSOToDBO(this.classSourceModelUtils.getPersistentColumns(tableSO), dboClassName,
+						csm)));
 		return csm;
 	}
 
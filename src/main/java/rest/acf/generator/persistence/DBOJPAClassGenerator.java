@@ -1,12 +1,14 @@
 package rest.acf.generator.persistence;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import rest.acf.ClassCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationValue;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ClassSourceModel;
@@ -21,14 +23,21 @@ import rest.acf.model.PackageSourceModel;
  */
 public class DBOJPAClassGenerator implements ClassCodeFactory {
 
+	/**
+	 * The allocation size of the sequence generators if the option SEQUENCE_ALLOCATION_SIZE is set without a size.
+	 */
+	public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
 	private final ClassSourceModelUtils classSourceModelUtils;
+	private final DatabaseSO databaseSO;
 	private final NameConverter nameConverter;
 	private final TypeConverter typeConverter;
 
 	public DBOJPAClassGenerator(ClassSourceModelUtils classSourceModelUtils, NameConverter nameConverter,
-			TypeConverter typeConverter) {
+			TypeConverter typeConverter, DatabaseSO databaseSO) {
 		super();
 		this.classSourceModelUtils = classSourceModelUtils;
+		this.databaseSO = databaseSO;
 		this.nameConverter = nameConverter;
 		this.typeConverter = typeConverter;
 	}
@@ -41,14 +50,38 @@ public class DBOJPAClassGenerator implements ClassCodeFactory {
 		ClassSourceModel csm = this.classSourceModelUtils.createJPAModelClassSourceModel(tableSO);
 		csm.setPackageModel(new PackageSourceModel().setPackageName(
 				"${base.package.name}." + this.classSourceModelUtils.createJPAModelPackageNameSuffix()));
+		boolean cached = this.classSourceModelUtils.isOptionSet(tableSO, Options.CACHE);
+		if (cached) {
+			this.classSourceModelUtils.addImport(csm, "javax.persistence", "Cacheable");
+		}
 		this.classSourceModelUtils.addImport(csm, "javax.persistence", "Column");
 		this.classSourceModelUtils.addImport(csm, "javax.persistence", "Entity");
+		boolean lazy = this.classSourceModelUtils.isLazyFetched(tableSO)
+				&& tableSO.getForeignKeys().stream().anyMatch(fk -> fk.getReferences().size() == 1);
+		if (lazy) {
+			this.classSourceModelUtils.addImport(csm, "javax.persistence", "FetchType");
+		}
 		this.classSourceModelUtils.addImport(csm, "javax.persistence", "GeneratedValue");
 		this.classSourceModelUtils.addImport(csm, "javax.persistence", "GenerationType");
 		this.classSourceModelUtils.addImport(csm, "javax.persistence", "Id");
+		boolean sequenceGenerator = this.classSourceModelUtils.isOptionSet(this.databaseSO,
+				Options.SEQUENCE_ALLOCATION_SIZE);
+		if (sequenceGenerator) {
+			this.classSourceModelUtils.addImport(csm, "javax.persistence", "SequenceGenerator");
+		}
 		this.classSourceModelUtils.addImport(csm, "javax.persistence", "Table");
+		if (this.classSourceModelUtils.isOptionSet(tableSO, Options.OPTIMISTIC_LOCKING)) {
+			this.classSourceModelUtils.addImport(csm, "javax.persistence", "Version");
+		}
 		this.classSourceModelUtils.addImport(csm, "lombok", "Data");
 		this.classSourceModelUtils.addImport(csm, "lombok.experimental", "Accessors");
+		if (cached) {
+			this.classSourceModelUtils.addImport(csm, "org.hibernate.annotations", "Cache");
+			this.classSourceModelUtils.addImport(csm, "org.hibernate.annotations", "CacheConcurrencyStrategy");
+		}
+		if (this.classSourceModelUtils.getUpdatedAtColumn(tableSO).isPresent()) {
+			this.classSourceModelUtils.addImport(csm, "org.hibernate.annotations", "UpdateTimestamp");
+		}
 		this.classSourceModelUtils.addAnnotation(csm, "Accessors", "chain",
 				new AnnotationValue().setQuoted(false).setValue("true"));
 		this.classSourceModelUtils.addAnnotation(csm, "Data");
@@ -56,6 +89,12 @@ public class DBOJPAClassGenerator implements ClassCodeFactory {
 				new AnnotationValue().setQuoted(true).setValue(csm.getName().replace("DBO", "")));
 		this.classSourceModelUtils.addAnnotation(csm, "Table", "name",
 				new AnnotationValue().setQuoted(true).setValue(tableSO.getName()));
+		if (cached) {
+			this.classSourceModelUtils.addAnnotation(csm, "Cacheable");
+			String strategy = this.classSourceModelUtils.getCacheConcurrencyStrategy(tableSO);
+			this.classSourceModelUtils.addAnnotation(csm, "Cache", "usage",
+					new AnnotationValue().setQuoted(false).setValue("CacheConcurrencyStrategy." + strategy));
+		}
 		csm.setComment(new ClassCommentSourceModel().setComment("/**\n" //
 				+ " * A ORM mapping and database access class for " + tableSO.getName().toLowerCase() + "s.\n" //
 				+ " *\n" //
@@ -63,25 +102,49 @@ public class DBOJPAClassGenerator implements ClassCodeFactory {
 				+ " *\n" //
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
-		for (ColumnSO column : tableSO.getColumns()) {
+		for (ColumnSO column : this.classSourceModelUtils.getPersistentColumns(tableSO)) {
 			this.classSourceModelUtils
 					.addAttributeForColumn(csm, column, t -> this.nameConverter.tableNameToDBOClassName(t))
 					.ifPresent(asm -> {
 						if (column.isPkMember()) {
+							String sequenceName = tableSO.getName() + "_IDS";
 							this.classSourceModelUtils.addAnnotation(asm, "Id");
-							this.classSourceModelUtils.addAnnotation(asm, "GeneratedValue", "strategy",
-									new AnnotationValue().setValue("GenerationType.AUTO").setQuoted(false), "generator",
-									tableSO.getName() + "_IDS");
+							if (sequenceGenerator) {
+								this.classSourceModelUtils.addAnnotation(asm, "GeneratedValue", "strategy",
+										new AnnotationValue().setValue("GenerationType.SEQUENCE").setQuoted(false),
+										"generator", sequenceName);
+								this.classSourceModelUtils.addAnnotation(asm, "SequenceGenerator", "name",
+										sequenceName, "sequenceName", sequenceName, "allocationSize",
+										new AnnotationValue().setQuoted(false)
+												.setValue(String.valueOf(this.classSourceModelUtils.getIntOptionValue(
+														this.databaseSO, Options.SEQUENCE_ALLOCATION_SIZE,
+														DEFAULT_ALLOCATION_SIZE))));
+							} else {
+								this.classSourceModelUtils.addAnnotation(asm, "GeneratedValue", "strategy",
+										new AnnotationValue().setValue("GenerationType.AUTO").setQuoted(false),
+										"generator", sequenceName);
+							}
 						}
 						ForeignKeySO[] foreignKeys = this.classSourceModelUtils.getForeignkeyByColumn(column);
 						if ((foreignKeys.length == 1) && (foreignKeys[0].getReferences().size() == 1)) {
-							this.classSourceModelUtils.addAnnotation(asm, "ManyToOne");
+							if (lazy) {
+								this.classSourceModelUtils.addAnnotation(asm, "ManyToOne", "fetch",
+										new AnnotationValue().setQuoted(false).setValue("FetchType.LAZY"));
+							} else {
+								this.classSourceModelUtils.addAnnotation(asm, "ManyToOne");
+							}
 							this.classSourceModelUtils.addAnnotation(asm, "JoinColumn", "name", column.getName(),
 									"referencedColumnName",
 									foreignKeys[0].getReferences().get(0).getReferencedColumn().getName());
 						} else {
 							this.classSourceModelUtils.addAnnotation(asm, "Column", "name", column.getName());
 						}
+						if (this.classSourceModelUtils.isUpdatedAtColumn(column)) {
+							this.classSourceModelUtils.addAnnotation(asm, "UpdateTimestamp");
+						}
+						if (this.classSourceModelUtils.isVersionColumn(column)) {
+							this.classSourceModelUtils.addAnnotation(asm, "Version");
+						}
 						asm.getModifiers().add(ModifierSourceModel.PRIVATE);
 					});
 		}
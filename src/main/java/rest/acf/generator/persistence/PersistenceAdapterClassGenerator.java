@@ -3,6 +3,7 @@ package rest.acf.generator.persistence;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
 
@@ -13,7 +14,9 @@ import rest.acf.ClassCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationSourceModel;
+import rest.acf.model.AnnotationValue;
 import rest.acf.model.AttributeSourceModel;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ClassSourceModel;
@@ -35,6 +38,8 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 
 	private static final Logger LOG = Logger.getLogger(PersistenceAdapterClassGenerator.class);
 
+	private static final int DEFAULT_DELETE_CHUNK_SIZE = 1000;
+
 	private final ClassSourceModelUtils classSourceModelUtils;
 	private final DatabaseSO databaseSO;
 	private final NameConverter nameConverter;
@@ -63,6 +68,7 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 		String pkGetterName = this.nameConverter.getGetterName(pkMembers.get(0));
 		String pkClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(),
 				pkMembers.get(0).isNullable());
+		String pkObjectClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(), true);
 		String dboClassName = this.classSourceModelUtils.createJPAModelClassSourceModel(tableSO).getName();
 		String dboConverterClassName = this.classSourceModelUtils.createDBOConverterClassSourceModel(tableSO).getName();
 		String persistenceExceptionClassName = this.classSourceModelUtils.createPersistenceExceptionClassSourceModel()
@@ -74,6 +80,8 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 		String repositoryClassName = this.classSourceModelUtils.createCRUDRepitoryInterfaceSourceModel(tableSO)
 				.getName();
 		String soClassName = this.classSourceModelUtils.createSOClassSourceModel(tableSO).getName();
+		String resultPageClassName = this.classSourceModelUtils.createResultPageSOClassSourceModel().getName();
+		String resultPageClassPackageName = this.classSourceModelUtils.createResultPageSOClassPackageNameSuffix();
 		String dboPackageName = this.classSourceModelUtils.createJPAModelPackageNameSuffix();
 		String dboConverterPackageName = this.classSourceModelUtils.createDBOConverterPackageNameSuffix();
 		String persistencePortPackageName = this.classSourceModelUtils.createPersistencePortPackageNameSuffix();
@@ -85,7 +93,35 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 		this.classSourceModelUtils.addImport(csm, "java.util", "ArrayList");
 		this.classSourceModelUtils.addImport(csm, "java.util", "List");
 		this.classSourceModelUtils.addImport(csm, "java.util", "Optional");
+		this.classSourceModelUtils.addImport(csm, "java.util", "Set");
+		boolean ndjsonExport = this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT);
+		boolean versioned = this.classSourceModelUtils.isOptionSet(tableSO, Options.OPTIMISTIC_LOCKING);
+		boolean metrics = this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.METRICS);
+		if (ndjsonExport) {
+			this.classSourceModelUtils.addImport(csm, "java.util.function", "Consumer");
+			this.classSourceModelUtils.addImport(csm, "java.util.stream", "Stream");
+		}
+		if (ndjsonExport || versioned) {
+			this.classSourceModelUtils.addImport(csm, "javax.persistence", "EntityManager");
+		}
+		if (versioned) {
+			this.classSourceModelUtils.addImport(csm, "javax.persistence", "OptimisticLockException");
+		}
+		if (ndjsonExport || versioned) {
+			this.classSourceModelUtils.addImport(csm, "javax.persistence", "PersistenceContext");
+		}
+		if (versioned) {
+			this.classSourceModelUtils.addImport(csm, "org.springframework.dao", "OptimisticLockingFailureException");
+		}
+		this.classSourceModelUtils.addImport(csm, "org.springframework.data.domain", "Page");
+		this.classSourceModelUtils.addImport(csm, "org.springframework.data.domain", "PageRequest");
+		this.classSourceModelUtils.addImport(csm, "org.springframework.data.domain", "Sort");
 		this.classSourceModelUtils.addImport(csm, "org.springframework.stereotype", "Service");
+		this.classSourceModelUtils.addImport(csm, "org.springframework.transaction.annotation", "Transactional");
+		if (metrics) {
+			this.classSourceModelUtils.addImport(csm, "io.micrometer.core.instrument", "MeterRegistry");
+			this.classSourceModelUtils.addImport(csm, "io.micrometer.core.instrument", "Timer");
+		}
 		this.classSourceModelUtils.addImport(csm, "${base.package.name}." + dboConverterPackageName,
 				dboConverterClassName);
 		this.classSourceModelUtils.addImport(csm, "${base.package.name}." + dboPackageName, dboClassName);
@@ -95,6 +131,8 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 		this.classSourceModelUtils.addImport(csm, "${base.package.name}." + persistencePortPackageName,
 				persistenceClassName);
 		this.classSourceModelUtils.addImport(csm, "${base.package.name}." + soPackageName, soClassName);
+		this.classSourceModelUtils.addImport(csm, "${base.package.name}." + resultPageClassPackageName,
+				resultPageClassName);
 		this.classSourceModelUtils.addAnnotation(csm, "Service");
 		csm.setComment(new ClassCommentSourceModel().setComment("/**\n" //
 				+ " * An implementation of the " + tableSO.getName().toLowerCase()
@@ -105,6 +143,13 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
 		csm.getInterfaces().add(new ExtensionSourceModel().setParentClassName(persistenceClassName));
+		csm.getAttributes().add(new AttributeSourceModel().setName("DELETE_CHUNK_SIZE").setType("int")
+				.setInitialValue(String.valueOf(this.classSourceModelUtils.getIntOptionValue(this.databaseSO,
+						Options.DELETE_CHUNK_SIZE, DEFAULT_DELETE_CHUNK_SIZE)))
+				.addModifier(ModifierSourceModel.PRIVATE, ModifierSourceModel.STATIC, ModifierSourceModel.FINAL));
+		csm.getAttributes().add(new AttributeSourceModel().setName("SORT_ATTRIBUTE_NAMES").setType("Set<String>")
+				.setInitialValue(getSortAttributeNames(tableSO))
+				.addModifier(ModifierSourceModel.PRIVATE, ModifierSourceModel.STATIC, ModifierSourceModel.FINAL));
 		Optional<AttributeSourceModel> dboConverterAttrOpt = this.classSourceModelUtils.addAttributeForClassName(csm,
 				dboConverterClassName);
 		Optional<AttributeSourceModel> repositoryAttrOpt = this.classSourceModelUtils.addAttributeForClassName(csm,
@@ -124,20 +169,65 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 					.setName(this.nameConverter.classNameToAttrName(repositoryClassName)).setType(repositoryClassName));
 			String code = "\t\tsuper();\n" //
 					+ "\t\tthis." + dboConverterAttrName + " = " + dboConverterAttrName + ";\n" //
-					+ "\t\tthis." + repositoryAttrName + " = " + repositoryAttrName + ";\n" //
-					+ "\t}\n";
-			cosm.setCode(code);
+					+ "\t\tthis." + repositoryAttrName + " = " + repositoryAttrName + ";\n";
+			String meterRegistryAttrName = null;
+			if (metrics) {
+				AttributeSourceModel meterRegistryAttr = this.classSourceModelUtils
+						.addAttributeForClassName(csm, "MeterRegistry").get();
+				meterRegistryAttr.addModifier(ModifierSourceModel.PRIVATE, ModifierSourceModel.FINAL);
+				meterRegistryAttrName = meterRegistryAttr.getName();
+				cosm.getParameters().add(new ParameterSourceModel().setName(meterRegistryAttrName)
+						.setType("MeterRegistry"));
+				code += "\t\tthis." + meterRegistryAttrName + " = " + meterRegistryAttrName + ";\n";
+			}
+			cosm.setCode(code + "\t}\n");
 			csm.getConstructors().add(cosm);
-			csm.getMethods().add(createDelete(dboClassName, pkAttrName, pkClassName, elementName, repositoryAttrName));
-			csm.getMethods().add(createFindAll(soClassName, dboClassName, repositoryAttrName, dboConverterAttrName,
-					elementName + "s"));
+			csm.getMethods().add(createDelete(pkAttrName, pkClassName, elementName, repositoryAttrName));
+			csm.getMethods().add(createDeleteAll(pkObjectClassName, repositoryAttrName, elementName + "s"));
+			String entityManagerAttrName = null;
+			if (ndjsonExport || versioned) {
+				AttributeSourceModel entityManagerAttr = this.classSourceModelUtils
+						.addAttributeForClassName(csm, "EntityManager").get();
+				this.classSourceModelUtils.addAnnotation(entityManagerAttr, "PersistenceContext");
+				entityManagerAttrName = entityManagerAttr.getName();
+			}
+			if (ndjsonExport) {
+				csm.getMethods().add(createExportAll(soClassName, dboClassName, repositoryAttrName,
+						dboConverterAttrName, entityManagerAttrName, elementName + "s"));
+			}
+			String tableTagValue = this.nameConverter.tableNameToMetricsTagValue(tableSO);
+			csm.getMethods().add(createFindAll(resultPageClassName, soClassName, dboClassName, repositoryAttrName,
+					dboConverterAttrName, elementName + "s",
+					getRowsSummaryCode(meterRegistryAttrName, tableTagValue, "findAll")));
+			if (this.classSourceModelUtils.isKeysetPaginated(this.databaseSO, tableSO)) {
+				csm.getMethods().add(createFindAllAfter(soClassName, dboClassName,
+						this.classSourceModelUtils.getKeysetType(tableSO), repositoryAttrName, dboConverterAttrName,
+						elementName + "s",
+						getRowsSummaryCode(meterRegistryAttrName, tableTagValue, "findAllAfter")));
+			}
 			csm.getMethods().add(createFindById(soClassName, dboClassName, pkAttrName, pkClassName, repositoryAttrName,
 					dboConverterAttrName));
+			String flushAttrName = versioned ? entityManagerAttrName : null;
 			csm.getMethods().add(createSave(soClassName, dboClassName, pkClassName, dboConverterAttrName,
-					repositoryAttrName, pkGetterName));
-			this.classSourceModelUtils.getReferencedColumns(tableSO, this.databaseSO) //
-					.forEach(columnSO -> csm.getMethods().add(createFindXByY(columnSO, tableSO, soClassName,
-							dboClassName, repositoryAttrName, dboConverterAttrName)));
+					repositoryAttrName, pkGetterName, flushAttrName));
+			csm.getMethods().add(createSaveAll(soClassName, dboClassName, pkObjectClassName, dboConverterAttrName,
+					repositoryAttrName, pkGetterName, elementName + "s", flushAttrName));
+			for (ColumnSO columnSO : this.classSourceModelUtils.getReferencedColumns(tableSO, this.databaseSO)) {
+				csm.getMethods().add(createFindXByY(columnSO, tableSO, resultPageClassName, soClassName, dboClassName,
+						repositoryAttrName, dboConverterAttrName, meterRegistryAttrName, tableTagValue));
+			}
+			if (metrics) {
+				for (MethodSourceModel method : csm.getMethods()) {
+					this.classSourceModelUtils.addTimer(method, meterRegistryAttrName, "persistence.calls",
+							tableTagValue);
+				}
+			}
+			if (versioned) {
+				csm.getMethods().add(createCheckVersion(soClassName, pkGetterName,
+						pkClassName.equals(pkObjectClassName) ? "null" : "0", this.nameConverter
+								.getGetterName(this.classSourceModelUtils.getVersionColumn(tableSO).get())));
+			}
+			csm.getMethods().add(createCreateSort(pkAttrName));
 		}
 		return csm;
 	}
@@ -152,59 +242,141 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 		return pkMembers;
 	}
 
-	private MethodSourceModel createDelete(String dboClassName, String pkAttrName, String pkClassName,
-			String elementName, String repositoryAttrName) {
+	private MethodSourceModel createDelete(String pkAttrName, String pkClassName, String elementName,
+			String repositoryAttrName) {
 		return new MethodSourceModel().setName("delete") //
 				.addModifiers(ModifierSourceModel.PUBLIC) //
 				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
 				.addParameters(new ParameterSourceModel().setName(pkAttrName).setType(pkClassName)) //
 				.setReturnType("boolean") //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
-				.setCode("\t\tboolean result = false;\n" //
-						+ "\t\ttry {\n" //
-						+ "\t\t\tOptional<" + dboClassName + "> dbo = this." + repositoryAttrName + ".findById(id);\n"
-						+ "\t\t\tif (dbo.isPresent()) {\n" + "\t\t\t\tthis." + repositoryAttrName
-						+ ".delete(dbo.get());\n" //
-						+ "\t\t\t\tresult = true;\n" //
-						+ "\t\t\t}\n" //
+				.setCode("\t\ttry {\n" //
+						+ "\t\t\treturn this." + repositoryAttrName + ".deleteWithId(" + pkAttrName + ") > 0;\n" //
 						+ "\t\t} catch (Exception e) {\n" //
 						+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.WriteError, " //
-						+ "\"error while deleting " + elementName + " with id: \" + id, e);\n" //
+						+ "\"error while deleting " + elementName + " with id: \" + " + pkAttrName + ", e);\n" //
 						+ "\t\t}\n" //
-						+ "\t\treturn result;\n" //
 						+ "\t}\n");
 	}
 
-	private MethodSourceModel createFindAll(String soClassName, String dboClassName, String repositoryAttrName,
-			String dboConverterAttrName, String pluralElementName) {
+	/**
+	 * Creates a method which deletes the rows with the passed ids by DELETE statements with at most
+	 * DELETE_CHUNK_SIZE ids in the IN list. All chunks are deleted in one transaction.
+	 */
+	private MethodSourceModel createDeleteAll(String pkObjectClassName, String repositoryAttrName,
+			String pluralElementName) {
+		return new MethodSourceModel().setName("deleteAll") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override"), //
+						new AnnotationSourceModel().setName("Transactional")) //
+				.addParameters(new ParameterSourceModel().setName("ids").setType("List<" + pkObjectClassName + ">")) //
+				.setReturnType("int") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
+				.setCode( //
+						"\t\ttry {\n" //
+								+ "\t\t\tint result = 0;\n" //
+								+ "\t\t\tfor (int i = 0, leni = ids.size(); i < leni; i += DELETE_CHUNK_SIZE) {\n" //
+								+ "\t\t\t\tresult += this." + repositoryAttrName
+								+ ".deleteWithIds(ids.subList(i, Math.min(i + DELETE_CHUNK_SIZE, leni)));\n" //
+								+ "\t\t\t}\n" //
+								+ "\t\t\treturn result;\n" //
+								+ "\t\t} catch (Exception e) {\n" //
+								+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.WriteError, " //
+								+ "\"error while deleting \" + ids.size() + \" " + pluralElementName + ".\", e);\n" //
+								+ "\t\t}\n" //
+								+ "\t}\n");
+	}
+
+	/**
+	 * Creates a method which passes all rows of the table one by one to a consumer. The read only transaction keeps the
+	 * database cursor open while the rows are streamed and each row is detached after it is converted, so the
+	 * persistence context does not grow with the table.
+	 */
+	private MethodSourceModel createExportAll(String soClassName, String dboClassName, String repositoryAttrName,
+			String dboConverterAttrName, String entityManagerAttrName, String pluralElementName) {
+		MethodSourceModel method = new MethodSourceModel().setName("exportAll") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(
+						new ParameterSourceModel().setName("consumer").setType("Consumer<" + soClassName + ">")) //
+				.setReturnType("void") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
+				.setCode( //
+						"\t\ttry (Stream<" + dboClassName + "> dbos = this." + repositoryAttrName
+								+ ".streamAll()) {\n" //
+								+ "\t\t\tdbos.forEach(dbo -> {\n" //
+								+ "\t\t\t\tconsumer.accept(this." + dboConverterAttrName + ".convertDBOToSO(dbo));\n" //
+								+ "\t\t\t\tthis." + entityManagerAttrName + ".detach(dbo);\n" //
+								+ "\t\t\t});\n" //
+								+ "\t\t} catch (Exception e) {\n" //
+								+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.ReadError, " //
+								+ "\"error while exporting " + pluralElementName + ".\", e);\n" //
+								+ "\t\t}\n" //
+								+ "\t}\n");
+		this.classSourceModelUtils.addAnnotation(method, "Transactional", "readOnly",
+				new AnnotationValue().setQuoted(false).setValue("true"));
+		return method;
+	}
+
+	private MethodSourceModel createFindAll(String resultPageClassName, String soClassName, String dboClassName,
+			String repositoryAttrName, String dboConverterAttrName, String pluralElementName, String rowsSummaryCode) {
+		String returnClassName = resultPageClassName + "<" + soClassName + ">";
 		return new MethodSourceModel().setName("findAll") //
 				.addModifiers(ModifierSourceModel.PUBLIC) //
 				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
+				.setReturnType(returnClassName) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
+				.setCode( //
+						"\t\tSort order = createSort(sort);\n" //
+								+ "\t\ttry {\n" //
+								+ "\t\t\tPage<" + dboClassName + "> dbos = this." + repositoryAttrName
+								+ ".findAll(PageRequest.of(page, size, order));\n" //
+								+ "\t\t\tList<" + soClassName
+								+ "> sos = new ArrayList<>(dbos.getNumberOfElements());\n" //
+								+ "\t\t\tfor (" + dboClassName + " dbo : dbos) {\n" //
+								+ "\t\t\t\tsos.add(this." + dboConverterAttrName + ".convertDBOToSO(dbo));\n" //
+								+ "\t\t\t}\n"//
+								+ rowsSummaryCode //
+								+ "\t\t\treturn new " + returnClassName + "() //\n" //
+								+ "\t\t\t\t\t.setCurrentPage(dbos.getNumber()) //\n" //
+								+ "\t\t\t\t\t.setResultsPerPage(dbos.getSize()) //\n" //
+								+ "\t\t\t\t\t.setResults(sos) //\n" //
+								+ "\t\t\t\t\t.setTotalResults((int) dbos.getTotalElements());\n" //
+								+ "\t\t} catch (Exception e) {\n" //
+								+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.ReadError, " //
+								+ "\"error while finding all " + pluralElementName + ".\", e);\n" //
+								+ "\t\t}\n" //
+								+ "\t}\n");
+	}
+
+	private MethodSourceModel createFindAllAfter(String soClassName, String dboClassName, String keysetType,
+			String repositoryAttrName, String dboConverterAttrName, String pluralElementName, String rowsSummaryCode) {
+		return new MethodSourceModel().setName("findAllAfter") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(new ParameterSourceModel().setName("after").setType(keysetType), //
+						new ParameterSourceModel().setName("size").setType("int")) //
 				.setReturnType("List<" + soClassName + ">") //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
 				.setCode( //
 						"\t\ttry {\n" //
-								+ "\t\t\tList<" + soClassName + "> sos = new ArrayList<>();\n" //
-								+ "\t\t\tfor (" + dboClassName + " dbo : this." + repositoryAttrName + ".findAll()) {\n" //
+								+ "\t\t\tList<" + soClassName + "> sos = new ArrayList<>(size);\n" //
+								+ "\t\t\tfor (" + dboClassName + " dbo : this." + repositoryAttrName
+								+ ".findAllAfter(after, PageRequest.of(0, size))) {\n" //
 								+ "\t\t\t\tsos.add(this." + dboConverterAttrName + ".convertDBOToSO(dbo));\n" //
 								+ "\t\t\t}\n"//
+								+ rowsSummaryCode //
 								+ "\t\t\treturn sos;\n" //
 								+ "\t\t} catch (Exception e) {\n" //
 								+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.ReadError, " //
-								+ "\"error while finding all " + pluralElementName + ".\", e);\n" //
+								+ "\"error while finding " + pluralElementName + " after id: \" + after, e);\n" //
 								+ "\t\t}\n" //
 								+ "\t}\n");
 	}
 
-	/*
-	 * @Override public List<RackSO> findAll() throws PersistenceException { try { List<RackSO> sos = new ArrayList<>();
-	 * for (RackDBO dbo : this.rackRepository.findAll()) { sos.add(this.rackDBOConverter.convertDBOToSO(dbo)); } return
-	 * sos; } catch (Exception e) { throw new PersistenceException(PersistenceException.Type.ReadError,
-	 * "error while finding all racks.", e); } }
-	 * 
-	 * 
-	 */
-
 	private MethodSourceModel createFindById(String soClassName, String dboClassName, String pkColumnName,
 			String pkClassName, String repositoryAttrName, String dboConverterAttrName) {
 		return new MethodSourceModel().setName("findById") //
@@ -229,8 +401,19 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 								+ "\t}\n");
 	}
 
+	/**
+	 * Creates a method which saves the passed SO. If the name of an entity manager attribute is passed, the changes
+	 * are flushed in the method, so concurrent modifications of versioned rows are reported as OptimisticLockError.
+	 */
 	private MethodSourceModel createSave(String soClassName, String dboClassName, String pkClassName,
-			String dboConverterAttrName, String repositoryAttrName, String pkGetterName) {
+			String dboConverterAttrName, String repositoryAttrName, String pkGetterName, String flushAttrName) {
+		String saveCode = "\t\t\treturn this." + repositoryAttrName + ".save(dbo)." + pkGetterName + "();\n";
+		if (flushAttrName != null) {
+			saveCode = "\t\t\t" + pkClassName + " id = this." + repositoryAttrName + ".save(dbo)." + pkGetterName
+					+ "();\n" //
+					+ "\t\t\tthis." + flushAttrName + ".flush();\n" //
+					+ "\t\t\treturn id;\n";
+		}
 		return new MethodSourceModel().setName("save") //
 				.addModifiers(ModifierSourceModel.PUBLIC) //
 				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
@@ -238,10 +421,12 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 				.setReturnType(pkClassName) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
 				.setCode( //
-						"\t\ttry {\n" //
+						(flushAttrName != null ? "\t\tcheckVersion(so);\n" : "") //
+								+ "\t\ttry {\n" //
 								+ "\t\t\t" + dboClassName + " dbo = this." + dboConverterAttrName
 								+ ".convertSOToDBO(so);\n" //
-								+ "\t\t\treturn this." + repositoryAttrName + ".save(dbo)." + pkGetterName + "();\n" //
+								+ saveCode //
+								+ getOptimisticLockCatchCode(flushAttrName, "\"concurrent modification of: \" + so") //
 								+ "\t\t} catch (Exception e) {\n" //
 								+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.WriteError, " //
 								+ "\"error while saving: \" + so, e);\n" //
@@ -249,34 +434,182 @@ public class PersistenceAdapterClassGenerator implements ClassCodeFactory {
 								+ "\t}\n");
 	}
 
-	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String soClassName,
-			String dboClassName, String repositoryAttrName, String dboConverterAttrName) {
+	private MethodSourceModel createSaveAll(String soClassName, String dboClassName, String pkObjectClassName,
+			String dboConverterAttrName, String repositoryAttrName, String pkGetterName, String pluralElementName,
+			String flushAttrName) {
+		return new MethodSourceModel().setName("saveAll") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(new ParameterSourceModel().setName("sos").setType("List<" + soClassName + ">")) //
+				.setReturnType("List<" + pkObjectClassName + ">") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
+				.setCode( //
+						getCheckVersionsCode(soClassName, flushAttrName) //
+								+ "\t\ttry {\n" //
+								+ "\t\t\tList<" + dboClassName + "> dbos = new ArrayList<>(sos.size());\n" //
+								+ "\t\t\tfor (" + soClassName + " so : sos) {\n" //
+								+ "\t\t\t\tdbos.add(this." + dboConverterAttrName + ".convertSOToDBO(so));\n" //
+								+ "\t\t\t}\n" //
+								+ "\t\t\tList<" + pkObjectClassName + "> ids = new ArrayList<>(dbos.size());\n" //
+								+ "\t\t\tfor (" + dboClassName + " dbo : this." + repositoryAttrName
+								+ ".saveAll(dbos)) {\n" //
+								+ "\t\t\t\tids.add(dbo." + pkGetterName + "());\n" //
+								+ "\t\t\t}\n" //
+								+ (flushAttrName != null ? "\t\t\tthis." + flushAttrName + ".flush();\n" : "") //
+								+ "\t\t\treturn ids;\n" //
+								+ getOptimisticLockCatchCode(flushAttrName, "\"concurrent modification while saving \" + "
+										+ "sos.size() + \" " + pluralElementName + ".\"") //
+								+ "\t\t} catch (Exception e) {\n" //
+								+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.WriteError, " //
+								+ "\"error while saving \" + sos.size() + \" " + pluralElementName + ".\", e);\n" //
+								+ "\t\t}\n" //
+								+ "\t}\n");
+	}
+
+	/**
+	 * Returns a loop which checks the versions of the passed objects, if the name of an entity manager attribute for
+	 * the flush is passed (i. e. the table is versioned).
+	 */
+	private String getCheckVersionsCode(String soClassName, String flushAttrName) {
+		if (flushAttrName == null) {
+			return "";
+		}
+		return "\t\tfor (" + soClassName + " so : sos) {\n" //
+				+ "\t\t\tcheckVersion(so);\n" //
+				+ "\t\t}\n";
+	}
+
+	/**
+	 * Creates a method which rejects the updates of versioned rows without a version as OptimisticLockError. Spring
+	 * Data would take such an object for a new one and try to insert it.
+	 */
+	private MethodSourceModel createCheckVersion(String soClassName, String pkGetterName, String newPkValue,
+			String versionGetterName) {
+		return new MethodSourceModel().setName("checkVersion") //
+				.addModifiers(ModifierSourceModel.PRIVATE) //
+				.addParameters(new ParameterSourceModel().setName("so").setType(soClassName)) //
+				.setReturnType("void") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
+				.setCode( //
+						"\t\tif ((so." + pkGetterName + "() != " + newPkValue + ") && (so." + versionGetterName
+								+ "() == null)) {\n" //
+								+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.OptimisticLockError, "
+								+ "\"missing version of: \" + so, null);\n" //
+								+ "\t\t}\n" //
+								+ "\t}\n");
+	}
+
+	/**
+	 * Returns a catch block which maps the optimistic lock exceptions of the repository (Spring) and of the flush (JPA)
+	 * to an OptimisticLockError, if the name of an entity manager attribute for the flush is passed.
+	 */
+	private String getOptimisticLockCatchCode(String flushAttrName, String messageExpression) {
+		if (flushAttrName == null) {
+			return "";
+		}
+		return "\t\t} catch (OptimisticLockingFailureException | OptimisticLockException e) {\n" //
+				+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.OptimisticLockError, "
+				+ messageExpression + ", e);\n";
+	}
+
+	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String resultPageClassName,
+			String soClassName, String dboClassName, String repositoryAttrName, String dboConverterAttrName,
+			String meterRegistryAttrName, String tableTagValue) {
 		String xPluralName = this.nameConverter.getPluralName(tableSO);
 		String ySingularName = this.nameConverter.getSingularName(columnSO.getTable());
 		String methodName = "find" + xPluralName + "For" + ySingularName;
 		String idParameterName = this.nameConverter.columnNameToAttributeName(columnSO, true);
+		String returnClassName = resultPageClassName + "<" + soClassName + ">";
 		return new MethodSourceModel() //
 				.setName(methodName) //
 				.addModifiers(ModifierSourceModel.PUBLIC) //
 				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
-				.setReturnType("List<" + soClassName + ">") //
+				.setReturnType(returnClassName) //
 				.addParameters(new ParameterSourceModel() //
 						.setName(idParameterName) //
-						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable()))) //
+						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable())), //
+						new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
-				.setCode("\t\ttry {\n" + //
-						"\t\t\tList<" + soClassName + "> sos = new ArrayList<>();\n" + "			for ("
-						+ dboClassName + " dbo : this." + repositoryAttrName + "." + methodName + "(" + idParameterName
-						+ ")) {\n" //
-						+ "\t\t\t\tsos.add(this." + dboConverterAttrName + ".convertDBOToSO(dbo));\n" + "\t\t\t}\n" //
-						+ "\t\t\treturn sos;\n" //
+				.setCode("\t\tSort order = createSort(sort);\n" //
+						+ "\t\ttry {\n" //
+						+ "\t\t\tPage<" + dboClassName + "> dbos = this." + repositoryAttrName + "." + methodName + "("
+						+ idParameterName + ", PageRequest.of(page, size, order));\n" //
+						+ "\t\t\tList<" + soClassName + "> sos = new ArrayList<>(dbos.getNumberOfElements());\n" //
+						+ "\t\t\tfor (" + dboClassName + " dbo : dbos) {\n" //
+						+ "\t\t\t\tsos.add(this." + dboConverterAttrName + ".convertDBOToSO(dbo));\n" //
+						+ "\t\t\t}\n" //
+						+ getRowsSummaryCode(meterRegistryAttrName, tableTagValue, methodName) //
+						+ "\t\t\treturn new " + returnClassName + "() //\n" //
+						+ "\t\t\t\t\t.setCurrentPage(dbos.getNumber()) //\n" //
+						+ "\t\t\t\t\t.setResultsPerPage(dbos.getSize()) //\n" //
+						+ "\t\t\t\t\t.setResults(sos) //\n" //
+						+ "\t\t\t\t\t.setTotalResults((int) dbos.getTotalElements());\n" //
 						+ "\t\t} catch (Exception e) {\n" //
 						+ "\t\t\tthrow new PersistenceException(PersistenceException.Type.ReadError, \"error while "
 						+ "finding all " + this.nameConverter.classNameToAttrName(xPluralName) + " for "
-						+ this.nameConverter.classNameToAttrName(ySingularName) + ":\" + " + idParameterName + ", e);\n" //
+						+ this.nameConverter.classNameToAttrName(ySingularName) + ":\" + " + idParameterName
+						+ ", e);\n" //
 						+ "\t\t}\n" //
 						+ "\t}\n") //
 		;
 	}
 
+	/**
+	 * Returns a statement which records the number of the rows found by the method in a distribution summary, if the
+	 * name of a meter registry attribute is passed.
+	 */
+	private String getRowsSummaryCode(String meterRegistryAttrName, String tableTagValue, String methodName) {
+		if (meterRegistryAttrName == null) {
+			return "";
+		}
+		return "\t\t\tthis." + meterRegistryAttrName + ".summary(\"persistence.rows\", \"table\", \"" + tableTagValue
+				+ "\", \"method\", \"" + methodName + "\").record(sos.size());\n";
+	}
+
+	/**
+	 * Returns an expression which creates the set of the names of the persistent attributes of the DBO. Only these
+	 * names are accepted as sort attributes.
+	 */
+	private String getSortAttributeNames(TableSO tableSO) {
+		return this.classSourceModelUtils.getPersistentColumns(tableSO).stream()
+				.map(column -> "\"" + this.nameConverter.columnNameToAttributeName(column) + "\"")
+				.collect(Collectors.joining(", ", "Set.of(", ")"));
+	}
+
+	/**
+	 * Creates a method which converts a comma separated list of attribute names into a sort order. Attribute names
+	 * with a leading "-" are sorted descending. The primary key is used if no attribute name is passed, so the pages
+	 * are stable. Names which are not a persistent attribute of the DBO are reported as InvalidSortError.
+	 */
+	private MethodSourceModel createCreateSort(String pkAttrName) {
+		return new MethodSourceModel().setName("createSort") //
+				.addModifiers(ModifierSourceModel.PRIVATE) //
+				.addParameters(new ParameterSourceModel().setName("sort").setType("String")) //
+				.setReturnType("Sort") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
+				.setCode( //
+						"\t\tSort result = Sort.unsorted();\n" //
+								+ "\t\tif (sort != null) {\n" //
+								+ "\t\t\tfor (String attributeName : sort.split(\",\")) {\n" //
+								+ "\t\t\t\tattributeName = attributeName.trim();\n" //
+								+ "\t\t\t\tboolean descending = attributeName.startsWith(\"-\");\n" //
+								+ "\t\t\t\tif (descending) {\n" //
+								+ "\t\t\t\t\tattributeName = attributeName.substring(1);\n" //
+								+ "\t\t\t\t} else if (attributeName.isEmpty()) {\n" //
+								+ "\t\t\t\t\tcontinue;\n" //
+								+ "\t\t\t\t}\n" //
+								+ "\t\t\t\tif (!SORT_ATTRIBUTE_NAMES.contains(attributeName)) {\n" //
+								+ "\t\t\t\t\tthrow new PersistenceException(PersistenceException.Type.InvalidSortError, "
+								+ "\"unknown sort attribute: \" + attributeName, null);\n" //
+								+ "\t\t\t\t}\n" //
+								+ "\t\t\t\tresult = result.and(descending ? Sort.by(attributeName).descending() "
+								+ ": Sort.by(attributeName));\n" //
+								+ "\t\t\t}\n" //
+								+ "\t\t}\n" //
+								+ "\t\treturn result.isUnsorted() ? Sort.by(\"" + pkAttrName + "\") : result;\n" //
+								+ "\t}\n");
+	}
+
 }
\ No newline at end of file
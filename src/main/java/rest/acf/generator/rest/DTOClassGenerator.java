@@ -1,12 +1,15 @@
 package rest.acf.generator.rest;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import rest.acf.ClassCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationValue;
+import rest.acf.model.AttributeSourceModel;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ClassSourceModel;
 import rest.acf.model.ModifierSourceModel;
@@ -52,12 +55,23 @@ public class DTOClassGenerator implements ClassCodeFactory {
 				+ " *\n" //
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
-		for (ColumnSO column : tableSO.getColumns()) {
-			this.classSourceModelUtils
-					.addAttributeForColumn(csm, column, t -> this.nameConverter.tableNameToDTOClassName(t))
-					.ifPresent(asm -> {
-						asm.getModifiers().add(ModifierSourceModel.PRIVATE);
-					});
+		boolean referencesById = this.classSourceModelUtils.isOptionSet(tableSO, Options.DTO_REFERENCES_BY_ID);
+		for (ColumnSO column : this.classSourceModelUtils.getTransferredColumns(tableSO)) {
+			ForeignKeySO[] foreignKeys = this.classSourceModelUtils.getForeignkeyByColumn(column);
+			if (referencesById && (foreignKeys.length == 1) && (foreignKeys[0].getReferences().size() == 1)) {
+				ColumnSO referencedColumn = foreignKeys[0].getReferences().get(0).getReferencedColumn();
+				AttributeSourceModel asm = new AttributeSourceModel() //
+						.setName(this.nameConverter.getReferenceIdAttributeName(column)) //
+						.setType(this.typeConverter.typeSOToTypeString(referencedColumn.getType(), true));
+				asm.getModifiers().add(ModifierSourceModel.PRIVATE);
+				csm.getAttributes().add(asm);
+			} else {
+				this.classSourceModelUtils
+						.addAttributeForColumn(csm, column, t -> this.nameConverter.tableNameToDTOClassName(t))
+						.ifPresent(asm -> {
+							asm.getModifiers().add(ModifierSourceModel.PRIVATE);
+						});
+			}
 		}
 		return csm;
 	}
@@ -1,6 +1,8 @@
 package rest.acf.generator.rest;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
 import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
@@ -10,6 +12,7 @@ import rest.acf.ClassCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ClassSourceModel;
 import rest.acf.model.MethodSourceModel;
@@ -47,6 +50,8 @@ public class DTOConverterClassGenerator implements ClassCodeFactory {
 		String soClassName = this.classSourceModelUtils.createSOClassSourceModel(tableSO).getName();
 		csm.setPackageModel(new PackageSourceModel().setPackageName(
 				"${base.package.name}." + this.classSourceModelUtils.createDTOConverterPackageNameSuffix()));
+		this.classSourceModelUtils.addImport(csm, "java.util", "ArrayList");
+		this.classSourceModelUtils.addImport(csm, "java.util", "List");
 		this.classSourceModelUtils.addImport(csm, "org.springframework.stereotype", "Component");
 		this.classSourceModelUtils.addImport(csm,
 				"${base.package.name}." + this.classSourceModelUtils.createDTOPackageNameSuffix(), dtoClassName);
@@ -60,56 +65,146 @@ public class DTOConverterClassGenerator implements ClassCodeFactory {
 				+ " *\n" //
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
-		csm.getMethods().add(createConvertSOToDTO(dtoClassName, soClassName, tableSO, csm));
-		csm.getMethods().add(createConvertDTOToSO(dtoClassName, soClassName, tableSO, csm));
+		boolean referencesById = this.classSourceModelUtils.isOptionSet(tableSO, Options.DTO_REFERENCES_BY_ID);
+		csm.getMethods().add(createConvertSOToDTO(dtoClassName, soClassName, tableSO, csm, referencesById));
+		csm.getMethods().add(createConvertSOsToDTOs(dtoClassName, soClassName, tableSO, csm, referencesById));
+		csm.getMethods().add(createConvertDTOToSO(dtoClassName, soClassName, tableSO, csm, referencesById));
 		return csm;
 	}
 
 	private MethodSourceModel createConvertSOToDTO(String dtoClassName, String soClassName, TableSO tableSO,
-			ClassSourceModel csm) {
+			ClassSourceModel csm, boolean referencesById) {
 		StringBuilder code = new StringBuilder("\t\tif (so == null) {\n");
 		code.append("\t\t\treturn null;\n");
 		code.append("\t\t}\n");
-		code.append("\t\treturn new ").append(dtoClassName).append("()");
-		for (ColumnSO column : tableSO.getColumns()) {
+		code.append("\t\treturn ")
+				.append(createSOToDTOExpression(dtoClassName, tableSO, csm, referencesById, null))
+				.append(";\n");
+		code.append("\t}\n");
+		return new MethodSourceModel() //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.setReturnType(dtoClassName) //
+				.setName("convertSOToDTO") //
+				.setParameters(Arrays.asList(new ParameterSourceModel().setName("so").setType(soClassName))) //
+				.setCode(code.toString());
+	}
+
+	/**
+	 * Creates a method which converts a list of SO's. The DTO's of the referenced objects are held in an identity map
+	 * per referenced table, so every referenced object is converted once only.
+	 */
+	private MethodSourceModel createConvertSOsToDTOs(String dtoClassName, String soClassName, TableSO tableSO,
+			ClassSourceModel csm, boolean referencesById) {
+		Map<String, String> identityMaps = new LinkedHashMap<>();
+		String expression = createSOToDTOExpression(dtoClassName, tableSO, csm, referencesById, identityMaps);
+		StringBuilder code = new StringBuilder("\t\tif (sos == null) {\n");
+		code.append("\t\t\treturn null;\n");
+		code.append("\t\t}\n");
+		if (!identityMaps.isEmpty()) {
+			this.classSourceModelUtils.addImport(csm, "java.util", "HashMap");
+			this.classSourceModelUtils.addImport(csm, "java.util", "Map");
+		}
+		identityMaps.forEach((name, type) -> code.append("\t\t").append(type).append(" ").append(name)
+				.append(" = new HashMap<>();\n"));
+		code.append("\t\tList<").append(dtoClassName).append("> dtos = new ArrayList<>(sos.size());\n");
+		code.append("\t\tfor (").append(soClassName).append(" so : sos) {\n");
+		if (identityMaps.isEmpty()) {
+			code.append("\t\t\tdtos.add(convertSOToDTO(so));\n");
+		} else {
+			code.append("\t\t\tdtos.add(so == null ? null : ").append(expression).append(");\n");
+		}
+		code.append("\t\t}\n");
+		code.append("\t\treturn dtos;\n");
+		code.append("\t}\n");
+		return new MethodSourceModel() //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.setReturnType("List<" + dtoClassName + ">") //
+				.setName("convertSOsToDTOs") //
+				.setParameters(Arrays.asList(new ParameterSourceModel() //
+						.setName("sos") //
+						.setType("List<" + soClassName + ">"))) //
+				.setCode(code.toString());
+	}
+
+	/**
+	 * Creates the expression which converts the SO "so" into a DTO. If identity maps are passed, the referenced objects
+	 * are converted through the identity maps, which are added to the passed map (name -> type).
+	 */
+	private String createSOToDTOExpression(String dtoClassName, TableSO tableSO, ClassSourceModel csm,
+			boolean referencesById, Map<String, String> identityMaps) {
+		StringBuilder code = new StringBuilder("new ").append(dtoClassName).append("()");
+		for (ColumnSO column : this.classSourceModelUtils.getTransferredColumns(tableSO)) {
 			ForeignKeySO[] foreignKeys = this.classSourceModelUtils.getForeignkeyByColumn(column);
 			if (foreignKeys.length == 0) {
 				code.append(".").append(this.nameConverter.getSetterName(column)).append("(so.")
 						.append(this.nameConverter.getGetterName(column)).append("())");
 			} else if ((foreignKeys.length == 1) && (foreignKeys[0].getReferences().size() == 1)) {
-				this.classSourceModelUtils.addImport(csm, "org.springframework.beans.factory.annotation", "Autowired");
 				ReferenceSO reference = foreignKeys[0].getReferences().get(0);
-				TableSO referencedTable = reference.getReferencedColumn().getTable();
-				String dtoConverterClassName = this.nameConverter.tableNameToDTOConverterClassName(referencedTable);
-				String dtoConverterAttrName = this.nameConverter.classNameToAttrName(dtoConverterClassName);
-				this.classSourceModelUtils.addAttributeForClassName(csm, dtoConverterClassName)
-						.ifPresent(asm -> classSourceModelUtils.addAnnotation(asm, "Autowired"));
-				code.append(".").append(this.nameConverter.getSetterName(column)).append("(this.")
-						.append(dtoConverterAttrName).append(".convertSOToDTO(so.")
-						.append(this.nameConverter.getGetterName(column)).append("()))");
+				String getterCall = "so." + this.nameConverter.getGetterName(column) + "()";
+				String idGetterCall = getterCall + "."
+						+ this.nameConverter.getGetterName(reference.getReferencedColumn()) + "()";
+				if (referencesById) {
+					code.append(".").append(this.nameConverter.getReferenceIdSetterName(column)).append("(")
+							.append(getterCall).append(" == null ? null : ").append(idGetterCall).append(")");
+				} else {
+					code.append(".").append(this.nameConverter.getSetterName(column)).append("(")
+							.append(createReferenceConversion(reference, getterCall, idGetterCall, csm, identityMaps))
+							.append(")");
+				}
 			}
 		}
-		code.append(";\n");
-		code.append("\t}\n");
-		return new MethodSourceModel() //
-				.addModifiers(ModifierSourceModel.PUBLIC) //
-				.setReturnType(dtoClassName) //
-				.setName("convertSOToDTO") //
-				.setParameters(Arrays.asList(new ParameterSourceModel().setName("so").setType(soClassName))) //
-				.setCode(code.toString());
+		return code.toString();
+	}
+
+	private String createReferenceConversion(ReferenceSO reference, String getterCall, String idGetterCall,
+			ClassSourceModel csm, Map<String, String> identityMaps) {
+		this.classSourceModelUtils.addImport(csm, "org.springframework.beans.factory.annotation", "Autowired");
+		TableSO referencedTable = reference.getReferencedColumn().getTable();
+		String dtoConverterClassName = this.nameConverter.tableNameToDTOConverterClassName(referencedTable);
+		String dtoConverterAttrName = this.nameConverter.classNameToAttrName(dtoConverterClassName);
+		if (this.classSourceModelUtils.getAttributeByName(csm, dtoConverterAttrName).isEmpty()) {
+			this.classSourceModelUtils.addAttributeForClassName(csm, dtoConverterClassName)
+					.ifPresent(asm -> classSourceModelUtils.addAnnotation(asm, "Autowired"));
+		}
+		String conversion = "this." + dtoConverterAttrName + ".convertSOToDTO(" + getterCall + ")";
+		if (identityMaps == null) {
+			return conversion;
+		}
+		String referencedDTOClassName = this.nameConverter.tableNameToDTOClassName(referencedTable);
+		String identityMapName = this.nameConverter.classNameToAttrName(referencedDTOClassName) + "s";
+		identityMaps.put(identityMapName, "Map<"
+				+ this.typeConverter.typeSOToTypeString(reference.getReferencedColumn().getType(), true) + ", "
+				+ referencedDTOClassName + ">");
+		this.classSourceModelUtils.addImport(csm,
+				"${base.package.name}." + this.classSourceModelUtils.createDTOPackageNameSuffix(),
+				referencedDTOClassName);
+		return getterCall + " == null ? null : " + identityMapName + ".computeIfAbsent(" + idGetterCall + ", id -> "
+				+ conversion + ")";
 	}
 
 	private MethodSourceModel createConvertDTOToSO(String dtoClassName, String soClassName, TableSO tableSO,
-			ClassSourceModel csm) {
+			ClassSourceModel csm, boolean referencesById) {
 		StringBuilder code = new StringBuilder("\t\tif (dto == null) {\n");
 		code.append("\t\t\treturn null;\n");
 		code.append("\t\t}\n");
 		code.append("\t\treturn new ").append(soClassName).append("()");
-		for (ColumnSO column : tableSO.getColumns()) {
+		for (ColumnSO column : this.classSourceModelUtils.getTransferredColumns(tableSO)) {
 			ForeignKeySO[] foreignKeys = this.classSourceModelUtils.getForeignkeyByColumn(column);
 			if (foreignKeys.length == 0) {
 				code.append(".").append(this.nameConverter.getSetterName(column)).append("(dto.")
 						.append(this.nameConverter.getGetterName(column)).append("())");
+			} else if (referencesById && (foreignKeys.length == 1) && (foreignKeys[0].getReferences().size() == 1)) {
+				ColumnSO referencedColumn = foreignKeys[0].getReferences().get(0).getReferencedColumn();
+				String referencedSOClassName = this.nameConverter
+						.tableNameToServiceObjectClassName(referencedColumn.getTable());
+				String idGetterCall = "dto." + this.nameConverter.getReferenceIdGetterName(column) + "()";
+				this.classSourceModelUtils.addImport(csm,
+						"${base.package.name}." + this.classSourceModelUtils.createSOPackageNameSuffix(),
+						referencedSOClassName);
+				code.append(".").append(this.nameConverter.getSetterName(column)).append("(").append(idGetterCall)
+						.append(" == null ? null : new ").append(referencedSOClassName).append("().")
+						.append(this.nameConverter.getSetterName(referencedColumn)).append("(").append(idGetterCall)
+						.append("))");
 			} else if ((foreignKeys.length == 1) && (foreignKeys[0].getReferences().size() == 1)) {
 				this.classSourceModelUtils.addImport(csm, "org.springframework.beans.factory.annotation", "Autowired");
 				ReferenceSO reference = foreignKeys[0].getReferences().get(0);
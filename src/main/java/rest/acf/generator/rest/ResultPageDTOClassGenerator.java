@@ -7,13 +7,16 @@
  */
 package rest.acf.generator.rest;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.apache.log4j.Logger;
 
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AttributeSourceModel;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ClassSourceModel;
@@ -44,12 +47,13 @@ public class ResultPageDTOClassGenerator {
 	}
 
 	/**
-	 * Generates a persistence exception class classes for the passed database service object.
+	 * Generates a result page DTO class for the passed database service object.
 	 * 
+	 * @param databaseSO The database service object which the class is to create for.
 	 * @param authorName The name which should be inserted as author name.
-	 * @returns A persistence exception class for the passed database or a "null" value if a "null" value is passed.
+	 * @returns A result page DTO class for the passed database.
 	 */
-	public ClassSourceModel generate(String authorName) {
+	public ClassSourceModel generate(DatabaseSO databaseSO, String authorName) {
 		ClassSourceModel csm = this.classSourceModelUtils.createResultPageDTOClassSourceModel();
 		csm.setPackageModel(new PackageSourceModel().setPackageName(
 				"${base.package.name}." + this.classSourceModelUtils.createResultPageDTOClassPackageNameSuffix()));
@@ -69,7 +73,7 @@ public class ResultPageDTOClassGenerator {
 				+ " *\n" //
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
-		csm.setAttributes(Arrays.asList(
+		csm.setAttributes(new ArrayList<>(Arrays.asList(
 				new AttributeSourceModel().addModifier(ModifierSourceModel.PRIVATE).setName("currentPage")
 						.setType("int"),
 				new AttributeSourceModel().addModifier(ModifierSourceModel.PRIVATE).setName("resultsPerPage")
@@ -77,7 +81,11 @@ public class ResultPageDTOClassGenerator {
 				new AttributeSourceModel().setInitialValue("new ArrayList<>()").addModifier(ModifierSourceModel.PRIVATE)
 						.setName("results").setType("List<T>"),
 				new AttributeSourceModel().addModifier(ModifierSourceModel.PRIVATE).setName("totalResults")
-						.setType("int")));
+						.setType("int"))));
+		if (this.classSourceModelUtils.isOptionSet(databaseSO, Options.KEYSET_PAGINATION)) {
+			csm.getAttributes().add(new AttributeSourceModel().addModifier(ModifierSourceModel.PRIVATE)
+					.setName("nextCursor").setType("String"));
+		}
 		return csm;
 	}
 
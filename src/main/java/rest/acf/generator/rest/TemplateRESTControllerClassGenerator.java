@@ -1,10 +1,12 @@
 package rest.acf.generator.rest;
 
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
 import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
 import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
@@ -12,7 +14,11 @@ import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.template.CompiledTemplate;
+import rest.acf.generator.template.TemplateCache;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.ForeignKeyIndex;
+import rest.acf.generator.utils.Options;
 
 /**
  * A template based class generator for a REST controller class.
@@ -23,11 +29,65 @@ public class TemplateRESTControllerClassGenerator {
 
 	private ClassSourceModelUtils utils = new ClassSourceModelUtils(new NameConverter(), new TypeConverter());
 	private NameConverter nameConverter = new NameConverter();
+	private TypeConverter typeConverter = new TypeConverter();
+	private ForeignKeyIndex foreignKeyIndex;
+	private TemplateCache templateCache;
 
-	public String generate(TableSO table, DatabaseSO database, String authorName) {
-		String code = "";
+	public TemplateRESTControllerClassGenerator() {
+		this(null, new TemplateCache());
+	}
+
+	/**
+	 * Creates a new template based REST controller class generator.
+	 *
+	 * @param foreignKeyIndex A foreign key index for the database which the generator is used for (or "null" to scan
+	 *                        the database for the referencing tables).
+	 * @param templateCache   The cache which the compiled templates are taken from.
+	 */
+	public TemplateRESTControllerClassGenerator(ForeignKeyIndex foreignKeyIndex, TemplateCache templateCache) {
+		super();
+		this.foreignKeyIndex = foreignKeyIndex;
+		this.templateCache = templateCache;
+	}
+
+	/**
+	 * Generates the REST controller class for the passed table.
+	 *
+	 * @param table           The table which the REST controller class is to generate for.
+	 * @param database        The database which the table is a part of.
+	 * @param basePackageName The base package name of the generated classes.
+	 * @param authorName      The name of the author of the class.
+	 * @return The code of the REST controller class or "null" if a template could not be read or rendered.
+	 */
+	public String generate(TableSO table, DatabaseSO database, String basePackageName, String authorName) {
+		String code;
+		String dtoConverterClassName = this.utils.createDTOConverterClassSourceModel(table).getName();
+		String serviceClassName = this.utils.createServiceInterfaceSourceModel(table).getName();
+		String soClassName = this.utils.createSOClassSourceModel(table).getName();
+		String dtoClassName = this.utils.createDTOClassSourceModel(table).getName();
+		boolean keysetPagination = this.utils.isKeysetPaginated(database, table);
+		boolean ndjsonExport = this.utils.isOptionSet(database, Options.NDJSON_EXPORT);
+		boolean eTag = this.utils.getUpdatedAtColumn(table).isPresent() && getPkColumn(table) != null;
+		boolean versioned = this.utils.isOptionSet(table, Options.OPTIMISTIC_LOCKING);
+		boolean metrics = this.utils.isOptionSet(database, Options.METRICS);
 		List<String> imports = new ArrayList<>();
+		if (ndjsonExport) {
+			imports.add("java.io.IOException");
+			imports.add("java.io.OutputStreamWriter");
+			imports.add("java.io.UncheckedIOException");
+			imports.add("java.io.Writer");
+		}
+		if (keysetPagination || ndjsonExport) {
+			imports.add("java.nio.charset.StandardCharsets");
+		}
+		if (eTag) {
+			imports.add("java.time.LocalDateTime");
+			imports.add("java.time.ZoneId");
+		}
 		imports.add("java.util.ArrayList");
+		if (keysetPagination) {
+			imports.add("java.util.Base64");
+		}
 		imports.add("java.util.List");
 		imports.add("java.util.Optional");
 		imports.add("");
@@ -35,6 +95,9 @@ public class TemplateRESTControllerClassGenerator {
 		imports.add("org.apache.logging.log4j.Logger");
 		imports.add("org.springframework.beans.factory.annotation.Autowired");
 		imports.add("org.springframework.http.HttpStatus");
+		if (ndjsonExport) {
+			imports.add("org.springframework.http.MediaType");
+		}
 		imports.add("org.springframework.http.ResponseEntity");
 		imports.add("org.springframework.web.bind.annotation.DeleteMapping");
 		imports.add("org.springframework.web.bind.annotation.GetMapping");
@@ -42,52 +105,66 @@ public class TemplateRESTControllerClassGenerator {
 		imports.add("org.springframework.web.bind.annotation.PostMapping");
 		imports.add("org.springframework.web.bind.annotation.RequestBody");
 		imports.add("org.springframework.web.bind.annotation.RequestMapping");
+		imports.add("org.springframework.web.bind.annotation.RequestParam");
 		imports.add("org.springframework.web.bind.annotation.RestController");
+		if (eTag) {
+			imports.add("org.springframework.web.context.request.WebRequest");
+		}
+		if (ndjsonExport) {
+			imports.add("org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody");
+			imports.add("");
+			imports.add("com.fasterxml.jackson.databind.ObjectMapper");
+		}
+		if (metrics) {
+			imports.add("");
+			imports.add("io.micrometer.core.annotation.Timed");
+		}
 		imports.add("");
-		imports.add("${base.package.name}.rest.v1.converter.${dtoConverter.class.name}");
-		imports.add("${base.package.name}.rest.v1.dto.${dto.class.name}");
-		imports.add("${base.package.name}.rest.v1.dto.ResultPageDTO");
-		imports.add("${base.package.name}.service.${service.class.name}");
-		imports.add("${base.package.name}.service.so.${so.class.name}");
-		imports.add("${base.package.name}.service.so.ResultPageSO");
+		imports.add(basePackageName + ".rest.v1.converter." + dtoConverterClassName);
+		imports.add(basePackageName + ".rest.v1.dto." + dtoClassName);
+		imports.add(basePackageName + ".rest.v1.dto.ResultPageDTO");
+		imports.add(basePackageName + ".service." + serviceClassName);
+		imports.add(basePackageName + "." + this.utils.createPersistenceExceptionPackageNameSuffix() + "."
+				+ this.utils.createPersistenceExceptionClassSourceModel().getName());
+		imports.add(basePackageName + ".service.so." + soClassName);
+		imports.add(basePackageName + ".service.so.ResultPageSO");
 		try {
-			code = getCodeFromTemplate(Files
-					.readAllLines(Paths.get(System.getProperty("restacf.template.path", "src/main/resources/templates/")
-							+ "RESTController.template")));
-			code = code.replace("$^{foreign.attribute.code.block}\n",
-					getForeignAttributeCodeBlock(table, database, imports));
-			code = code.replace("$^{findXXXForYYY.code.block}\n",
-					getForeignFindXXXForYYYCodeBlock(table, database, imports));
-			code = code.replace("$^{imports}\n", getImportsFromList(imports));
-			code = code.replace("${author.name}", authorName);
-			code = code.replace("${attribute.name}", this.nameConverter.classNameToAttrName(table.getName()));
-			code = code.replace("${class.name}", this.utils.createRESTControllerClassSourceModel(table).getName());
-			code = code.replace("${table.name}", this.nameConverter.getClassName(table));
-			String dtoConverterClassName = this.utils.createDTOConverterClassSourceModel(table).getName();
-			code = code.replace("${dtoConverter.class.name}", dtoConverterClassName);
-			code = code.replace("${dtoConverter.attribute.name}",
-					this.nameConverter.classNameToAttrName(dtoConverterClassName));
-			String serviceClassName = this.utils.createServiceInterfaceSourceModel(table).getName();
-			code = code.replace("${service.class.name}", serviceClassName);
-			code = code.replace("${service.attribute.name}", this.nameConverter.classNameToAttrName(serviceClassName));
-			String soClassName = this.utils.createSOClassSourceModel(table).getName();
-			code = code.replace("${so.class.name}", soClassName);
-			code = code.replace("${so.attribute.name}", this.nameConverter.classNameToAttrName(soClassName));
-			String dtoClassName = this.utils.createDTOClassSourceModel(table).getName();
-			code = code.replace("${dto.class.name}", dtoClassName);
-			code = code.replace("${dto.attribute.name}", this.nameConverter.classNameToAttrName(dtoClassName));
-		} catch (Exception e) {
+			Map<String, String> values = new HashMap<>();
+			values.put("base.package.name", basePackageName);
+			values.put("author.name", authorName);
+			values.put("attribute.name", this.nameConverter.classNameToAttrName(table.getName()));
+			values.put("class.name", this.utils.createRESTControllerClassSourceModel(table).getName());
+			values.put("table.name", this.nameConverter.getClassName(table));
+			values.put("dtoConverter.class.name", dtoConverterClassName);
+			values.put("dtoConverter.attribute.name", this.nameConverter.classNameToAttrName(dtoConverterClassName));
+			values.put("service.class.name", serviceClassName);
+			values.put("service.attribute.name", this.nameConverter.classNameToAttrName(serviceClassName));
+			values.put("so.class.name", soClassName);
+			values.put("so.attribute.name", this.nameConverter.classNameToAttrName(soClassName));
+			values.put("dto.class.name", dtoClassName);
+			values.put("dto.attribute.name", this.nameConverter.classNameToAttrName(dtoClassName));
+			values.put("timed.annotation", metrics ? getTimedAnnotation(table) : "");
+			values.put("webRequest.parameter", eTag ? ", WebRequest request" : "");
+			values.put("findAll.notModified.code.block", eTag ? getFindAllNotModifiedCodeBlock() : "");
+			values.put("findById.notModified.code.block", eTag ? getFindByIdNotModifiedCodeBlock() : "");
+			values.put("eTag.code.block", eTag ? getETagCodeBlock(table, database, values) : "");
+			values.put("save.conflict.code.block", versioned ? getSaveConflictCodeBlock(values) : "");
+			values.put("exportAll.attribute.code.block", ndjsonExport ? getExportAllAttributeCodeBlock() : "");
+			values.put("exportAll.code.block", ndjsonExport ? getExportAllCodeBlock(values) : "");
+			values.put("findAllAfter.code.block", keysetPagination ? getFindAllAfterCodeBlock(table, values) : "");
+			values.put("foreign.attribute.code.block",
+					getForeignAttributeCodeBlock(table, database, basePackageName, imports, values));
+			values.put("findXXXForYYY.code.block",
+					getForeignFindXXXForYYYCodeBlock(table, database, basePackageName, imports, values));
+			values.put("imports", getImportsFromList(imports));
+			code = this.templateCache.get("RESTController.template").render(values);
+		} catch (IOException | IllegalArgumentException e) {
 			e.printStackTrace();
+			return null;
 		}
 		return code.substring(0, code.length() - 1);
 	}
 
-	private String getCodeFromTemplate(List<String> l) {
-		StringBuilder code = new StringBuilder();
-		l.forEach(s -> code.append(s).append("\n"));
-		return code.toString();
-	}
-
 	private String getImportsFromList(List<String> l) {
 		StringBuilder code = new StringBuilder();
 		l.forEach(s -> {
@@ -99,78 +176,177 @@ public class TemplateRESTControllerClassGenerator {
 		return code.toString();
 	}
 
-	private String getForeignAttributeCodeBlock(TableSO table, DatabaseSO database, List<String> imports) {
-		String code = "";
+	/**
+	 * Returns an annotation which makes the web MVC metrics record the latency of an endpoint as a histogram. The
+	 * requests are tagged with the table in addition to the method, the URI and the status of the response.
+	 */
+	private String getTimedAnnotation(TableSO table) {
+		return "\t@Timed(value = \"rest.requests\", extraTags = { \"table\", \""
+				+ this.nameConverter.tableNameToMetricsTagValue(table) + "\" }, histogram = true)\n";
+	}
+
+	private String getExportAllAttributeCodeBlock() {
+		return "\t@Autowired\n" //
+				+ "\tprivate ObjectMapper objectMapper;\n";
+	}
+
+	private String getExportAllCodeBlock(Map<String, String> tableValues) throws IOException {
+		return this.templateCache.get("RESTController-exportAll.template").render(tableValues) + "\n";
+	}
+
+	private String getFindAllAfterCodeBlock(TableSO table, Map<String, String> tableValues) throws IOException {
+		Map<String, String> values = new HashMap<>(tableValues);
+		ColumnSO keysetColumn = this.utils.getKeysetColumn(table).get();
+		String cursorType = this.utils.getKeysetType(table);
+		String cursorClassName = this.typeConverter.typeSOToTypeString(keysetColumn.getType(), true);
+		values.put("cursor.type", cursorType);
+		values.put("cursor.class.name", cursorClassName);
+		values.put("cursor.parse.method", cursorClassName + ".parse" + cursorType.substring(0, 1).toUpperCase()
+				+ cursorType.substring(1));
+		values.put("id.getter.name", this.nameConverter.getGetterName(keysetColumn));
+		return this.templateCache.get("RESTController-findAllAfter.template").render(values) + "\n";
+	}
+
+	private String getFindAllNotModifiedCodeBlock() {
+		return "\t\t\tif (request.checkNotModified(eTag(result))) {\n" //
+				+ "\t\t\t\treturn ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();\n" //
+				+ "\t\t\t}\n";
+	}
+
+	private String getFindByIdNotModifiedCodeBlock() {
+		return "\t\t\tif (request.checkNotModified(eTag(so.get()), lastModified(so.get()))) {\n" //
+				+ "\t\t\t\treturn ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();\n" //
+				+ "\t\t\t}\n";
+	}
+
+	/**
+	 * Returns a catch block which answers concurrent modifications of versioned rows with "409 Conflict".
+	 */
+	private String getSaveConflictCodeBlock(Map<String, String> values) {
+		return "\t\t} catch (PersistenceException e) {\n" //
+				+ "\t\t\tif (e.getType() != PersistenceException.Type.OptimisticLockError) {\n" //
+				+ "\t\t\t\treturn ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();\n" //
+				+ "\t\t\t}\n" //
+				+ "\t\t\tlogger.debug(\"concurrent modification of " + values.get("attribute.name") + "s: \" + "
+				+ "e.getMessage());\n" //
+				+ "\t\t\treturn ResponseEntity.status(HttpStatus.CONFLICT).build();\n";
+	}
+
+	/**
+	 * Returns the methods which compute the ETag and the time of the last modification of the objects of the table.
+	 * The time of the last modification covers all objects which are embedded into the DTO's, down the whole reference
+	 * chain (see ClassSourceModelUtils.isETagged(TableSO)).
+	 */
+	private String getETagCodeBlock(TableSO table, DatabaseSO database, Map<String, String> tableValues)
+			throws IOException {
+		Map<String, String> values = new HashMap<>(tableValues);
+		values.put("id.getter.name", this.nameConverter.getGetterName(getPkColumn(table)));
+		values.put("updatedAt.getter.name",
+				this.nameConverter.getGetterName(this.utils.getUpdatedAtColumn(table).get()));
+		StringBuilder code = new StringBuilder();
+		addLastModifiedReferencesCode(table, "so", "\t\t", code);
+		values.put("lastModified.references.code.block", code.toString());
+		return this.templateCache.get("RESTController-eTag.template").render(values) + "\n";
+	}
+
+	private void addLastModifiedReferencesCode(TableSO table, String objectExpression, String indent,
+			StringBuilder code) {
+		for (ReferenceSO reference : this.utils.getEmbeddedReferences(table)) {
+			TableSO referencedTable = reference.getReferencedColumn().getTable();
+			String referenceExpression = objectExpression + "."
+					+ this.nameConverter.getGetterName(reference.getReferencingColumn()) + "()";
+			String updatedAtGetterName = this.nameConverter
+					.getGetterName(this.utils.getUpdatedAtColumn(referencedTable).get());
+			code.append(indent).append("if (").append(referenceExpression).append(" != null) {\n");
+			code.append(indent).append("\tlastModified = Math.max(lastModified, toEpochMilli(")
+					.append(referenceExpression).append(".").append(updatedAtGetterName).append("()));\n");
+			addLastModifiedReferencesCode(referencedTable, referenceExpression, indent + "\t", code);
+			code.append(indent).append("}\n");
+		}
+	}
+
+	private ColumnSO getPkColumn(TableSO table) {
+		for (ColumnSO column : table.getColumns()) {
+			if (column.isPkMember()) {
+				return column;
+			}
+		}
+		return null;
+	}
+
+	private String getForeignAttributeCodeBlock(TableSO table, DatabaseSO database, String basePackageName,
+			List<String> imports, Map<String, String> tableValues) {
+		StringBuilder code = new StringBuilder();
 		try {
 			List<ReferenceSO> refs = getReferencingTables(table, database);
 			if (refs.size() > 0) {
-				String template = getCodeFromTemplate(Files.readAllLines(
-						Paths.get(System.getProperty("restacf.template.path", "src/main/resources/templates/")
-								+ "RESTController-foreign-attributeCodeBlock.template")));
+				CompiledTemplate template = this.templateCache
+						.get("RESTController-foreign-attributeCodeBlock.template");
 				for (ReferenceSO ref : refs) {
 					TableSO refTable = ref.getReferencingColumn().getTable();
-					code += template;
+					Map<String, String> values = new HashMap<>(tableValues);
 					String dtoConverterClassName = this.utils.createDTOConverterClassSourceModel(refTable).getName();
-					code = code.replace("${foreign.dtoConverter.class.name}", dtoConverterClassName);
-					code = code.replace("${foreign.dtoConverter.attribute.name}",
+					values.put("foreign.dtoConverter.class.name", dtoConverterClassName);
+					values.put("foreign.dtoConverter.attribute.name",
 							this.nameConverter.classNameToAttrName(dtoConverterClassName));
-					imports.add("${base.package.name}." + this.utils.createDTOConverterPackageNameSuffix() + "."
+					imports.add(basePackageName + "." + this.utils.createDTOConverterPackageNameSuffix() + "."
 							+ dtoConverterClassName);
 					String serviceClassName = this.utils.createServiceInterfaceSourceModel(refTable).getName();
-					code = code.replace("${foreign.service.class.name}", serviceClassName);
-					code = code.replace("${foreign.service.attribute.name}",
+					values.put("foreign.service.class.name", serviceClassName);
+					values.put("foreign.service.attribute.name",
 							this.nameConverter.classNameToAttrName(serviceClassName));
-					imports.add("${base.package.name}." + this.utils.createServicePackageNameSuffix() + "."
+					imports.add(basePackageName + "." + this.utils.createServicePackageNameSuffix() + "."
 							+ serviceClassName);
+					template.render(values, code);
 				}
 			}
-		} catch (Exception e) {
+		} catch (IOException e) {
 			e.printStackTrace();
 		}
-		return code;
+		return code.toString();
 	}
 
-	private String getForeignFindXXXForYYYCodeBlock(TableSO table, DatabaseSO database, List<String> imports) {
-		String code = "";
+	private String getForeignFindXXXForYYYCodeBlock(TableSO table, DatabaseSO database, String basePackageName,
+			List<String> imports, Map<String, String> tableValues) {
+		StringBuilder code = new StringBuilder();
 		try {
 			List<ReferenceSO> refs = getReferencingTables(table, database);
 			if (refs.size() > 0) {
-				String template = getCodeFromTemplate(Files.readAllLines(
-						Paths.get(System.getProperty("restacf.template.path", "src/main/resources/templates/")
-								+ "RESTController-findXXXForYYY.template")));
+				CompiledTemplate template = this.templateCache.get("RESTController-findXXXForYYY.template");
 				for (ReferenceSO ref : refs) {
 					TableSO refTable = ref.getReferencingColumn().getTable();
-					code += template;
-					code = code.replace("${foreign.attribute.name}",
-							this.nameConverter.classNameToAttrName(refTable.getName()));
+					Map<String, String> values = new HashMap<>(tableValues);
+					values.put("foreign.attribute.name", this.nameConverter.classNameToAttrName(refTable.getName()));
 					String dtoClassName = this.utils.createDTOClassSourceModel(refTable).getName();
-					code = code.replace("${foreign.dto.class.name}", dtoClassName);
-					code = code.replace("${foreign.dto.attribute.name}",
-							this.nameConverter.classNameToAttrName(dtoClassName));
-					imports.add("${base.package.name}." + this.utils.createDTOPackageNameSuffix() + "." + dtoClassName);
+					values.put("foreign.dto.class.name", dtoClassName);
+					values.put("foreign.dto.attribute.name", this.nameConverter.classNameToAttrName(dtoClassName));
+					imports.add(basePackageName + "." + this.utils.createDTOPackageNameSuffix() + "." + dtoClassName);
 					String soClassName = this.utils.createSOClassSourceModel(refTable).getName();
-					code = code.replace("${foreign.so.class.name}", soClassName);
-					code = code.replace("${foreign.so.attribute.name}",
-							this.nameConverter.classNameToAttrName(soClassName));
-					imports.add("${base.package.name}." + this.utils.createSOPackageNameSuffix() + "." + soClassName);
+					values.put("foreign.so.class.name", soClassName);
+					values.put("foreign.so.attribute.name", this.nameConverter.classNameToAttrName(soClassName));
+					imports.add(basePackageName + "." + this.utils.createSOPackageNameSuffix() + "." + soClassName);
 					String dtoConverterClassName = this.utils.createDTOConverterClassSourceModel(refTable).getName();
-					code = code.replace("${foreign.dtoConverter.class.name}", dtoConverterClassName);
-					code = code.replace("${foreign.dtoConverter.attribute.name}",
+					values.put("foreign.dtoConverter.class.name", dtoConverterClassName);
+					values.put("foreign.dtoConverter.attribute.name",
 							this.nameConverter.classNameToAttrName(dtoConverterClassName));
 					String serviceClassName = this.utils.createServiceInterfaceSourceModel(refTable).getName();
-					code = code.replace("${foreign.service.class.name}", serviceClassName);
-					code = code.replace("${foreign.service.attribute.name}",
+					values.put("foreign.service.class.name", serviceClassName);
+					values.put("foreign.service.attribute.name",
 							this.nameConverter.classNameToAttrName(serviceClassName));
-					code = code.replace("${foreign.table.name}", this.nameConverter.getClassName(refTable));
+					values.put("foreign.table.name", this.nameConverter.getClassName(refTable));
+					template.render(values, code);
 				}
 			}
-		} catch (Exception e) {
+		} catch (IOException e) {
 			e.printStackTrace();
 		}
 		return code + (code.length() > 0 ? "\n" : "");
 	}
 
 	private List<ReferenceSO> getReferencingTables(TableSO table, DatabaseSO database) {
+		if ((this.foreignKeyIndex != null) && this.foreignKeyIndex.isIndexOf(database)) {
+			return this.foreignKeyIndex.getReferencingReferences(table);
+		}
 		List<ReferenceSO> refs = new ArrayList<>();
 		for (SchemeSO scheme : database.getSchemes()) {
 			for (TableSO t : scheme.getTables()) {
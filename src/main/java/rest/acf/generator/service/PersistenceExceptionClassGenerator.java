@@ -83,7 +83,7 @@ public class PersistenceExceptionClassGenerator {
 	private EnumTypeSourceModel createType() {
 		EnumTypeSourceModel etsm = new EnumTypeSourceModel();
 		etsm.setName("Type");
-		etsm.setIdentifiers(Arrays.asList("ReadError", "WriteError"));
+		etsm.setIdentifiers(Arrays.asList("InvalidSortError", "OptimisticLockError", "ReadError", "WriteError"));
 		etsm.addModifier(ModifierSourceModel.PUBLIC);
 		return etsm;
 	}
@@ -8,9 +8,11 @@ import org.apache.log4j.Logger;
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
 import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.InterfaceCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.InterfaceSourceModel;
 import rest.acf.model.MethodSourceModel;
@@ -24,7 +26,7 @@ import rest.acf.model.ThrownExceptionSourceModel;
  * @author ollie
  *
  */
-public class PersistencePortInterfaceGenerator {
+public class PersistencePortInterfaceGenerator implements InterfaceCodeFactory {
 
 	private static final Logger LOG = Logger.getLogger(PersistencePortInterfaceGenerator.class);
 
@@ -57,6 +59,7 @@ public class PersistencePortInterfaceGenerator {
 	 * @param authorName The name which should be inserted as author name.
 	 * @returns A persistence port interface for passed database table or a "null" value if a "null" value is passed.
 	 */
+	@Override
 	public InterfaceSourceModel generate(TableSO tableSO, String authorName) {
 		if (tableSO == null) {
 			return null;
@@ -69,10 +72,13 @@ public class PersistencePortInterfaceGenerator {
 		String pkAttrName = this.nameConverter.columnNameToAttributeName(pkMembers.get(0));
 		String pkClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(),
 				pkMembers.get(0).isNullable());
+		String pkObjectClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(), true);
 		String soClassName = this.classSourceModelUtils.createSOClassSourceModel(tableSO).getName();
 		String persistenceExceptionClassName = this.classSourceModelUtils.createPersistenceExceptionClassSourceModel()
 				.getName();
 		String soClassPackageName = this.classSourceModelUtils.createSOPackageNameSuffix();
+		String resultPageClassName = this.classSourceModelUtils.createResultPageSOClassSourceModel().getName();
+		String resultPageClassPackageName = this.classSourceModelUtils.createResultPageSOClassPackageNameSuffix();
 		String persistenceExceptionPackageName = this.classSourceModelUtils
 				.createPersistenceExceptionPackageNameSuffix();
 		InterfaceSourceModel ism = this.classSourceModelUtils.createPersistencePortInterfaceSourceModel(tableSO);
@@ -80,9 +86,14 @@ public class PersistencePortInterfaceGenerator {
 				"${base.package.name}." + this.classSourceModelUtils.createPersistencePortPackageNameSuffix()));
 		this.classSourceModelUtils.addImport(ism, "java.util", "List");
 		this.classSourceModelUtils.addImport(ism, "java.util", "Optional");
+		if (this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT)) {
+			this.classSourceModelUtils.addImport(ism, "java.util.function", "Consumer");
+		}
 		this.classSourceModelUtils.addImport(ism, "${base.package.name}." + persistenceExceptionPackageName,
 				persistenceExceptionClassName);
 		this.classSourceModelUtils.addImport(ism, "${base.package.name}." + soClassPackageName, soClassName);
+		this.classSourceModelUtils.addImport(ism, "${base.package.name}." + resultPageClassPackageName,
+				resultPageClassName);
 		ism.setComment(new ClassCommentSourceModel().setComment("/**\n" //
 				+ " * An interface for " + tableSO.getName().toLowerCase() + " persistence ports.\n" //
 				+ " *\n" //
@@ -91,11 +102,21 @@ public class PersistencePortInterfaceGenerator {
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
 		ism.getMethods().add(createDelete(pkClassName, pkAttrName, persistenceExceptionClassName));
-		ism.getMethods().add(createFindAll(soClassName, persistenceExceptionClassName));
+		ism.getMethods().add(createDeleteAll(pkObjectClassName, persistenceExceptionClassName));
+		if (this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT)) {
+			ism.getMethods().add(createExportAll(soClassName, persistenceExceptionClassName));
+		}
+		ism.getMethods().add(createFindAll(resultPageClassName, soClassName, persistenceExceptionClassName));
+		if (this.classSourceModelUtils.isKeysetPaginated(this.databaseSO, tableSO)) {
+			ism.getMethods().add(createFindAllAfter(soClassName, this.classSourceModelUtils.getKeysetType(tableSO),
+					persistenceExceptionClassName));
+		}
 		ism.getMethods().add(createFindById(soClassName, persistenceExceptionClassName));
 		ism.getMethods().add(createSave(soClassName, pkClassName, persistenceExceptionClassName));
+		ism.getMethods().add(createSaveAll(soClassName, pkObjectClassName, persistenceExceptionClassName));
 		this.classSourceModelUtils.getReferencedColumns(tableSO, this.databaseSO) //
-				.forEach(columnSO -> ism.getMethods().add(createFindXByY(columnSO, tableSO, soClassName)));
+				.forEach(columnSO -> ism.getMethods()
+						.add(createFindXByY(columnSO, tableSO, resultPageClassName, soClassName)));
 		return ism;
 	}
 
@@ -117,9 +138,37 @@ public class PersistencePortInterfaceGenerator {
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
 	}
 
-	private MethodSourceModel createFindAll(String soClassName, String persistenceExceptionClassName) {
+	private MethodSourceModel createExportAll(String soClassName, String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("exportAll") //
+				.setReturnType("void") //
+				.addParameters(
+						new ParameterSourceModel().setName("consumer").setType("Consumer<" + soClassName + ">")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
+	private MethodSourceModel createDeleteAll(String pkObjectClassName, String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("deleteAll") //
+				.setReturnType("int") //
+				.addParameters(new ParameterSourceModel().setName("ids").setType("List<" + pkObjectClassName + ">")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
+	private MethodSourceModel createFindAll(String resultPageClassName, String soClassName,
+			String persistenceExceptionClassName) {
 		return new MethodSourceModel().setName("findAll") //
+				.setReturnType(resultPageClassName + "<" + soClassName + ">") //
+				.addParameters(new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
+	private MethodSourceModel createFindAllAfter(String soClassName, String keysetType,
+			String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("findAllAfter") //
 				.setReturnType("List<" + soClassName + ">") //
+				.addParameters(new ParameterSourceModel().setName("after").setType(keysetType), //
+						new ParameterSourceModel().setName("size").setType("int")) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
 	}
 
@@ -137,14 +186,26 @@ public class PersistencePortInterfaceGenerator {
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
 	}
 
-	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String soClassName) {
+	private MethodSourceModel createSaveAll(String soClassName, String pkObjectClassName,
+			String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("saveAll") //
+				.setReturnType("List<" + pkObjectClassName + ">") //
+				.addParameters(new ParameterSourceModel().setName("sos").setType("List<" + soClassName + ">")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
+	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String resultPageClassName,
+			String soClassName) {
 		return new MethodSourceModel() //
 				.setName("find" + this.nameConverter.getPluralName(tableSO) + "For"
 						+ this.nameConverter.getSingularName(columnSO.getTable())) //
-				.setReturnType("List<" + soClassName + ">") //
+				.setReturnType(resultPageClassName + "<" + soClassName + ">") //
 				.addParameters(new ParameterSourceModel() //
 						.setName(this.nameConverter.columnNameToAttributeName(columnSO, true)) //
-						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable()))) //
+						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable())), //
+						new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
 		;
 	}
@@ -52,7 +52,7 @@ public class SOClassGenerator implements ClassCodeFactory {
 				+ " *\n" //
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
-		for (ColumnSO column : tableSO.getColumns()) {
+		for (ColumnSO column : this.classSourceModelUtils.getPersistentColumns(tableSO)) {
 			this.classSourceModelUtils
 					.addAttributeForColumn(csm, column, t -> this.nameConverter.tableNameToServiceObjectClassName(t))
 					.ifPresent(asm -> {
@@ -13,7 +13,9 @@ import rest.acf.ClassCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationSourceModel;
+import rest.acf.model.AnnotationValue;
 import rest.acf.model.AttributeSourceModel;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ClassSourceModel;
@@ -62,6 +64,7 @@ public class ServiceImplClassGenerator implements ClassCodeFactory {
 		String pkAttrName = this.nameConverter.columnNameToAttributeName(pkMembers.get(0));
 		String pkClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(),
 				pkMembers.get(0).isNullable());
+		String pkObjectClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(), true);
 		String persistenceExceptionClassName = this.classSourceModelUtils.createPersistenceExceptionClassSourceModel()
 				.getName();
 		String persistencePortClassName = this.classSourceModelUtils.createPersistencePortInterfaceSourceModel(tableSO)
@@ -80,7 +83,16 @@ public class ServiceImplClassGenerator implements ClassCodeFactory {
 				"${base.package.name}." + this.classSourceModelUtils.createServiceImplPackageNameSuffix()));
 		this.classSourceModelUtils.addImport(csm, "java.util", "List");
 		this.classSourceModelUtils.addImport(csm, "java.util", "Optional");
+		if (this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT)) {
+			this.classSourceModelUtils.addImport(csm, "java.util.function", "Consumer");
+		}
+		boolean metrics = this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.METRICS);
 		this.classSourceModelUtils.addImport(csm, "org.springframework.stereotype", "Service");
+		this.classSourceModelUtils.addImport(csm, "org.springframework.transaction.annotation", "Transactional");
+		if (metrics) {
+			this.classSourceModelUtils.addImport(csm, "io.micrometer.core.instrument", "MeterRegistry");
+			this.classSourceModelUtils.addImport(csm, "io.micrometer.core.instrument", "Timer");
+		}
 		this.classSourceModelUtils.addImport(csm, "${base.package.name}." + servicePackageName, serviceClassName);
 		this.classSourceModelUtils.addImport(csm, "${base.package.name}." + persistenceExceptionPackageName,
 				persistenceExceptionClassName);
@@ -109,20 +121,57 @@ public class ServiceImplClassGenerator implements ClassCodeFactory {
 							.setName(this.nameConverter.classNameToAttrName(persistencePortClassName))
 							.setType(persistencePortClassName));
 			String code = "\t\tsuper();\n" //
-					+ "\t\tthis." + persistencePortAttrName + " = " + persistencePortAttrName + ";\n" //
-					+ "\t}\n";
-			cosm.setCode(code);
+					+ "\t\tthis." + persistencePortAttrName + " = " + persistencePortAttrName + ";\n";
+			String meterRegistryAttrName = null;
+			if (metrics) {
+				AttributeSourceModel meterRegistryAttr = this.classSourceModelUtils
+						.addAttributeForClassName(csm, "MeterRegistry").get();
+				meterRegistryAttr.addModifier(ModifierSourceModel.PRIVATE, ModifierSourceModel.FINAL);
+				meterRegistryAttrName = meterRegistryAttr.getName();
+				cosm.getParameters().add(new ParameterSourceModel().setName(meterRegistryAttrName)
+						.setType("MeterRegistry"));
+				code += "\t\tthis." + meterRegistryAttrName + " = " + meterRegistryAttrName + ";\n";
+			}
+			cosm.setCode(code + "\t}\n");
 			csm.getConstructors().add(cosm);
-			csm.getMethods()
-					.add(createDelete(pkClassName, pkAttrName, persistencePortAttrName, persistenceExceptionClassName));
-			csm.getMethods().add(createFindAll(resultPageClassName, soClassName, persistencePortAttrName,
+			csm.getMethods().add(readWriteTransaction(
+					createDelete(pkClassName, pkAttrName, persistencePortAttrName, persistenceExceptionClassName),
+					persistenceExceptionClassName));
+			csm.getMethods().add(readWriteTransaction(
+					createDeleteAll(pkObjectClassName, persistencePortAttrName, persistenceExceptionClassName),
+					persistenceExceptionClassName));
+			if (this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT)) {
+				csm.getMethods().add(readOnlyTransaction(
+						createExportAll(soClassName, persistencePortAttrName, persistenceExceptionClassName)));
+			}
+			csm.getMethods().add(readOnlyTransaction(createFindAll(resultPageClassName, soClassName,
+					persistencePortAttrName, persistenceExceptionClassName)));
+			if (this.classSourceModelUtils.isKeysetPaginated(this.databaseSO, tableSO)) {
+				csm.getMethods().add(readOnlyTransaction(createFindAllAfter(resultPageClassName, soClassName,
+						this.classSourceModelUtils.getKeysetType(tableSO), persistencePortAttrName,
+						persistenceExceptionClassName)));
+			}
+			csm.getMethods().add(readOnlyTransaction(
+					createFindById(soClassName, persistencePortAttrName, persistenceExceptionClassName)));
+			csm.getMethods().add(readWriteTransaction(
+					createSave(soClassName, this.nameConverter.classNameToAttrName(tableSO.getName()),
+							persistencePortAttrName, persistenceExceptionClassName, pkClassName),
+					persistenceExceptionClassName));
+			csm.getMethods().add(readWriteTransaction(
+					createSaveAll(soClassName,
+							this.nameConverter.classNameToAttrName(this.nameConverter.getPluralName(tableSO)),
+							persistencePortAttrName, persistenceExceptionClassName, pkObjectClassName),
 					persistenceExceptionClassName));
-			csm.getMethods().add(createFindById(soClassName, persistencePortAttrName, persistenceExceptionClassName));
-			csm.getMethods().add(createSave(soClassName, this.nameConverter.classNameToAttrName(tableSO.getName()),
-					persistencePortAttrName, persistenceExceptionClassName, pkClassName));
 			this.classSourceModelUtils.getReferencedColumns(tableSO, this.databaseSO) //
-					.forEach(columnSO -> csm.getMethods()
-							.add(createFindXByY(columnSO, tableSO, soClassName, persistencePortAttrName)));
+					.forEach(columnSO -> csm.getMethods().add(readOnlyTransaction(
+							createFindXByY(columnSO, tableSO, soClassName, persistencePortAttrName))));
+			if (metrics) {
+				String tableTagValue = this.nameConverter.tableNameToMetricsTagValue(tableSO);
+				for (MethodSourceModel method : csm.getMethods()) {
+					this.classSourceModelUtils.addTimer(method, meterRegistryAttrName, "service.calls",
+							tableTagValue);
+				}
+			}
 		}
 		return csm;
 	}
@@ -137,6 +186,25 @@ public class ServiceImplClassGenerator implements ClassCodeFactory {
 		return pkMembers;
 	}
 
+	/**
+	 * Runs the passed method in a read only transaction, so the persistence context is not flushed or dirty checked.
+	 */
+	private MethodSourceModel readOnlyTransaction(MethodSourceModel method) {
+		this.classSourceModelUtils.addAnnotation(method, "Transactional", "readOnly",
+				new AnnotationValue().setQuoted(false).setValue("true"));
+		return method;
+	}
+
+	/**
+	 * Runs the passed method in a read-write transaction which is rolled back on persistence exceptions too (they are
+	 * checked exceptions).
+	 */
+	private MethodSourceModel readWriteTransaction(MethodSourceModel method, String persistenceExceptionClassName) {
+		this.classSourceModelUtils.addAnnotation(method, "Transactional", "rollbackFor",
+				new AnnotationValue().setQuoted(false).setValue(persistenceExceptionClassName + ".class"));
+		return method;
+	}
+
 	private MethodSourceModel createDelete(String pkClassName, String pkAttrName, String persistencePortAttrName,
 			String persistenceExceptionClassName) {
 		return new MethodSourceModel().setName("delete") //
@@ -150,23 +218,61 @@ public class ServiceImplClassGenerator implements ClassCodeFactory {
 								+ "\t}\n");
 	}
 
+	private MethodSourceModel createExportAll(String soClassName, String persistencePortAttrName,
+			String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("exportAll") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(
+						new ParameterSourceModel().setName("consumer").setType("Consumer<" + soClassName + ">")) //
+				.setReturnType("void") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName)) //
+				.setCode("\t\tthis." + persistencePortAttrName + ".exportAll(consumer);\n" //
+						+ "\t}\n");
+	}
+
+	private MethodSourceModel createDeleteAll(String pkObjectClassName, String persistencePortAttrName,
+			String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("deleteAll") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(new ParameterSourceModel().setName("ids").setType("List<" + pkObjectClassName + ">")) //
+				.setReturnType("int") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName)) //
+				.setCode( //
+						"\t\treturn this." + persistencePortAttrName + ".deleteAll(ids);\n" //
+								+ "\t}\n");
+	}
+
 	private MethodSourceModel createFindAll(String resultPageClassName, String soClassName,
 			String persistencePortAttrName, String persistenceExceptionClassName) {
 		String returnClassName = resultPageClassName + "<" + soClassName + ">";
 		return new MethodSourceModel().setName("findAll") //
 				.addModifiers(ModifierSourceModel.PUBLIC) //
 				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
+				.setReturnType(returnClassName) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName)) //
+				.setCode("\t\treturn this." + persistencePortAttrName + ".findAll(page, size, sort);\n" //
+						+ "\t}\n");
+	}
+
+	private MethodSourceModel createFindAllAfter(String resultPageClassName, String soClassName, String keysetType,
+			String persistencePortAttrName, String persistenceExceptionClassName) {
+		String returnClassName = resultPageClassName + "<" + soClassName + ">";
+		return new MethodSourceModel().setName("findAllAfter") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(new ParameterSourceModel().setName("after").setType(keysetType), //
+						new ParameterSourceModel().setName("size").setType("int")) //
 				.setReturnType(returnClassName) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName)) //
-				.setCode("\t\tList<" + soClassName + "> l = this." + persistencePortAttrName + ".findAll();\n" //
-						+ "\t\treturn new " + returnClassName
-						+ "().setCurrentPage(0).setResultsPerPage(l.size()).setResults(l).setTotalResults(l.size());\n"
+				.setCode("\t\tList<" + soClassName + "> l = this." + persistencePortAttrName
+						+ ".findAllAfter(after, size);\n" //
+						+ "\t\treturn new " + returnClassName + "().setResultsPerPage(size).setResults(l);\n" //
 						+ "\t}\n");
-		/*
-		 * List<RackSO> l = this.rackPersistencePort.findAll(); return new
-		 * ResultPageSO<RackSO>().setResults(l).setTotalResults(l.size());
-		 * 
-		 */
 	}
 
 	private MethodSourceModel createFindById(String soClassName, String persistencePortAttrName,
@@ -195,6 +301,19 @@ public class ServiceImplClassGenerator implements ClassCodeFactory {
 								+ "\t}\n");
 	}
 
+	private MethodSourceModel createSaveAll(String soClassName, String sosAttrName, String persistencePortAttrName,
+			String persistenceExceptionClassName, String pkObjectClassName) {
+		return new MethodSourceModel().setName("saveAll") //
+				.addModifiers(ModifierSourceModel.PUBLIC) //
+				.addAnnotations(new AnnotationSourceModel().setName("Override")) //
+				.addParameters(new ParameterSourceModel().setName(sosAttrName).setType("List<" + soClassName + ">")) //
+				.setReturnType("List<" + pkObjectClassName + ">") //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName)) //
+				.setCode( //
+						"\t\treturn this." + persistencePortAttrName + ".saveAll(" + sosAttrName + ");\n" //
+								+ "\t}\n");
+	}
+
 	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String soClassName,
 			String persistencePortAttrName) {
 		String methodName = "find" + this.nameConverter.getPluralName(tableSO) + "For"
@@ -207,12 +326,13 @@ public class ServiceImplClassGenerator implements ClassCodeFactory {
 				.setReturnType("ResultPageSO<" + soClassName + ">") //
 				.addParameters(new ParameterSourceModel() //
 						.setName(idParameterName) //
-						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable()))) //
+						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable())), //
+						new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
-				.setCode("\t\tList<" + soClassName + "> l = this." + persistencePortAttrName + "." + methodName + "("
-						+ idParameterName + ");\n" //
-						+ "\t\treturn new ResultPageSO<" + soClassName
-						+ ">().setCurrentPage(0).setResultsPerPage(l.size()).setResults(l).setTotalResults(l.size());\n" //
+				.setCode("\t\treturn this." + persistencePortAttrName + "." + methodName + "(" + idParameterName
+						+ ", page, size, sort);\n" //
 						+ "\t}\n") //
 		;
 	}
@@ -8,9 +8,11 @@ import org.apache.log4j.Logger;
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
 import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.InterfaceCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.InterfaceSourceModel;
 import rest.acf.model.MethodSourceModel;
@@ -24,7 +26,7 @@ import rest.acf.model.ThrownExceptionSourceModel;
  * @author ollie
  *
  */
-public class ServiceInterfaceGenerator {
+public class ServiceInterfaceGenerator implements InterfaceCodeFactory {
 
 	private static final Logger LOG = Logger.getLogger(ServiceInterfaceGenerator.class);
 
@@ -49,6 +51,7 @@ public class ServiceInterfaceGenerator {
 	 * @param authorName The name which should be inserted as author name.
 	 * @returns A service interface for passed database table or a "null" value if a "null" value is passed.
 	 */
+	@Override
 	public InterfaceSourceModel generate(TableSO tableSO, String authorName) {
 		if (tableSO == null) {
 			return null;
@@ -61,6 +64,7 @@ public class ServiceInterfaceGenerator {
 		String pkAttrName = this.nameConverter.columnNameToAttributeName(pkMembers.get(0));
 		String pkClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(),
 				pkMembers.get(0).isNullable());
+		String pkObjectClassName = this.typeConverter.typeSOToTypeString(pkMembers.get(0).getType(), true);
 		String persistenceExceptionClassName = this.classSourceModelUtils.createPersistenceExceptionClassSourceModel()
 				.getName();
 		String persistenceExceptionPackageName = this.classSourceModelUtils
@@ -72,7 +76,11 @@ public class ServiceInterfaceGenerator {
 		InterfaceSourceModel ism = this.classSourceModelUtils.createServiceInterfaceSourceModel(tableSO);
 		ism.setPackageModel(new PackageSourceModel()
 				.setPackageName("${base.package.name}." + this.classSourceModelUtils.createServicePackageNameSuffix()));
+		this.classSourceModelUtils.addImport(ism, "java.util", "List");
 		this.classSourceModelUtils.addImport(ism, "java.util", "Optional");
+		if (this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT)) {
+			this.classSourceModelUtils.addImport(ism, "java.util.function", "Consumer");
+		}
 		this.classSourceModelUtils.addImport(ism, "${base.package.name}." + persistenceExceptionPackageName,
 				persistenceExceptionClassName);
 		this.classSourceModelUtils.addImport(ism, "${base.package.name}." + soClassPackageName, soClassName);
@@ -86,10 +94,21 @@ public class ServiceInterfaceGenerator {
 				+ " * GENERATED CODE!!! DO NOT CHANGE!!!\n" //
 				+ " */\n"));
 		ism.getMethods().add(createDelete(pkClassName, pkAttrName, persistenceExceptionClassName));
+		ism.getMethods().add(createDeleteAll(pkObjectClassName, persistenceExceptionClassName));
+		if (this.classSourceModelUtils.isOptionSet(this.databaseSO, Options.NDJSON_EXPORT)) {
+			ism.getMethods().add(createExportAll(soClassName, persistenceExceptionClassName));
+		}
 		ism.getMethods().add(createFindAll(resultPageClassName, soClassName, persistenceExceptionClassName));
+		if (this.classSourceModelUtils.isKeysetPaginated(this.databaseSO, tableSO)) {
+			ism.getMethods().add(createFindAllAfter(resultPageClassName, soClassName,
+					this.classSourceModelUtils.getKeysetType(tableSO), persistenceExceptionClassName));
+		}
 		ism.getMethods().add(createFindById(soClassName, persistenceExceptionClassName));
 		ism.getMethods().add(createSave(soClassName, this.nameConverter.classNameToAttrName(tableSO.getName()),
 				persistenceExceptionClassName, pkClassName));
+		ism.getMethods().add(createSaveAll(soClassName,
+				this.nameConverter.classNameToAttrName(this.nameConverter.getPluralName(tableSO)),
+				persistenceExceptionClassName, pkObjectClassName));
 		this.classSourceModelUtils.getReferencedColumns(tableSO, this.databaseSO) //
 				.forEach(columnSO -> ism.getMethods().add(createFindXByY(columnSO, tableSO, soClassName)));
 		return ism;
@@ -113,10 +132,37 @@ public class ServiceInterfaceGenerator {
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
 	}
 
+	private MethodSourceModel createExportAll(String soClassName, String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("exportAll") //
+				.setReturnType("void") //
+				.addParameters(
+						new ParameterSourceModel().setName("consumer").setType("Consumer<" + soClassName + ">")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
+	private MethodSourceModel createDeleteAll(String pkObjectClassName, String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("deleteAll") //
+				.setReturnType("int") //
+				.addParameters(new ParameterSourceModel().setName("ids").setType("List<" + pkObjectClassName + ">")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
 	private MethodSourceModel createFindAll(String resultPageClassName, String soClassName,
 			String persistenceExceptionClassName) {
 		return new MethodSourceModel().setName("findAll") //
 				.setReturnType(resultPageClassName + "<" + soClassName + ">") //
+				.addParameters(new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
+	private MethodSourceModel createFindAllAfter(String resultPageClassName, String soClassName, String keysetType,
+			String persistenceExceptionClassName) {
+		return new MethodSourceModel().setName("findAllAfter") //
+				.setReturnType(resultPageClassName + "<" + soClassName + ">") //
+				.addParameters(new ParameterSourceModel().setName("after").setType(keysetType), //
+						new ParameterSourceModel().setName("size").setType("int")) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
 	}
 
@@ -135,6 +181,14 @@ public class ServiceInterfaceGenerator {
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
 	}
 
+	private MethodSourceModel createSaveAll(String soClassName, String sosAttrName,
+			String persistenceExceptionClassName, String pkObjectClassName) {
+		return new MethodSourceModel().setName("saveAll") //
+				.setReturnType("List<" + pkObjectClassName + ">") //
+				.addParameters(new ParameterSourceModel().setName(sosAttrName).setType("List<" + soClassName + ">")) //
+				.addThrownExceptions(new ThrownExceptionSourceModel().setName(persistenceExceptionClassName));
+	}
+
 	private MethodSourceModel createFindXByY(ColumnSO columnSO, TableSO tableSO, String soClassName) {
 		return new MethodSourceModel() //
 				.setName("find" + this.nameConverter.getPluralName(tableSO) + "For"
@@ -142,7 +196,10 @@ public class ServiceInterfaceGenerator {
 				.setReturnType("ResultPageSO<" + soClassName + ">") //
 				.addParameters(new ParameterSourceModel() //
 						.setName(this.nameConverter.columnNameToAttributeName(columnSO, true)) //
-						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable()))) //
+						.setType(this.typeConverter.typeSOToTypeString(columnSO.getType(), columnSO.isNullable())), //
+						new ParameterSourceModel().setName("page").setType("int"), //
+						new ParameterSourceModel().setName("size").setType("int"), //
+						new ParameterSourceModel().setName("sort").setType("String")) //
 				.addThrownExceptions(new ThrownExceptionSourceModel().setName("PersistenceException")) //
 		;
 	}
@@ -0,0 +1,95 @@
+package rest.acf.generator.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A template which is parsed once into literal segments and placeholder slots (see PlaceholderRenderer for the
+ * placeholder syntax).
+ * <p>
+ * Placeholders without a value are reported by an IllegalArgumentException.
+ *
+ * @author ollie
+ *
+ */
+public class CompiledTemplate {
+
+	private final List<Segment> segments;
+	private final int literalLength;
+
+	private CompiledTemplate(List<Segment> segments) {
+		super();
+		this.segments = Collections.unmodifiableList(segments);
+		int length = 0;
+		for (Segment segment : segments) {
+			length += segment.placeholderName == null ? segment.text.length() : 0;
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * Parses the passed template text.
+	 *
+	 * @param text The text of the template.
+	 * @return The compiled template for the passed text.
+	 */
+	public static CompiledTemplate compile(String text) {
+		List<Segment> segments = new ArrayList<>();
+		PlaceholderRenderer.scan(text, (start, end, placeholderName) -> segments
+				.add(new Segment(text.substring(start, end), placeholderName)));
+		return new CompiledTemplate(segments);
+	}
+
+	/**
+	 * Renders the template with the passed values.
+	 *
+	 * @param values The values for the placeholders (key: placeholder name).
+	 * @return The rendered template.
+	 * @throws IllegalArgumentException If there are placeholders without a value.
+	 */
+	public String render(Map<String, String> values) {
+		StringBuilder out = new StringBuilder(this.literalLength + 64 * this.segments.size());
+		render(values, out);
+		return out.toString();
+	}
+
+	/**
+	 * Renders the template with the passed values into the passed string builder.
+	 *
+	 * @param values The values for the placeholders (key: placeholder name).
+	 * @param out    The string builder which the rendered template is appended to.
+	 * @throws IllegalArgumentException If there are placeholders without a value.
+	 */
+	public void render(Map<String, String> values, StringBuilder out) {
+		Set<String> unresolved = null;
+		for (Segment segment : this.segments) {
+			if (segment.placeholderName == null) {
+				out.append(segment.text);
+			} else if (values.containsKey(segment.placeholderName)) {
+				out.append(values.get(segment.placeholderName));
+			} else {
+				unresolved = unresolved == null ? new LinkedHashSet<>() : unresolved;
+				unresolved.add(segment.placeholderName);
+			}
+		}
+		if (unresolved != null) {
+			PlaceholderRenderer.checkResolved(unresolved);
+		}
+	}
+	private static class Segment {
+
+		private final String text;
+		private final String placeholderName;
+
+		private Segment(String text, String placeholderName) {
+			this.text = text;
+			this.placeholderName = placeholderName;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package rest.acf.generator.template;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A renderer which replaces the placeholders of a text by the values of a context map in a single scan. Placeholders
+ * are written as "${name}". Block placeholders are written as "$^{name}" and consume a directly following line break,
+ * so an empty block removes the whole line.
+ * <p>
+ * Placeholder names are Java identifiers separated by dots, other "${...}" sequences are kept as they are.
+ * Placeholders without a value in the context map are reported by an IllegalArgumentException, unless the text is
+ * rendered leniently.
+ *
+ * @author ollie
+ *
+ */
+public class PlaceholderRenderer {
+
+	private static final String BLOCK_START = "$^{";
+	private static final String PLACEHOLDER_START = "${";
+
+	/**
+	 * A consumer for the segments of a scanned text.
+	 */
+	interface SegmentConsumer {
+
+		/**
+		 * Is called for each segment of the scanned text.
+		 *
+		 * @param start           The start index of the segment in the text.
+		 * @param end             The end index (exclusive) of the segment in the text.
+		 * @param placeholderName The name of the placeholder or "null" if the segment is a literal.
+		 */
+		void accept(int start, int end, String placeholderName);
+
+	}
+
+	private PlaceholderRenderer() {
+		super();
+	}
+
+	/**
+	 * Renders the passed text with the values of the passed context.
+	 *
+	 * @param text    The text whose placeholders are to replace.
+	 * @param context The values for the placeholders (key: placeholder name).
+	 * @return The rendered text.
+	 * @throws IllegalArgumentException If the text contains placeholders without a value in the context.
+	 */
+	public static String render(String text, Map<String, String> context) {
+		if (!text.contains(PLACEHOLDER_START) && !text.contains(BLOCK_START)) {
+			return text;
+		}
+		StringBuilder out = new StringBuilder(text.length() + 64);
+		render(text, context, out);
+		return out.toString();
+	}
+
+	/**
+	 * Renders the passed text with the values of the passed context into the passed string builder.
+	 *
+	 * @param text    The text whose placeholders are to replace.
+	 * @param context The values for the placeholders (key: placeholder name).
+	 * @param out     The string builder which the rendered text is appended to.
+	 * @throws IllegalArgumentException If the text contains placeholders without a value in the context.
+	 */
+	public static void render(String text, Map<String, String> context, StringBuilder out) {
+		Set<String> unresolved = new LinkedHashSet<>();
+		scan(text, (start, end, placeholderName) -> {
+			if (placeholderName == null) {
+				out.append(text, start, end);
+			} else if (context.containsKey(placeholderName)) {
+				out.append(context.get(placeholderName));
+			} else {
+				unresolved.add(placeholderName);
+			}
+		});
+		checkResolved(unresolved);
+	}
+
+	/**
+	 * Renders the passed text with the values of the passed context. Placeholders without a value in the context are
+	 * kept as they are.
+	 *
+	 * @param text    The text whose placeholders are to replace.
+	 * @param context The values for the placeholders (key: placeholder name).
+	 * @return The rendered text.
+	 */
+	public static String renderLenient(String text, Map<String, String> context) {
+		if (!text.contains(PLACEHOLDER_START) && !text.contains(BLOCK_START)) {
+			return text;
+		}
+		StringBuilder out = new StringBuilder(text.length() + 64);
+		scan(text, (start, end, placeholderName) -> {
+			if ((placeholderName != null) && context.containsKey(placeholderName)) {
+				out.append(context.get(placeholderName));
+			} else {
+				out.append(text, start, end);
+			}
+		});
+		return out.toString();
+	}
+
+	static void scan(String text, SegmentConsumer consumer) {
+		int position = 0;
+		int literalStart = 0;
+		while (position < text.length()) {
+			int placeholder = text.indexOf(PLACEHOLDER_START, position);
+			int block = text.indexOf(BLOCK_START, position);
+			int start = (placeholder < 0) || ((block >= 0) && (block < placeholder)) ? block : placeholder;
+			int end = start < 0 ? -1 : text.indexOf('}', start);
+			if (end < 0) {
+				break;
+			}
+			boolean isBlock = start == block;
+			String name = text.substring(start + (isBlock ? BLOCK_START : PLACEHOLDER_START).length(), end);
+			if (!isPlaceholderName(name)) {
+				position = start + 1;
+				continue;
+			}
+			if (start > literalStart) {
+				consumer.accept(literalStart, start, null);
+			}
+			end++;
+			if (isBlock && (end < text.length()) && (text.charAt(end) == '\n')) {
+				end++;
+			}
+			consumer.accept(start, end, name);
+			position = end;
+			literalStart = end;
+		}
+		if (literalStart < text.length()) {
+			consumer.accept(literalStart, text.length(), null);
+		}
+	}
+
+	/**
+	 * Checks if the passed name is a valid placeholder name, i. e. a sequence of Java identifiers separated by dots
+	 * (e. g. "base.package.name"). All other "${...}" sequences are kept as literals.
+	 */
+	static boolean isPlaceholderName(String name) {
+		for (String part : name.split("\\.", -1)) {
+			if (part.isEmpty() || !Character.isJavaIdentifierStart(part.charAt(0))) {
+				return false;
+			}
+			for (int i = 1; i < part.length(); i++) {
+				if (!Character.isJavaIdentifierPart(part.charAt(i))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	static void checkResolved(Collection<String> unresolvedPlaceholderNames) {
+		if (!unresolvedPlaceholderNames.isEmpty()) {
+			throw new IllegalArgumentException(
+					"unresolved placeholders: " + String.join(", ", unresolvedPlaceholderNames));
+		}
+	}
+
+}
\ No newline at end of file
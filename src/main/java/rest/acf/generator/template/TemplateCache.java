@@ -0,0 +1,91 @@
+package rest.acf.generator.template;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A cache for compiled templates. The template files are read from the directory defined by the system property
+ * "restacf.template.path" (default: "src/main/resources/templates/") when they are requested for the first time.
+ *
+ * @author ollie
+ *
+ */
+public class TemplateCache {
+
+	private final Map<Path, CachedTemplate> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the compiled template for the passed template file name.
+	 *
+	 * @param templateFileName The name of the template file.
+	 * @return The compiled template for the passed file name.
+	 * @throws IOException If the template file cannot be read.
+	 */
+	public CompiledTemplate get(String templateFileName) throws IOException {
+		Path path = Paths.get(getTemplatePath() + templateFileName);
+		CachedTemplate template = this.templates.get(path);
+		if (template == null) {
+			template = new CachedTemplate(readTemplate(path));
+			CachedTemplate cached = this.templates.putIfAbsent(path, template);
+			template = cached != null ? cached : template;
+		}
+		return template.compiledTemplate;
+	}
+
+	/**
+	 * Returns the names and the contents of all template files of the template directory in the order of their names.
+	 * The description changes whenever a template is added, removed or changed. Changed templates are read into the
+	 * cache again, so the description always matches the templates which are rendered.
+	 *
+	 * @return The names and the contents of all template files of the template directory.
+	 * @throws IOException If the template directory or a template file cannot be read.
+	 */
+	public String getTemplatesDescription() throws IOException {
+		List<Path> paths;
+		try (Stream<Path> files = Files.list(Paths.get(getTemplatePath()))) {
+			paths = files.filter(path -> path.getFileName().toString().endsWith(".template")).sorted()
+					.collect(Collectors.toList());
+		}
+		StringBuilder description = new StringBuilder();
+		for (Path path : paths) {
+			String text = readTemplate(path);
+			CachedTemplate cached = this.templates.get(path);
+			if ((cached != null) && !cached.text.equals(text)) {
+				this.templates.put(path, new CachedTemplate(text));
+			}
+			description.append("template:").append(path.getFileName()).append("\n");
+			description.append(text).append("\n");
+		}
+		return description.toString();
+	}
+
+	private String readTemplate(Path path) throws IOException {
+		StringBuilder text = new StringBuilder();
+		Files.readAllLines(path).forEach(s -> text.append(s).append("\n"));
+		return text.toString();
+	}
+
+	private String getTemplatePath() {
+		return System.getProperty("restacf.template.path", "src/main/resources/templates/");
+	}
+
+	private static class CachedTemplate {
+
+		private final String text;
+		private final CompiledTemplate compiledTemplate;
+
+		private CachedTemplate(String text) {
+			this.text = text;
+			this.compiledTemplate = CompiledTemplate.compile(text);
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -1,8 +1,13 @@
 package rest.acf.generator.utils;
 
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.log4j.Logger;
 
@@ -12,6 +17,7 @@ import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
 import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
 import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import de.ollie.archimedes.alexandrian.service.so.TypeSO;
 import rest.acf.RESTServerCodeFactory;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
@@ -23,6 +29,7 @@ import rest.acf.model.ClassSourceModel;
 import rest.acf.model.ImportBearer;
 import rest.acf.model.ImportSourceModel;
 import rest.acf.model.InterfaceSourceModel;
+import rest.acf.model.MethodSourceModel;
 import rest.acf.model.ModifierSourceModel;
 import rest.acf.model.PackageSourceModel;
 import rest.acf.model.PropertySourceModel;
@@ -35,11 +42,27 @@ import rest.acf.model.PropertySourceModel;
  */
 public class ClassSourceModelUtils {
 
+	/**
+	 * The name of the timestamp column of the last update which is added to the tables with the option ETAG.
+	 */
+	public static final String UPDATED_AT_COLUMN_NAME = "UPDATED_AT";
+	/**
+	 * The name of the version column which is added to the tables with the option OPTIMISTIC_LOCKING.
+	 */
+	public static final String VERSION_COLUMN_NAME = "VERSION";
+
 	private static final Logger LOG = Logger.getLogger(RESTServerCodeFactory.class);
 
+	private static final List<String> CACHE_CONCURRENCY_STRATEGIES = Arrays.asList("NONSTRICT_READ_WRITE", "READ_ONLY",
+			"READ_WRITE", "TRANSACTIONAL");
+	private static final String DEFAULT_CACHE_CONCURRENCY_STRATEGY = "READ_WRITE";
+	private static final List<String> KEYSET_TYPES = Arrays.asList("byte", "int", "long", "short");
+
 	private final NameConverter nameConverter;
 	private final TypeConverter typeConverter;
 
+	private ForeignKeyIndex foreignKeyIndex;
+
 	/**
 	 * Create a new class source model utility.
 	 *
@@ -55,6 +78,18 @@ public class ClassSourceModelUtils {
 		this.typeConverter = typeConverter;
 	}
 
+	/**
+	 * Sets a foreign key index which is used instead of the scans over the model for the foreign key lookups in the
+	 * database the index has been built for.
+	 *
+	 * @param foreignKeyIndex The foreign key index to use.
+	 * @return The class source model utility itself.
+	 */
+	public ClassSourceModelUtils setForeignKeyIndex(ForeignKeyIndex foreignKeyIndex) {
+		this.foreignKeyIndex = foreignKeyIndex;
+		return this;
+	}
+
 	/**
 	 * Adds an import for the passed package name and class to the passed class source model.
 	 * 
@@ -490,6 +525,10 @@ public class ClassSourceModelUtils {
 		if (column == null) {
 			return null;
 		}
+		if ((this.foreignKeyIndex != null) && this.foreignKeyIndex.contains(column.getTable())) {
+			List<ForeignKeySO> fks = this.foreignKeyIndex.getForeignKeys(column);
+			return fks.toArray(new ForeignKeySO[fks.size()]);
+		}
 		List<ForeignKeySO> fks = new ArrayList<>();
 		for (ForeignKeySO fk : column.getTable().getForeignKeys()) {
 			for (ReferenceSO reference : fk.getReferences()) {
@@ -517,6 +556,326 @@ public class ClassSourceModelUtils {
 		return Optional.empty();
 	}
 
+	/**
+	 * Checks if the option with the passed name is set for the passed database. An option is set if it is present and
+	 * its value is not "false".
+	 *
+	 * @param databaseSO The database service object whose options are to check.
+	 * @param optionName The name of the option to check.
+	 * @return "true" if the option is set for the passed database, "false" otherwise.
+	 */
+	public boolean isOptionSet(DatabaseSO databaseSO, String optionName) {
+		return (databaseSO != null) && databaseSO.getOptionByName(optionName) //
+				.map(option -> !"false".equalsIgnoreCase(String.valueOf(option.getValue()).trim())) //
+				.orElse(false);
+	}
+
+	/**
+	 * Checks if the option with the passed name is set for the passed table. An option is set if it is present and its
+	 * value is not "false".
+	 *
+	 * @param tableSO    The table service object whose options are to check.
+	 * @param optionName The name of the option to check.
+	 * @return "true" if the option is set for the passed table, "false" otherwise.
+	 */
+	public boolean isOptionSet(TableSO tableSO, String optionName) {
+		String value = getTableOptionValue(tableSO, optionName, null);
+		return (value != null) && !"false".equalsIgnoreCase(value);
+	}
+
+	/**
+	 * Returns the value of the option with the passed name as a positive int.
+	 *
+	 * @param databaseSO   The database service object whose options are to check.
+	 * @param optionName   The name of the option whose value is to return.
+	 * @param defaultValue The value which is returned if the option is not present or its value is not a positive
+	 *                     number.
+	 * @return The value of the option or the default value.
+	 */
+	public int getIntOptionValue(DatabaseSO databaseSO, String optionName, int defaultValue) {
+		if (databaseSO == null) {
+			return defaultValue;
+		}
+		return databaseSO.getOptionByName(optionName) //
+				.map(option -> String.valueOf(option.getValue()).trim()) //
+				.filter(value -> value.matches("\\d{1,9}")) //
+				.map(Integer::parseInt) //
+				.filter(value -> value > 0) //
+				.orElse(defaultValue);
+	}
+
+	/**
+	 * Returns the value of the table option with the passed name.
+	 *
+	 * @param tableSO      The table service object whose options are to check.
+	 * @param optionName   The name of the option whose value is to return.
+	 * @param defaultValue The value which is returned if the option is not present.
+	 * @return The trimmed value of the option or the default value.
+	 */
+	public String getTableOptionValue(TableSO tableSO, String optionName, String defaultValue) {
+		if ((tableSO == null) || (tableSO.getMetaInfo() == null) || (tableSO.getMetaInfo().getOptions() == null)) {
+			return defaultValue;
+		}
+		return tableSO.getOptionByName(optionName) //
+				.filter(option -> option.getValue() != null) //
+				.map(option -> option.getValue().trim()) //
+				.orElse(defaultValue);
+	}
+
+	/**
+	 * Checks if the references of the passed table are to be fetched lazily (see table option FETCH_STRATEGY).
+	 *
+	 * @param tableSO The table service object to check.
+	 * @return "true" if the references of the table are fetched lazily, "false" otherwise.
+	 */
+	public boolean isLazyFetched(TableSO tableSO) {
+		String strategy = getTableOptionValue(tableSO, Options.FETCH_STRATEGY, "");
+		return Options.FETCH_STRATEGY_ENTITY_GRAPH.equalsIgnoreCase(strategy)
+				|| Options.FETCH_STRATEGY_JOIN_FETCH.equalsIgnoreCase(strategy);
+	}
+
+	/**
+	 * Returns the cache concurrency strategy of the passed table (see table option CACHE).
+	 *
+	 * @param tableSO The table service object whose cache concurrency strategy is to return.
+	 * @return The cache concurrency strategy of the table.
+	 */
+	public String getCacheConcurrencyStrategy(TableSO tableSO) {
+		String strategy = getTableOptionValue(tableSO, Options.CACHE, "").toUpperCase();
+		return CACHE_CONCURRENCY_STRATEGIES.contains(strategy) ? strategy : DEFAULT_CACHE_CONCURRENCY_STRATEGY;
+	}
+
+	/**
+	 * Checks if at least one table of the passed database is cached (see table option CACHE).
+	 *
+	 * @param databaseSO The database service object whose tables are to check.
+	 * @return "true" if at least one table of the database is cached, "false" otherwise.
+	 */
+	public boolean isAnyTableCached(DatabaseSO databaseSO) {
+		return (databaseSO != null) && databaseSO.getSchemes().stream() //
+				.flatMap(scheme -> scheme.getTables().stream()) //
+				.anyMatch(table -> isOptionSet(table, Options.CACHE));
+	}
+
+	/**
+	 * Wraps the code of the passed method into a Micrometer timer sample (see database option METRICS). The timer is
+	 * tagged with the table and the name of the method and is stopped even if the method throws an exception.
+	 *
+	 * @param method                The method whose code is to time.
+	 * @param meterRegistryAttrName The name of the meter registry attribute of the class.
+	 * @param timerName             The name of the timer.
+	 * @param tableTagValue         The value of the "table" tag of the timer.
+	 * @return The passed method.
+	 */
+	public MethodSourceModel addTimer(MethodSourceModel method, String meterRegistryAttrName, String timerName,
+			String tableTagValue) {
+		String code = method.getCode();
+		if (code.endsWith("\t}\n")) {
+			code = code.substring(0, code.length() - 3);
+		}
+		StringBuilder timedCode = new StringBuilder() //
+				.append("\t\tTimer.Sample sample = Timer.start(this.").append(meterRegistryAttrName).append(");\n") //
+				.append("\t\ttry {\n");
+		for (String line : code.split("\n")) {
+			timedCode.append(line.isEmpty() ? "" : "\t").append(line).append("\n");
+		}
+		timedCode.append("\t\t} finally {\n") //
+				.append("\t\t\tsample.stop(this.").append(meterRegistryAttrName).append(".timer(\"").append(timerName)
+				.append("\", \"table\", \"").append(tableTagValue).append("\", \"method\", \"")
+				.append(method.getName()).append("\"));\n") //
+				.append("\t\t}\n") //
+				.append("\t}\n");
+		return method.setCode(timedCode.toString());
+	}
+
+	/**
+	 * Returns the timestamp column of the last update of the passed table (see table option ETAG). A column with the
+	 * name UPDATED_AT of the table is used if there is one, otherwise a TIMESTAMP column is created which is not added
+	 * to the table.
+	 *
+	 * @param tableSO The table service object whose timestamp column of the last update is to return.
+	 * @return The timestamp column of the last update or an empty optional if the table is not ETagged (see
+	 *         isETagged(TableSO)).
+	 */
+	public Optional<ColumnSO> getUpdatedAtColumn(TableSO tableSO) {
+		if (!isETagged(tableSO)) {
+			return Optional.empty();
+		}
+		return getOptionColumn(tableSO, Options.ETAG, UPDATED_AT_COLUMN_NAME, Types.TIMESTAMP);
+	}
+
+	/**
+	 * Checks if the option ETAG is effective for the passed table. This is the case if the table has the option and
+	 * the changes of all objects which are embedded into its DTO's are tracked, i. e. the referenced tables are ETagged
+	 * too, down the whole reference chain. References which are passed by their keys (see table option
+	 * DTO_REFERENCES_BY_ID) need no tracking, reference cycles cannot be tracked.
+	 *
+	 * @param tableSO The table service object to check.
+	 * @return "true" if the option ETAG is effective for the passed table, "false" otherwise.
+	 */
+	public boolean isETagged(TableSO tableSO) {
+		return isETagged(tableSO, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	private boolean isETagged(TableSO tableSO, Set<TableSO> referencingTables) {
+		if (!isOptionSet(tableSO, Options.ETAG) || !referencingTables.add(tableSO)) {
+			return false;
+		}
+		for (ReferenceSO reference : getEmbeddedReferences(tableSO)) {
+			if (!isETagged(reference.getReferencedColumn().getTable(), referencingTables)) {
+				return false;
+			}
+		}
+		referencingTables.remove(tableSO);
+		return true;
+	}
+
+	/**
+	 * Returns the references of the passed table whose referenced objects are embedded into the DTO's of the table.
+	 * These are the references of the single column foreign keys, unless the table has the option
+	 * DTO_REFERENCES_BY_ID.
+	 *
+	 * @param tableSO The table service object whose embedded references are to return.
+	 * @return The references whose referenced objects are embedded into the DTO's of the table.
+	 */
+	public List<ReferenceSO> getEmbeddedReferences(TableSO tableSO) {
+		List<ReferenceSO> references = new ArrayList<>();
+		if ((tableSO.getForeignKeys() == null) || tableSO.getForeignKeys().isEmpty()
+				|| isOptionSet(tableSO, Options.DTO_REFERENCES_BY_ID)) {
+			return references;
+		}
+		for (ColumnSO column : tableSO.getColumns()) {
+			ForeignKeySO[] foreignKeys = getForeignkeyByColumn(column);
+			if ((foreignKeys.length == 1) && (foreignKeys[0].getReferences().size() == 1)) {
+				references.add(foreignKeys[0].getReferences().get(0));
+			}
+		}
+		return references;
+	}
+
+	/**
+	 * Checks if the passed column is the timestamp column of the last update of its table (see table option ETAG).
+	 *
+	 * @param column The column service object to check.
+	 * @return "true" if the column is the timestamp column of the last update, "false" otherwise.
+	 */
+	public boolean isUpdatedAtColumn(ColumnSO column) {
+		return (column != null) && UPDATED_AT_COLUMN_NAME.equalsIgnoreCase(column.getName())
+				&& isETagged(column.getTable());
+	}
+
+	/**
+	 * Returns the version column of the passed table (see table option OPTIMISTIC_LOCKING). A column with the name
+	 * VERSION of the table is used if there is one, otherwise a BIGINT column is created which is not added to the
+	 * table.
+	 *
+	 * @param tableSO The table service object whose version column is to return.
+	 * @return The version column or an empty optional if the table has no option OPTIMISTIC_LOCKING.
+	 */
+	public Optional<ColumnSO> getVersionColumn(TableSO tableSO) {
+		return getOptionColumn(tableSO, Options.OPTIMISTIC_LOCKING, VERSION_COLUMN_NAME, Types.BIGINT);
+	}
+
+	/**
+	 * Checks if the passed column is the version column of its table (see table option OPTIMISTIC_LOCKING).
+	 *
+	 * @param column The column service object to check.
+	 * @return "true" if the column is the version column, "false" otherwise.
+	 */
+	public boolean isVersionColumn(ColumnSO column) {
+		return (column != null) && VERSION_COLUMN_NAME.equalsIgnoreCase(column.getName())
+				&& isOptionSet(column.getTable(), Options.OPTIMISTIC_LOCKING);
+	}
+
+	/**
+	 * Returns the column which the keyset pagination of the passed table is based on (see database option
+	 * KEYSET_PAGINATION). This is the primary key column of the table, if the table has a single primary key column of
+	 * an integral type.
+	 *
+	 * @param tableSO The table service object whose keyset column is to return.
+	 * @return The keyset column or an empty optional if the table cannot be keyset paginated.
+	 */
+	public Optional<ColumnSO> getKeysetColumn(TableSO tableSO) {
+		ColumnSO keysetColumn = null;
+		for (ColumnSO column : tableSO.getColumns()) {
+			if (column.isPkMember()) {
+				if (keysetColumn != null) {
+					return Optional.empty();
+				}
+				keysetColumn = column;
+			}
+		}
+		return Optional.ofNullable(keysetColumn)
+				.filter(column -> KEYSET_TYPES.contains(this.typeConverter.typeSOToTypeString(column.getType(), false)));
+	}
+
+	/**
+	 * Returns the (primitive) Java type of the keyset column of the passed table, e. g. "long".
+	 *
+	 * @param tableSO The table service object whose keyset type is to return.
+	 * @return The Java type of the keyset column or a "null" value if the table cannot be keyset paginated.
+	 */
+	public String getKeysetType(TableSO tableSO) {
+		return getKeysetColumn(tableSO).map(column -> this.typeConverter.typeSOToTypeString(column.getType(), false))
+				.orElse(null);
+	}
+
+	/**
+	 * Checks if keyset paginated finders are to generate for the passed table. This is the case if the database option
+	 * KEYSET_PAGINATION is set and the table has a keyset column (see getKeysetColumn(TableSO)).
+	 *
+	 * @param databaseSO The database service object which the table belongs to.
+	 * @param tableSO    The table service object to check.
+	 * @return "true" if keyset paginated finders are to generate for the table, "false" otherwise.
+	 */
+	public boolean isKeysetPaginated(DatabaseSO databaseSO, TableSO tableSO) {
+		return isOptionSet(databaseSO, Options.KEYSET_PAGINATION) && getKeysetColumn(tableSO).isPresent();
+	}
+
+	private Optional<ColumnSO> getOptionColumn(TableSO tableSO, String optionName, String columnName, int sqlType) {
+		if (!isOptionSet(tableSO, optionName)) {
+			return Optional.empty();
+		}
+		for (ColumnSO column : tableSO.getColumns()) {
+			if (columnName.equalsIgnoreCase(column.getName())) {
+				return Optional.of(column);
+			}
+		}
+		return Optional.of(new ColumnSO().setName(columnName).setType(new TypeSO().setSqlType(sqlType))
+				.setNullable(true).setTable(tableSO));
+	}
+
+	/**
+	 * Returns the columns of the passed table which are stored in the database. These are the columns of the table,
+	 * the timestamp column of the last update if the table has the option ETAG and the version column if the table
+	 * has the option OPTIMISTIC_LOCKING.
+	 *
+	 * @param tableSO The table service object whose stored columns are to return.
+	 * @return The columns of the table which are stored in the database.
+	 */
+	public List<ColumnSO> getPersistentColumns(TableSO tableSO) {
+		List<ColumnSO> columns = getTransferredColumns(tableSO);
+		addIfAbsent(columns, getUpdatedAtColumn(tableSO));
+		return columns;
+	}
+
+	/**
+	 * Returns the columns of the passed table which are passed to the clients by the DTO's. These are the columns of
+	 * the table and the version column if the table has the option OPTIMISTIC_LOCKING.
+	 *
+	 * @param tableSO The table service object whose transferred columns are to return.
+	 * @return The columns of the table which are passed to the clients.
+	 */
+	public List<ColumnSO> getTransferredColumns(TableSO tableSO) {
+		List<ColumnSO> columns = new ArrayList<>(tableSO.getColumns());
+		addIfAbsent(columns, getVersionColumn(tableSO));
+		return columns;
+	}
+
+	private void addIfAbsent(List<ColumnSO> columns, Optional<ColumnSO> column) {
+		column.filter(c -> columns.stream().noneMatch(cc -> cc == c)).ifPresent(columns::add);
+	}
+
 	/**
 	 * Returns all column service object of the database service object which are referenced by the passed table.
 	 * 
@@ -525,6 +884,9 @@ public class ClassSourceModelUtils {
 	 * @return All column which are referenced by the passed table or an empty list, if there are no columns found.
 	 */
 	public List<ColumnSO> getReferencedColumns(TableSO tableSO, DatabaseSO databaseSO) {
+		if ((this.foreignKeyIndex != null) && this.foreignKeyIndex.isIndexOf(databaseSO)) {
+			return new ArrayList<>(this.foreignKeyIndex.getReferencedColumns(tableSO));
+		}
 		List<ColumnSO> l = new ArrayList<>();
 		for (SchemeSO schemeSO : databaseSO.getSchemes()) {
 			for (TableSO table : schemeSO.getTables()) {
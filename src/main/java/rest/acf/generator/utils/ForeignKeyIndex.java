@@ -0,0 +1,116 @@
+package rest.acf.generator.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+
+/**
+ * An index of the foreign keys of a database service object. The index is built once for a database and replaces the
+ * scans over all schemes, tables, foreign keys and references. The database must not be changed after the index has
+ * been built.
+ * <p>
+ * The lists returned by the index are unmodifiable and have the same order as the results of the scans.
+ *
+ * @author ollie
+ *
+ */
+public class ForeignKeyIndex {
+
+	private final DatabaseSO databaseSO;
+	private final Set<TableSO> tables = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<TableSO, List<ColumnSO>> referencedColumnsByReferencingTable = new IdentityHashMap<>();
+	private final Map<TableSO, List<ReferenceSO>> referencesByReferencedTable = new IdentityHashMap<>();
+	private final Map<ColumnSO, List<ForeignKeySO>> foreignKeysByReferencingColumn = new IdentityHashMap<>();
+
+	/**
+	 * Builds a new foreign key index for the passed database service object.
+	 *
+	 * @param databaseSO The database service object which the index is to build for.
+	 */
+	public ForeignKeyIndex(DatabaseSO databaseSO) {
+		super();
+		this.databaseSO = databaseSO;
+		for (SchemeSO scheme : databaseSO.getSchemes()) {
+			for (TableSO table : scheme.getTables()) {
+				this.tables.add(table);
+				for (ForeignKeySO foreignKey : table.getForeignKeys()) {
+					for (ReferenceSO reference : foreignKey.getReferences()) {
+						this.referencedColumnsByReferencingTable
+								.computeIfAbsent(reference.getReferencingColumn().getTable(), t -> new ArrayList<>())
+								.add(reference.getReferencedColumn());
+						this.referencesByReferencedTable
+								.computeIfAbsent(reference.getReferencedColumn().getTable(), t -> new ArrayList<>())
+								.add(reference);
+						this.foreignKeysByReferencingColumn
+								.computeIfAbsent(reference.getReferencingColumn(), c -> new ArrayList<>())
+								.add(foreignKey);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks if the index has been built for the passed database service object.
+	 *
+	 * @param databaseSO The database service object to check.
+	 * @return "true" if the index has been built for the passed database service object.
+	 */
+	public boolean isIndexOf(DatabaseSO databaseSO) {
+		return this.databaseSO == databaseSO;
+	}
+
+	/**
+	 * Checks if the passed table service object is covered by the index.
+	 *
+	 * @param tableSO The table service object to check.
+	 * @return "true" if the passed table service object is covered by the index.
+	 */
+	public boolean contains(TableSO tableSO) {
+		return this.tables.contains(tableSO);
+	}
+
+	/**
+	 * Returns the columns which are referenced by the foreign keys of the passed table (referencing to referenced).
+	 *
+	 * @param tableSO The referencing table.
+	 * @return The columns which are referenced by the passed table or an empty list.
+	 */
+	public List<ColumnSO> getReferencedColumns(TableSO tableSO) {
+		return Collections.unmodifiableList(
+				this.referencedColumnsByReferencingTable.getOrDefault(tableSO, Collections.emptyList()));
+	}
+
+	/**
+	 * Returns the references which reference a column of the passed table (referenced to referencing).
+	 *
+	 * @param tableSO The referenced table.
+	 * @return The references which reference a column of the passed table or an empty list.
+	 */
+	public List<ReferenceSO> getReferencingReferences(TableSO tableSO) {
+		return Collections.unmodifiableList(
+				this.referencesByReferencedTable.getOrDefault(tableSO, Collections.emptyList()));
+	}
+
+	/**
+	 * Returns the foreign keys which the passed column is a referencing column of.
+	 *
+	 * @param columnSO The referencing column.
+	 * @return The foreign keys which the passed column is a referencing column of or an empty list.
+	 */
+	public List<ForeignKeySO> getForeignKeys(ColumnSO columnSO) {
+		return Collections.unmodifiableList(
+				this.foreignKeysByReferencingColumn.getOrDefault(columnSO, Collections.emptyList()));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package rest.acf.generator.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+
+/**
+ * A builder for fingerprints of a database model. The fingerprints are used to detect the tables whose generated code
+ * has to be regenerated.
+ *
+ * @author ollie
+ *
+ */
+public class ModelFingerprintBuilder {
+
+	/**
+	 * The key of the fingerprint which covers the model wide settings (generator version, base package name, database
+	 * options).
+	 */
+	public static final String DATABASE_KEY = "database";
+
+	private static final String TABLE_KEY_PREFIX = "table.";
+
+	private final ClassSourceModelUtils classSourceModelUtils;
+
+	/**
+	 * Creates a new model fingerprint builder.
+	 *
+	 * @param classSourceModelUtils An access to the class source model utils.
+	 */
+	public ModelFingerprintBuilder(ClassSourceModelUtils classSourceModelUtils) {
+		super();
+		this.classSourceModelUtils = classSourceModelUtils;
+	}
+
+	/**
+	 * Builds the fingerprints for the passed database service object. The fingerprint of a table covers the table
+	 * itself and the tables which are referenced by or are referencing the table, because their names and keys are
+	 * part of the code generated for the table. The fingerprint of a table with the option ETAG covers the whole chain
+	 * of the embedded references too (see ClassSourceModelUtils.isETagged(TableSO)).
+	 *
+	 * @param databaseSO       The database service object whose fingerprints are to build.
+	 * @param basePackageName  The base package name of the generated code.
+	 * @param generatorVersion The version of the generator.
+	 * @return A map with the fingerprints for the database (key: DATABASE_KEY) and the tables (key: see
+	 *         getTableKey()).
+	 */
+	public Map<String, String> build(DatabaseSO databaseSO, String basePackageName, String generatorVersion) {
+		Map<String, String> fingerprints = new TreeMap<>();
+		fingerprints.put(DATABASE_KEY, hash(getDatabaseDescription(databaseSO, basePackageName, generatorVersion)));
+		Map<TableSO, String> descriptions = new IdentityHashMap<>();
+		Map<TableSO, List<TableSO>> neighbours = new IdentityHashMap<>();
+		for (SchemeSO scheme : databaseSO.getSchemes()) {
+			for (TableSO table : scheme.getTables()) {
+				descriptions.put(table, getTableDescription(table));
+				neighbours.computeIfAbsent(table, t -> new ArrayList<>());
+				for (ColumnSO column : this.classSourceModelUtils.getReferencedColumns(table, databaseSO)) {
+					TableSO referencedTable = column.getTable();
+					neighbours.get(table).add(referencedTable);
+					neighbours.computeIfAbsent(referencedTable, t -> new ArrayList<>()).add(table);
+				}
+			}
+		}
+		for (SchemeSO scheme : databaseSO.getSchemes()) {
+			for (TableSO table : scheme.getTables()) {
+				StringBuilder description = new StringBuilder(descriptions.get(table));
+				for (TableSO neighbour : neighbours.get(table)) {
+					description.append("neighbour:").append(descriptions.getOrDefault(neighbour, neighbour.getName()));
+				}
+				if (this.classSourceModelUtils.isOptionSet(table, Options.ETAG)) {
+					appendEmbeddedReferenceChain(table, descriptions, description,
+							Collections.newSetFromMap(new IdentityHashMap<>()));
+				}
+				fingerprints.put(getTableKey(scheme, table), hash(description.toString()));
+			}
+		}
+		return fingerprints;
+	}
+
+	private void appendEmbeddedReferenceChain(TableSO table, Map<TableSO, String> descriptions,
+			StringBuilder description, Set<TableSO> visitedTables) {
+		if (!visitedTables.add(table)) {
+			return;
+		}
+		for (ReferenceSO reference : this.classSourceModelUtils.getEmbeddedReferences(table)) {
+			TableSO referencedTable = reference.getReferencedColumn().getTable();
+			description.append("embedded:")
+					.append(descriptions.getOrDefault(referencedTable, referencedTable.getName()));
+			appendEmbeddedReferenceChain(referencedTable, descriptions, description, visitedTables);
+		}
+	}
+
+	/**
+	 * Returns the key of the fingerprint for the passed table.
+	 *
+	 * @param scheme The scheme which the table belongs to.
+	 * @param table  The table whose fingerprint key is to return.
+	 * @return The key of the fingerprint for the passed table.
+	 */
+	public String getTableKey(SchemeSO scheme, TableSO table) {
+		return TABLE_KEY_PREFIX + scheme.getName() + "." + table.getName();
+	}
+
+	/**
+	 * Returns the name of the table whose fingerprint is stored under the passed key.
+	 *
+	 * @param key The key of the fingerprint.
+	 * @return The name of the table or "null" if the passed key is not the key of a table fingerprint.
+	 */
+	public String getTableName(String key) {
+		return key.startsWith(TABLE_KEY_PREFIX) ? key.substring(key.lastIndexOf('.') + 1) : null;
+	}
+
+	private String getDatabaseDescription(DatabaseSO databaseSO, String basePackageName, String generatorVersion) {
+		StringBuilder sb = new StringBuilder("version:").append(generatorVersion).append("\n");
+		sb.append("database:").append(databaseSO.getName()).append("\n");
+		sb.append("package:").append(basePackageName).append("\n");
+		TreeSet<String> options = new TreeSet<>();
+		for (SchemeSO scheme : databaseSO.getSchemes()) {
+			options.add("scheme:" + scheme.getName());
+		}
+		if (databaseSO.getOptions() != null) {
+			databaseSO.getOptions().forEach(o -> options.add(getOptionDescription(o)));
+		}
+		options.forEach(s -> sb.append(s).append("\n"));
+		return sb.toString();
+	}
+
+	private String getTableDescription(TableSO table) {
+		StringBuilder sb = new StringBuilder("table:").append(table.getName()).append("\n");
+		if ((table.getMetaInfo() != null) && (table.getMetaInfo().getOptions() != null)) {
+			TreeSet<String> options = new TreeSet<>();
+			table.getMetaInfo().getOptions().forEach(o -> options.add(getOptionDescription(o)));
+			options.forEach(s -> sb.append(s).append("\n"));
+		}
+		for (ColumnSO column : table.getColumns()) {
+			sb.append("column:").append(column.getName()) //
+					.append("|").append(column.getType().getSqlType()) //
+					.append("|").append(column.getType().getLength()) //
+					.append("|").append(column.getType().getPrecision()) //
+					.append("|").append(column.isPkMember()) //
+					.append("|").append(column.isNullable()) //
+					.append("|").append(column.isUnique()) //
+					.append("\n");
+		}
+		for (ForeignKeySO foreignKey : table.getForeignKeys()) {
+			for (ReferenceSO reference : foreignKey.getReferences()) {
+				sb.append("reference:").append(reference.getReferencingColumn().getName()) //
+						.append("->").append(reference.getReferencedColumn().getTable().getName()) //
+						.append(".").append(reference.getReferencedColumn().getName()) //
+						.append("\n");
+			}
+		}
+		return sb.toString();
+	}
+
+	private String getOptionDescription(OptionSO option) {
+		return "option:" + option.getName() + "=" + option.getValue();
+	}
+
+	private String hash(String s) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by the JVM.", e);
+		}
+	}
+
+}
\ No newline at end of file
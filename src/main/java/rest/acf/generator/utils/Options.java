@@ -0,0 +1,101 @@
+package rest.acf.generator.utils;
+
+/**
+ * The names of the database and table model options which are evaluated by the generators.
+ *
+ * @author ollie
+ *
+ */
+public class Options {
+
+	/**
+	 * Database option: Generates keyset paginated list endpoints ("GET ...?cursor=") in addition to the offset
+	 * paginated ones. The endpoints are generated for the tables with a single primary key column of an integral type
+	 * only.
+	 */
+	public static final String KEYSET_PAGINATION = "KEYSET_PAGINATION";
+	/**
+	 * Database option: Generates an endpoint ("GET .../export") which streams all rows of a table as newline delimited
+	 * JSON.
+	 */
+	public static final String NDJSON_EXPORT = "NDJSON_EXPORT";
+	/**
+	 * Database option: Sets the JDBC batch size of Hibernate and orders inserts and updates, so they can be batched.
+	 * The value is the batch size (default: 50).
+	 */
+	public static final String JDBC_BATCH_SIZE = "JDBC_BATCH_SIZE";
+	/**
+	 * Database option: Generates pooled sequence generators for the primary keys. The value is the allocation size of
+	 * the sequences (default: 50).
+	 */
+	public static final String SEQUENCE_ALLOCATION_SIZE = "SEQUENCE_ALLOCATION_SIZE";
+	/**
+	 * Database option: The maximum number of ids which are passed in one DELETE statement by the bulk delete (default:
+	 * 1000).
+	 */
+	public static final String DELETE_CHUNK_SIZE = "DELETE_CHUNK_SIZE";
+	/**
+	 * Database option: The maximum number of entries per region of the second level cache (default: 10000).
+	 */
+	public static final String CACHE_MAXIMUM_SIZE = "CACHE_MAXIMUM_SIZE";
+	/**
+	 * Database option: The number of seconds after which the entries of the second level cache expire (default: 3600).
+	 */
+	public static final String CACHE_EXPIRY_SECONDS = "CACHE_EXPIRY_SECONDS";
+	/**
+	 * Database option: Instruments the REST controllers, the services and the persistence adapters with Micrometer
+	 * timers and exposes the metrics for Prometheus by the actuator.
+	 */
+	public static final String METRICS = "METRICS";
+	/**
+	 * Database option: The maximum length of the index and constraint names of the initial Liquibase script, e. g. 63
+	 * for PostgreSQL (default: 30). Longer names are shortened and end with a hash of the whole name.
+	 */
+	public static final String MAX_IDENTIFIER_LENGTH = "MAX_IDENTIFIER_LENGTH";
+	/**
+	 * Table option: Fetches the references of the table lazily. The value is the strategy which loads the references
+	 * of the finder queries in one statement ("ENTITY_GRAPH" or "JOIN_FETCH"). The references are fetched eagerly for
+	 * all other values.
+	 */
+	public static final String FETCH_STRATEGY = "FETCH_STRATEGY";
+	/**
+	 * Value of the table option FETCH_STRATEGY: The finder queries are annotated with entity graphs.
+	 */
+	public static final String FETCH_STRATEGY_ENTITY_GRAPH = "ENTITY_GRAPH";
+	/**
+	 * Value of the table option FETCH_STRATEGY: The finder queries fetch the references by "LEFT JOIN FETCH".
+	 */
+	public static final String FETCH_STRATEGY_JOIN_FETCH = "JOIN_FETCH";
+	/**
+	 * Table option: The DTO's of the table carry the keys of the referenced objects (e. g. "rackId") instead of the
+	 * referenced DTO's.
+	 */
+	public static final String DTO_REFERENCES_BY_ID = "DTO_REFERENCES_BY_ID";
+	/**
+	 * Table option: Caches the rows of the table in the second level cache and marks the finder queries of the table as
+	 * cacheable. The value is the cache concurrency strategy (READ_ONLY, NONSTRICT_READ_WRITE, READ_WRITE or
+	 * TRANSACTIONAL), any other value means READ_WRITE.
+	 */
+	public static final String CACHE = "CACHE";
+	/**
+	 * Table option: Adds a timestamp column of the last update (UPDATED_AT) to the table and answers conditional GET
+	 * requests (If-None-Match, If-Modified-Since) of the REST controller with "304 Not Modified". The option is
+	 * ignored if not all tables whose objects are embedded into the DTO's of the table have the option too.
+	 */
+	public static final String ETAG = "ETAG";
+	/**
+	 * Table option: Adds a version column (VERSION) to the table which is checked by Hibernate on updates. Concurrent
+	 * modifications and updates without a version are answered with "409 Conflict" by the REST controller.
+	 */
+	public static final String OPTIMISTIC_LOCKING = "OPTIMISTIC_LOCKING";
+	/**
+	 * Table option: Additional (composite) indices of the table which are created by the initial Liquibase script. The
+	 * indices are separated by semicolons, the columns of an index by commas (e. g. "RACK,TITLE;TITLE").
+	 */
+	public static final String INDEXES = "INDEXES";
+
+	private Options() {
+		super();
+	}
+
+}
\ No newline at end of file
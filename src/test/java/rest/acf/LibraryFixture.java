@@ -0,0 +1,60 @@
+package rest.acf;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+
+/**
+ * A small library model for the generator tests.
+ *
+ * @author ollie
+ *
+ */
+public class LibraryFixture {
+
+	private LibraryFixture() {
+		super();
+	}
+
+	/**
+	 * Creates a library database with a table BOOK (ID, RACK, TITLE) which references a table RACK (ID). The BOOK table
+	 * is the first table of the scheme.
+	 *
+	 * @param bookIdType      The type of the primary key column of the BOOK table.
+	 * @param bookOptions     The options of the BOOK table.
+	 * @param databaseOptions The options of the database.
+	 * @return The library database.
+	 */
+	public static DatabaseSO createLibrary(TypeSO bookIdType, List<OptionSO> bookOptions,
+			OptionSO... databaseOptions) {
+		ColumnSO rackId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookId = new ColumnSO().setName("ID").setPkMember(true).setType(bookIdType);
+		ColumnSO bookRack = new ColumnSO().setName("RACK").setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookTitle = new ColumnSO().setName("TITLE")
+				.setType(new TypeSO().setSqlType(Types.VARCHAR).setLength(100));
+		TableSO rack = new TableSO().setName("RACK").setColumns(Arrays.asList(rackId))
+				.setForeignKeys(new ArrayList<>());
+		TableSO book = new TableSO().setName("BOOK").setColumns(Arrays.asList(bookId, bookRack, bookTitle))
+				.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+						Arrays.asList(new ReferenceSO().setReferencedColumn(rackId).setReferencingColumn(bookRack)))))
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>(bookOptions)));
+		rackId.setTable(rack);
+		bookId.setTable(book);
+		bookRack.setTable(book);
+		bookTitle.setTable(book);
+		return new DatabaseSO().setName("Library").setOptions(new ArrayList<>(Arrays.asList(databaseOptions)))
+				.setSchemes(Arrays.asList(new SchemeSO().setName("public").setTables(Arrays.asList(book, rack))));
+	}
+
+}
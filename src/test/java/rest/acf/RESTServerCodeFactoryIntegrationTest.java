@@ -8,6 +8,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.equalTo;
 
@@ -21,6 +24,7 @@ import archimedes.legacy.scheme.Diagramm;
 import archimedes.model.DataModel;
 import archimedes.scheme.Option;
 import archimedes.scheme.xml.ModelXMLReader;
+import rest.acf.generator.utils.Options;
 
 /**
  * An integration test for class "RESTServerCodeFactory".
@@ -31,6 +35,7 @@ import archimedes.scheme.xml.ModelXMLReader;
 @ExtendWith(MockitoExtension.class)
 public class RESTServerCodeFactoryIntegrationTest {
 
+	private static final String NDJSON_EXPORT_RESOURCES = "src/test/resources/ndjson-export";
 	private static final String OUTPUT_PATH = "target/test/output/src/main/java";
 
 	private RESTServerCodeFactory unitUnderTest;
@@ -527,4 +532,139 @@ public class RESTServerCodeFactoryIntegrationTest {
 		assertThat(new File(generatedPath.toString()).exists(), equalTo(false));
 	}
 
+	@Test
+	public void generate_PassADataModelWithParallelGeneration_CreatesTheSameFilesAsTheSequentialGeneration()
+			throws Exception {
+		ModelXMLReader reader = new ModelXMLReader(new ArchimedesObjectFactory());
+		assertParallelGenerationEqualsSequentialGeneration(
+				(Diagramm) reader.read("src/test/resources/library.xml"),
+				(Diagramm) reader.read("src/test/resources/library.xml"));
+	}
+
+	@Test
+	public void generate_PassASyntheticDataModelWithParallelGeneration_CreatesTheSameFilesAsTheSequentialGeneration()
+			throws Exception {
+		SyntheticModelBuilder builder = new SyntheticModelBuilder().setSeed(42L).setTableCount(50)
+				.setMaxForeignKeysPerTable(3).setHubTableCount(2).setHubReferenceRatio(0.5D);
+		assertParallelGenerationEqualsSequentialGeneration(builder.buildDataModel(), builder.buildDataModel());
+	}
+
+	@Test
+	public void generate_PassALargeSyntheticDataModel_CreatesAllClassFiles() throws Exception {
+		String outputPath = "target/test/output-synthetic/src/main/java";
+		if (new File(outputPath).exists()) {
+			Files.walk(Paths.get(outputPath)).sorted(Comparator.reverseOrder()).map(Path::toFile)
+					.forEach(File::delete);
+		}
+		int tableCount = 250;
+		DataModel dm = new SyntheticModelBuilder().setSeed(42L).setTableCount(tableCount).setMaxForeignKeysPerTable(3)
+				.setHubTableCount(5).setHubReferenceRatio(0.5D).buildDataModel();
+		this.unitUnderTest.setDataModel(dm);
+		this.unitUnderTest.generate(outputPath);
+		long javaFileCount = Files.walk(Paths.get(outputPath)).filter(p -> p.toString().endsWith(".java")).count();
+		assertThat(javaFileCount, equalTo(11L * tableCount + 4L));
+	}
+
+	@Test
+	public void generate_PassADataModelWithNDJSON_EXPORT_CreatesCorrectBookRepositoryInterfaceFile() throws Exception {
+		generateLibrary(new Option(Options.NDJSON_EXPORT, "true"));
+		assertGeneratedFileEquals(NDJSON_EXPORT_RESOURCES, "persistence", "repository", "BookRepository.java");
+	}
+
+	@Test
+	public void generate_PassADataModelWithNDJSON_EXPORT_CreatesCorrectBookPersistencePortInterfaceFile()
+			throws Exception {
+		generateLibrary(new Option(Options.NDJSON_EXPORT, "true"));
+		assertGeneratedFileEquals(NDJSON_EXPORT_RESOURCES, "service", "persistence", "port",
+				"BookPersistencePort.java");
+	}
+
+	@Test
+	public void generate_PassADataModelWithNDJSON_EXPORT_CreatesCorrectBookPersistenceAdapterClassFile()
+			throws Exception {
+		generateLibrary(new Option(Options.NDJSON_EXPORT, "true"));
+		assertGeneratedFileEquals(NDJSON_EXPORT_RESOURCES, "persistence", "adapter",
+				"BookRDBMSPersistenceAdapter.java");
+	}
+
+	@Test
+	public void generate_PassADataModelWithNDJSON_EXPORT_CreatesCorrectBookServiceInterfaceFile() throws Exception {
+		generateLibrary(new Option(Options.NDJSON_EXPORT, "true"));
+		assertGeneratedFileEquals(NDJSON_EXPORT_RESOURCES, "service", "BookService.java");
+	}
+
+	@Test
+	public void generate_PassADataModelWithNDJSON_EXPORT_CreatesCorrectBookServiceImplClassFile() throws Exception {
+		generateLibrary(new Option(Options.NDJSON_EXPORT, "true"));
+		assertGeneratedFileEquals(NDJSON_EXPORT_RESOURCES, "service", "impl", "BookServiceImpl.java");
+	}
+
+	@Test
+	public void generate_PassADataModelWithNDJSON_EXPORT_CreatesCorrectBookRESTControllerClassFile() throws Exception {
+		generateLibrary(new Option(Options.NDJSON_EXPORT, "true"));
+		assertGeneratedFileEquals(NDJSON_EXPORT_RESOURCES, "rest", "v1", "controller", "BookRESTController.java");
+	}
+
+	private void generateLibrary(Option... options) throws Exception {
+		if (new File(OUTPUT_PATH).exists()) {
+			Files.walk(Paths.get(OUTPUT_PATH)).sorted(Comparator.reverseOrder()).map(Path::toFile)
+					.forEach(File::delete);
+		}
+		ModelXMLReader reader = new ModelXMLReader(new ArchimedesObjectFactory());
+		DataModel dm = (Diagramm) reader.read("src/test/resources/library.xml");
+		for (Option option : options) {
+			dm.addOption(option);
+		}
+		this.unitUnderTest.setDataModel(dm);
+		this.unitUnderTest.generate(OUTPUT_PATH);
+	}
+
+	private void assertGeneratedFileEquals(String resourcePath, String... path) throws Exception {
+		Path expectedPath = Paths.get(resourcePath, "de", "ollie", "library");
+		Path generatedPath = Paths.get(OUTPUT_PATH, "de", "ollie", "library");
+		for (String s : path) {
+			expectedPath = expectedPath.resolve(s);
+			generatedPath = generatedPath.resolve(s);
+		}
+		assertEquals(new String(Files.readAllBytes(expectedPath)), new String(Files.readAllBytes(generatedPath)));
+	}
+
+	private void assertParallelGenerationEqualsSequentialGeneration(DataModel sequentialDataModel,
+			DataModel parallelDataModel) throws Exception {
+		Path sequentialPath = Paths.get("target/test/output-sequential");
+		Path parallelPath = Paths.get("target/test/output-parallel");
+		deleteDirectory(sequentialPath);
+		deleteDirectory(parallelPath);
+		RESTServerCodeFactory sequentialFactory = new RESTServerCodeFactory();
+		sequentialFactory.setDataModel(sequentialDataModel);
+		sequentialFactory.generate(sequentialPath.resolve("src/main/java").toString());
+		RESTServerCodeFactory parallelFactory = new RESTServerCodeFactory();
+		parallelFactory.setDataModel(parallelDataModel);
+		System.setProperty(RESTServerCodeFactory.GENERATION_THREADS_PROPERTY, "4");
+		try {
+			parallelFactory.generate(parallelPath.resolve("src/main/java").toString());
+		} finally {
+			System.clearProperty(RESTServerCodeFactory.GENERATION_THREADS_PROPERTY);
+		}
+		List<Path> sequentialFiles = getRelativeFilePaths(sequentialPath);
+		assertThat(sequentialFiles.isEmpty(), equalTo(false));
+		assertEquals(sequentialFiles, getRelativeFilePaths(parallelPath));
+		for (Path file : sequentialFiles) {
+			assertEquals(new String(Files.readAllBytes(sequentialPath.resolve(file))),
+					new String(Files.readAllBytes(parallelPath.resolve(file))), file.toString());
+		}
+	}
+
+	private void deleteDirectory(Path path) throws Exception {
+		if (Files.exists(path)) {
+			Files.walk(path).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	private List<Path> getRelativeFilePaths(Path root) throws Exception {
+		try (Stream<Path> paths = Files.walk(root)) {
+			return paths.filter(Files::isRegularFile).map(root::relativize).sorted().collect(Collectors.toList());
+		}
+	}
+
 }
\ No newline at end of file
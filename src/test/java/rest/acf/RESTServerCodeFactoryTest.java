@@ -4,12 +4,28 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 import static org.hamcrest.Matchers.equalTo;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+
 /**
  * Unit tests of class "RESTServerCodeFactory".
  * 
@@ -19,9 +35,37 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 public class RESTServerCodeFactoryTest {
 
+	private static final byte[] GENERATED_CONTENT = ("// " + RESTServerCodeFactory.DO_NOT_CHANGE_TAG + "\nclass A {}\n")
+			.getBytes();
+	private static final FileTime MODIFICATION_TIME = FileTime.fromMillis(1000000000000L);
+
 	@InjectMocks
 	private RESTServerCodeFactory unitUnderTest;
 
+	private Path directory;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		this.directory = Files.createTempDirectory("restacf-write");
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		Files.walk(this.directory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+	}
+
+	private Path createFile(byte[] content) throws Exception {
+		Path path = Files.write(this.directory.resolve("A.java"), content);
+		Files.setLastModifiedTime(path, MODIFICATION_TIME);
+		return path;
+	}
+
+	private void assertFileCounts(int written, int skipped, int protectedFiles) {
+		assertThat(this.unitUnderTest.getWrittenFileCount(), equalTo(written));
+		assertThat(this.unitUnderTest.getSkippedFileCount(), equalTo(skipped));
+		assertThat(this.unitUnderTest.getProtectedFileCount(), equalTo(protectedFiles));
+	}
+
 	@Test
 	@Disabled
 	public void generate_PassANullValue_ReturnsFalse() {
@@ -33,4 +77,129 @@ public class RESTServerCodeFactoryTest {
 		assertThat(returned, equalTo(expected));
 	}
 
+	@Test
+	public void getGeneratedTableFiles_PassATable_ReturnsThePathsOfAllFilesGeneratedForTheTable() {
+		// Prepare
+		String p = "out/de/ollie/library/";
+		List<Path> expected = Arrays.asList( //
+				Paths.get(p + "rest/v1/controller/BookRESTController.java"), //
+				Paths.get(p + "persistence/dbo/BookDBO.java"), //
+				Paths.get(p + "persistence/converter/BookDBOConverter.java"), //
+				Paths.get(p + "rest/v1/dto/BookDTO.java"), //
+				Paths.get(p + "rest/v1/converter/BookDTOConverter.java"), //
+				Paths.get(p + "service/so/BookSO.java"), //
+				Paths.get(p + "persistence/adapter/BookRDBMSPersistenceAdapter.java"), //
+				Paths.get(p + "service/impl/BookServiceImpl.java"), //
+				Paths.get(p + "persistence/repository/BookRepository.java"), //
+				Paths.get(p + "service/persistence/port/BookPersistencePort.java"), //
+				Paths.get(p + "service/BookService.java") //
+		);
+		// Run
+		List<Path> returned = this.unitUnderTest.getGeneratedTableFiles("out", "de.ollie.library",
+				new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new TableSO().setName("BOOK"));
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
+	@Test
+	public void writeFile_PassAPathOfANotExistingFile_WritesTheFile() throws Exception {
+		// Prepare
+		Path path = this.directory.resolve("A.java");
+		// Run
+		this.unitUnderTest.writeFile(path, GENERATED_CONTENT);
+		// Check
+		assertThat(Files.readAllBytes(path), equalTo(GENERATED_CONTENT));
+		assertFileCounts(1, 0, 0);
+	}
+
+	@Test
+	public void writeFile_PassTheContentOfTheExistingFile_SkipsTheFileAndKeepsItsModificationTime() throws Exception {
+		// Prepare
+		Path path = createFile(GENERATED_CONTENT);
+		// Run
+		this.unitUnderTest.writeFile(path, GENERATED_CONTENT.clone());
+		// Check
+		assertThat(Files.readAllBytes(path), equalTo(GENERATED_CONTENT));
+		assertThat(Files.getLastModifiedTime(path), equalTo(MODIFICATION_TIME));
+		assertFileCounts(0, 1, 0);
+	}
+
+	@Test
+	public void writeFile_PassChangedContentForAGeneratedFile_RewritesTheFile() throws Exception {
+		// Prepare
+		byte[] content = ("// " + RESTServerCodeFactory.DO_NOT_CHANGE_TAG + "\nclass B extends A {}\n").getBytes();
+		Path path = createFile(GENERATED_CONTENT);
+		// Run
+		this.unitUnderTest.writeFile(path, content);
+		// Check
+		assertThat(Files.readAllBytes(path), equalTo(content));
+		assertFileCounts(1, 0, 0);
+	}
+
+	@Test
+	public void writeFile_PassContentOfTheSameLengthWithOtherBytes_RewritesTheFile() throws Exception {
+		// Prepare
+		byte[] content = ("// " + RESTServerCodeFactory.DO_NOT_CHANGE_TAG + "\nclass B {}\n").getBytes();
+		Path path = createFile(GENERATED_CONTENT);
+		// Run
+		this.unitUnderTest.writeFile(path, content);
+		// Check
+		assertThat(content.length, equalTo(GENERATED_CONTENT.length));
+		assertThat(Files.readAllBytes(path), equalTo(content));
+		assertFileCounts(1, 0, 0);
+	}
+
+	@Test
+	public void writeFile_PassChangedContentForAFileWithoutTag_ProtectsTheFile() throws Exception {
+		// Prepare
+		byte[] userContent = "class A { /* changed by hand */ }\n".getBytes();
+		Path path = createFile(userContent);
+		// Run
+		this.unitUnderTest.writeFile(path, GENERATED_CONTENT);
+		// Check
+		assertThat(Files.readAllBytes(path), equalTo(userContent));
+		assertThat(Files.getLastModifiedTime(path), equalTo(MODIFICATION_TIME));
+		assertFileCounts(0, 0, 1);
+	}
+
+	@Test
+	public void writeFile_PassContentForAnEmptyFile_ProtectsTheFileAsAFileWithoutTag() throws Exception {
+		// Prepare
+		Path path = createFile(new byte[0]);
+		// Run
+		this.unitUnderTest.writeFile(path, GENERATED_CONTENT);
+		// Check
+		assertThat(Files.size(path), equalTo(0L));
+		assertFileCounts(0, 0, 1);
+	}
+
+	@Test
+	public void writeFile_PassEmptyContentForAnEmptyFile_SkipsTheFile() throws Exception {
+		// Prepare
+		Path path = createFile(new byte[0]);
+		// Run
+		this.unitUnderTest.writeFile(path, new byte[0]);
+		// Check
+		assertThat(Files.getLastModifiedTime(path), equalTo(MODIFICATION_TIME));
+		assertFileCounts(0, 1, 0);
+	}
+
+	@Test
+	public void writeFile_PassSeveralFiles_CountsTheWrittenSkippedAndProtectedFiles() throws Exception {
+		// Prepare
+		Path unchanged = Files.write(this.directory.resolve("Unchanged.java"), GENERATED_CONTENT);
+		Path changed = Files.write(this.directory.resolve("Changed.java"), GENERATED_CONTENT);
+		Path userFile = Files.write(this.directory.resolve("User.java"), "class User {}\n".getBytes());
+		byte[] changedContent = ("// " + RESTServerCodeFactory.DO_NOT_CHANGE_TAG + "\nclass Changed {}\n")
+				.getBytes();
+		// Run
+		this.unitUnderTest.writeFile(unchanged, GENERATED_CONTENT);
+		this.unitUnderTest.writeFile(changed, changedContent);
+		this.unitUnderTest.writeFile(userFile, GENERATED_CONTENT);
+		this.unitUnderTest.writeFile(this.directory.resolve("New.java"), GENERATED_CONTENT);
+		this.unitUnderTest.writeFile(unchanged, GENERATED_CONTENT);
+		// Check
+		assertFileCounts(2, 2, 1);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package rest.acf;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import archimedes.model.ColumnModel;
+import archimedes.model.DataModel;
+import archimedes.model.DomainModel;
+import archimedes.model.OptionModel;
+import archimedes.model.TableModel;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import rest.acf.generator.converter.DataModelToSOConverter;
+
+/**
+ * A builder for synthetic data models of any size, e. g. for scale tests and benchmarks. The models built with the
+ * same settings (including the seed) are equal.
+ * <p>
+ * Every table has a primary key column "ID", a number of data columns with types from the type mix and up to
+ * "maxForeignKeysPerTable" foreign key columns (fan-out). Foreign keys reference only preceding tables, so the
+ * references are free of cycles. The share of references to the first "hubTableCount" tables is controlled by the
+ * "hubReferenceRatio" (fan-in).
+ *
+ * @author ollie
+ *
+ */
+@Accessors(chain = true)
+@Data
+public class SyntheticModelBuilder {
+
+	/**
+	 * The default type mix: SQL type, length and decimal places.
+	 */
+	public static final int[][] DEFAULT_TYPE_MIX = new int[][] { //
+			{ Types.BIGINT, 0, 0 }, //
+			{ Types.BIT, 0, 0 }, //
+			{ Types.DATE, 0, 0 }, //
+			{ Types.INTEGER, 0, 0 }, //
+			{ Types.NUMERIC, 10, 2 }, //
+			{ Types.TIMESTAMP, 0, 0 }, //
+			{ Types.VARCHAR, 100, 0 }, //
+			{ Types.VARCHAR, 255, 0 } //
+	};
+
+	private long seed = 1L;
+	private String name = "Synthetic";
+	private String basePackageName = "de.ollie.synthetic";
+	private int tableCount = 100;
+	private int minColumnCount = 2;
+	private int maxColumnCount = 8;
+	private int[][] typeMix = DEFAULT_TYPE_MIX;
+	private double nullableRatio = 0.5D;
+	private int maxForeignKeysPerTable = 2;
+	private int hubTableCount = 0;
+	private double hubReferenceRatio = 0.0D;
+
+	/**
+	 * Builds a data model with the current settings.
+	 *
+	 * @return A data model with the current settings.
+	 */
+	public DataModel buildDataModel() {
+		Random random = new Random(this.seed);
+		Map<String, DomainModel> domains = new HashMap<>();
+		DomainModel ident = getDomain(domains, new int[] { Types.BIGINT, 0, 0 });
+		TableModel[] tables = new TableModel[this.tableCount];
+		ColumnModel[] primaryKeys = new ColumnModel[this.tableCount];
+		for (int i = 0; i < this.tableCount; i++) {
+			List<ColumnModel> columns = new ArrayList<>();
+			primaryKeys[i] = createColumn("ID", ident, true, true, null, null);
+			columns.add(primaryKeys[i]);
+			int columnCount = this.minColumnCount
+					+ random.nextInt(Math.max(1, this.maxColumnCount - this.minColumnCount + 1));
+			for (int j = 0; j < columnCount; j++) {
+				columns.add(createColumn(String.format("COLUMN_%02d", j),
+						getDomain(domains, this.typeMix[random.nextInt(this.typeMix.length)]), false,
+						random.nextDouble() >= this.nullableRatio, null, null));
+			}
+			int foreignKeyCount = i == 0 ? 0 : random.nextInt(this.maxForeignKeysPerTable + 1);
+			for (int j = 0; j < foreignKeyCount; j++) {
+				int referenced = getReferencedTableIndex(random, i);
+				columns.add(createColumn(String.format("REF_%02d", j), ident, false,
+						random.nextDouble() >= this.nullableRatio, tables[referenced], primaryKeys[referenced]));
+			}
+			tables[i] = createProxy(TableModel.class, Map.of("getName", String.format("TABLE_%04d", i), "getColumns",
+					columns.toArray(new ColumnModel[columns.size()])));
+		}
+		return createProxy(DataModel.class, Map.of("getName", this.name, "getBasePackageName",
+				this.basePackageName, "getTables", tables, "getOptions", new OptionModel[0]));
+	}
+
+	/**
+	 * Builds a database service object with the current settings.
+	 *
+	 * @return A database service object with the current settings.
+	 */
+	public DatabaseSO buildDatabaseSO() {
+		return new DataModelToSOConverter().convert(buildDataModel());
+	}
+
+	private int getReferencedTableIndex(Random random, int tableIndex) {
+		int hubs = Math.min(this.hubTableCount, tableIndex);
+		if ((hubs > 0) && (random.nextDouble() < this.hubReferenceRatio)) {
+			return random.nextInt(hubs);
+		}
+		return random.nextInt(tableIndex);
+	}
+
+	private DomainModel getDomain(Map<String, DomainModel> domains, int[] type) {
+		return domains.computeIfAbsent(type[0] + "/" + type[1] + "/" + type[2], key -> createProxy(DomainModel.class,
+				Map.of("getDataType", type[0], "getLength", type[1], "getDecimalPlace", type[2])));
+	}
+
+	private ColumnModel createColumn(String columnName, DomainModel domain, boolean primaryKey, boolean notNull,
+			TableModel referencedTable, ColumnModel referencedColumn) {
+		Map<String, Object> values = new HashMap<>(Map.of("getName", columnName, "getDomain", domain,
+				"isPrimaryKey", primaryKey, "isNotNull", notNull, "isUnique", false));
+		if (referencedTable != null) {
+			values.put("getReferencedTable", referencedTable);
+			values.put("getReferencedColumn", referencedColumn);
+		}
+		return createProxy(ColumnModel.class, values);
+	}
+
+	private static <T> T createProxy(Class<T> type, Map<String, Object> values) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (p, method, args) -> {
+			String methodName = method.getName();
+			if (values.containsKey(methodName)) {
+				return values.get(methodName);
+			} else if (methodName.equals("equals")) {
+				return p == args[0];
+			} else if (methodName.equals("hashCode")) {
+				return System.identityHashCode(p);
+			} else if (methodName.equals("toString")) {
+				return type.getSimpleName() + ":" + values.get("getName");
+			}
+			Class<?> returnType = method.getReturnType();
+			if (returnType == boolean.class) {
+				return false;
+			} else if (returnType == int.class) {
+				return 0;
+			} else if (returnType.isArray()) {
+				return Array.newInstance(returnType.getComponentType(), 0);
+			}
+			return null;
+		}));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package rest.acf;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+
+/**
+ * Unit tests for class "SyntheticModelBuilder".
+ *
+ * @author ollie
+ *
+ */
+public class SyntheticModelBuilderTest {
+
+	private String describe(DatabaseSO database) {
+		StringBuilder sb = new StringBuilder();
+		for (TableSO table : database.getSchemes().get(0).getTables()) {
+			sb.append(table.getName()).append(":");
+			for (ColumnSO column : table.getColumns()) {
+				sb.append(" ").append(column.getName()).append("/").append(column.getType().getSqlType()).append("/")
+						.append(column.isNullable());
+			}
+			for (ForeignKeySO foreignKey : table.getForeignKeys()) {
+				sb.append(" ->").append(foreignKey.getReferences().get(0).getReferencedColumn().getTable().getName());
+			}
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void buildDatabaseSO_PassTheSameSeedTwice_ReturnsEqualModels() {
+		// Prepare
+		DatabaseSO expected = new SyntheticModelBuilder().setSeed(42L).setTableCount(50).buildDatabaseSO();
+		// Run
+		DatabaseSO returned = new SyntheticModelBuilder().setSeed(42L).setTableCount(50).buildDatabaseSO();
+		// Check
+		assertThat(describe(returned), equalTo(describe(expected)));
+	}
+
+	@Test
+	public void buildDatabaseSO_PassDifferentSeeds_ReturnsDifferentModels() {
+		// Prepare
+		DatabaseSO unexpected = new SyntheticModelBuilder().setSeed(42L).setTableCount(50).buildDatabaseSO();
+		// Run
+		DatabaseSO returned = new SyntheticModelBuilder().setSeed(43L).setTableCount(50).buildDatabaseSO();
+		// Check
+		assertThat(describe(returned), not(equalTo(describe(unexpected))));
+	}
+
+	@Test
+	public void buildDatabaseSO_PassSettings_ReturnsAModelWithTheConfiguredDimensions() {
+		// Prepare
+		int tableCount = 200;
+		int maxForeignKeysPerTable = 3;
+		// Run
+		DatabaseSO returned = new SyntheticModelBuilder().setTableCount(tableCount).setMinColumnCount(4)
+				.setMaxColumnCount(6).setMaxForeignKeysPerTable(maxForeignKeysPerTable).setHubTableCount(1)
+				.setHubReferenceRatio(1.0D).buildDatabaseSO();
+		// Check
+		assertThat(returned.getSchemes().get(0).getTables().size(), equalTo(tableCount));
+		for (TableSO table : returned.getSchemes().get(0).getTables()) {
+			int foreignKeyCount = table.getForeignKeys().size();
+			assertThat(foreignKeyCount <= maxForeignKeysPerTable, equalTo(true));
+			int dataColumnCount = table.getColumns().size() - 1 - foreignKeyCount;
+			assertThat((dataColumnCount >= 4) && (dataColumnCount <= 6), equalTo(true));
+			for (ForeignKeySO foreignKey : table.getForeignKeys()) {
+				assertThat(foreignKey.getReferences().get(0).getReferencedColumn().getTable().getName(),
+						equalTo("TABLE_0000"));
+			}
+		}
+	}
+
+}
\ No newline at end of file
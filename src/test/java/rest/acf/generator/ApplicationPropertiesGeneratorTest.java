@@ -0,0 +1,138 @@
+package rest.acf.generator;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
+
+/**
+ * Unit tests for class "ApplicationPropertiesGenerator".
+ *
+ * @author ollie
+ *
+ */
+public class ApplicationPropertiesGeneratorTest {
+
+	private ApplicationPropertiesGenerator unitUnderTest = new ApplicationPropertiesGenerator(
+			new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter());
+
+	private DatabaseSO createDatabase(OptionSO... options) {
+		DatabaseSO database = new DatabaseSO().setName("Library").setOptions(new ArrayList<>())
+				.setSchemes(new ArrayList<>());
+		database.getSchemes().add(new SchemeSO().setName("public").setTables(new ArrayList<>()));
+		for (OptionSO option : options) {
+			database.getOptions().add(option);
+		}
+		return database;
+	}
+
+	private DatabaseSO createDatabaseWithACachedTable(OptionSO... options) {
+		DatabaseSO database = createDatabase(options);
+		database.getSchemes().get(0).getTables().add(new TableSO().setName("BOOK").setMetaInfo(new TableMetaInfo()
+				.setOptions(new ArrayList<>(Arrays.asList(new OptionSO().setName(Options.CACHE).setValue("true"))))));
+		return database;
+	}
+
+	@Test
+	public void generate_PassADatabaseWithJDBCBatchSizeOption_ReturnsPropertiesWithBatchSizeAndOrderedStatements() {
+		// Run
+		String returned = this.unitUnderTest
+				.generate(createDatabase(new OptionSO().setName(Options.JDBC_BATCH_SIZE).setValue("20")));
+		// Check
+		assertThat(returned, containsString("spring.jpa.properties.hibernate.jdbc.batch_size=20\n" //
+				+ "spring.jpa.properties.hibernate.order_inserts=true\n" //
+				+ "spring.jpa.properties.hibernate.order_updates=true\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithJDBCBatchSizeOptionWithoutNumber_ReturnsPropertiesWithTheDefaultBatchSize() {
+		// Run
+		String returned = this.unitUnderTest
+				.generate(createDatabase(new OptionSO().setName(Options.JDBC_BATCH_SIZE).setValue("true")));
+		// Check
+		assertThat(returned, containsString("spring.jpa.properties.hibernate.jdbc.batch_size=50\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithoutJDBCBatchSizeOption_ReturnsPropertiesWithoutBatchSettings() {
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabase());
+		// Check
+		assertThat(returned, not(containsString("jdbc.batch_size")));
+		assertThat(returned, not(containsString("order_inserts")));
+	}
+
+
+	@Test
+	public void generate_PassADatabaseWithMetricsOption_ReturnsPropertiesWhichExposeTheMetricsWithHistograms() {
+		// Run
+		String returned = this.unitUnderTest
+				.generate(createDatabase(new OptionSO().setName(Options.METRICS).setValue("true")));
+		// Check
+		assertThat(returned, containsString("management.endpoints.web.exposure.include=health,info,prometheus\n" //
+				+ "management.metrics.tags.application=library\n" //
+				+ "management.metrics.distribution.percentiles-histogram.service.calls=true\n" //
+				+ "management.metrics.distribution.percentiles-histogram.persistence.calls=true\n" //
+				+ "management.metrics.distribution.percentiles-histogram.persistence.rows=true\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithoutMetricsOption_ReturnsPropertiesWithoutMetricsSettings() {
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabase());
+		// Check
+		assertThat(returned, not(containsString("management.")));
+	}
+
+
+	@Test
+	public void generate_PassADatabaseWithACachedTable_ReturnsPropertiesOfTheSecondLevelAndQueryCache() {
+		// Run
+		String returned = this.unitUnderTest.generate(
+				createDatabaseWithACachedTable(new OptionSO().setName(Options.CACHE_MAXIMUM_SIZE).setValue("500"),
+						new OptionSO().setName(Options.CACHE_EXPIRY_SECONDS).setValue("60")));
+		// Check
+		assertThat(returned, containsString("spring.jpa.properties.hibernate.cache.use_second_level_cache=true\n" //
+				+ "spring.jpa.properties.hibernate.cache.use_query_cache=true\n" //
+				+ "spring.jpa.properties.hibernate.cache.region.factory_class=jcache\n" //
+				+ "spring.jpa.properties.hibernate.javax.cache.provider="
+				+ "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider\n" //
+				+ "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create\n" //
+				+ "spring.jpa.properties.javax.persistence.sharedCache.mode=ENABLE_SELECTIVE\n" //
+				+ "caffeine.jcache.default.policy.maximum.size=500\n" //
+				+ "caffeine.jcache.default.policy.eager-expiration.after-write=60s\n"));
+	}
+
+	@Test
+	public void generate_PassACachedTableWithoutCacheSizeOptions_ReturnsPropertiesWithTheDefaultCacheSizes() {
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabaseWithACachedTable());
+		// Check
+		assertThat(returned, containsString("caffeine.jcache.default.policy.maximum.size=10000\n" //
+				+ "caffeine.jcache.default.policy.eager-expiration.after-write=3600s\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithoutCachedTables_ReturnsPropertiesWithoutCacheSettings() {
+		// Run
+		String returned = this.unitUnderTest
+				.generate(createDatabase(new OptionSO().setName(Options.CACHE_MAXIMUM_SIZE).setValue("500")));
+		// Check
+		assertThat(returned, not(containsString("cache")));
+	}
+
+}
@@ -0,0 +1,192 @@
+package rest.acf.generator;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
+
+/**
+ * Unit tests for class "InitialDBXMLGenerator".
+ *
+ * @author ollie
+ *
+ */
+public class InitialDBXMLGeneratorTest {
+
+	private static final String AUTHOR_NAME = "rest-acf";
+
+	private InitialDBXMLGenerator unitUnderTest = new InitialDBXMLGenerator(
+			new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter(),
+			new TypeConverter());
+
+	private DatabaseSO createDatabase(String indexes, TableSO... additionalTables) {
+		ColumnSO rackId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookRack = new ColumnSO().setName("RACK").setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookTitle = new ColumnSO().setName("TITLE")
+				.setType(new TypeSO().setSqlType(Types.VARCHAR).setLength(100));
+		TableSO rack = new TableSO().setName("RACK").setColumns(Arrays.asList(rackId))
+				.setForeignKeys(new ArrayList<>());
+		TableSO book = new TableSO().setName("BOOK").setColumns(Arrays.asList(bookId, bookRack, bookTitle))
+				.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+						Arrays.asList(new ReferenceSO().setReferencedColumn(rackId).setReferencingColumn(bookRack)))))
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		if (indexes != null) {
+			book.getMetaInfo().getOptions().add(new OptionSO().setName(Options.INDEXES).setValue(indexes));
+		}
+		rackId.setTable(rack);
+		bookId.setTable(book);
+		bookRack.setTable(book);
+		bookTitle.setTable(book);
+		List<TableSO> tables = new ArrayList<>(Arrays.asList(additionalTables));
+		tables.add(book);
+		tables.add(rack);
+		return new DatabaseSO().setName("Library").setOptions(new ArrayList<>())
+				.setSchemes(Arrays.asList(new SchemeSO().setName("public").setTables(tables)));
+	}
+
+	private int count(String s, String part) {
+		return s.split(part, -1).length - 1;
+	}
+
+	@Test
+	public void generate_PassATableWithSeveralIndexes_CreatesAChangeSetPerIndexNamedLikeTheIndex() {
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabase("TITLE;RACK,TITLE"), AUTHOR_NAME);
+		// Check
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"IX_BOOK_RACK\">\n" //
+				+ "		<createIndex tableName=\"BOOK\" indexName=\"IX_BOOK_RACK\">\n" //
+				+ "			<column name=\"RACK\"/>\n" //
+				+ "		</createIndex>\n" //
+				+ "	</changeSet>\n"));
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"IX_BOOK_TITLE\">\n" //
+				+ "		<createIndex tableName=\"BOOK\" indexName=\"IX_BOOK_TITLE\">\n" //
+				+ "			<column name=\"TITLE\"/>\n" //
+				+ "		</createIndex>\n" //
+				+ "	</changeSet>\n"));
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"IX_BOOK_RACK_TITLE\">\n" //
+				+ "		<createIndex tableName=\"BOOK\" indexName=\"IX_BOOK_RACK_TITLE\">\n" //
+				+ "			<column name=\"RACK\"/>\n" //
+				+ "			<column name=\"TITLE\"/>\n" //
+				+ "		</createIndex>\n" //
+				+ "	</changeSet>\n"));
+		assertThat(count(returned, "<createIndex "), equalTo(3));
+	}
+
+	@Test
+	public void generate_PassIndexesWithUnknownColumns_SkipsTheUnknownColumns() {
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabase("TITLE,AUTHOR;PAGES"), AUTHOR_NAME);
+		// Check
+		assertThat(returned, containsString("		<createIndex tableName=\"BOOK\" indexName=\"IX_BOOK_TITLE\">\n" //
+				+ "			<column name=\"TITLE\"/>\n" //
+				+ "		</createIndex>\n"));
+		assertThat(returned, not(containsString("AUTHOR")));
+		assertThat(returned, not(containsString("PAGES")));
+		assertThat(count(returned, "<createIndex "), equalTo(2));
+	}
+
+	@Test
+	public void generate_PassDuplicateIndexes_CreatesEachIndexOnce() {
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabase("title;TITLE; RACK ;;"), AUTHOR_NAME);
+		// Check
+		assertThat(count(returned, "indexName=\"IX_BOOK_TITLE\""), equalTo(1));
+		assertThat(count(returned, "indexName=\"IX_BOOK_RACK\""), equalTo(1));
+		assertThat(count(returned, "<createIndex "), equalTo(2));
+	}
+
+	@Test
+	public void generate_AddATable_KeepsTheIdsOfTheIndexAndForeignKeyChangeSets() {
+		// Prepare
+		TableSO author = new TableSO().setName("AUTHOR").setColumns(Arrays.asList(new ColumnSO().setName("ID")
+				.setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT)))).setForeignKeys(new ArrayList<>());
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabase("TITLE", author), AUTHOR_NAME);
+		// Check
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"IX_BOOK_RACK\">\n"));
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"IX_BOOK_TITLE\">\n"));
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"FK_BOOK_RACK\">\n"
+				+ "		<addForeignKeyConstraint constraintName=\"FK_BOOK_RACK\" baseTableName=\"BOOK\" "
+				+ "baseColumnNames=\"RACK\" referencedTableName=\"RACK\" referencedColumnNames=\"ID\"/>\n"));
+	}
+
+	@Test
+	public void generate_PassAMaximumIdentifierLength_ShortensLongerIndexNamesToThatLength() {
+		// Prepare
+		DatabaseSO database = createDatabase("RACK,TITLE");
+		database.getOptions().add(new OptionSO().setName(Options.MAX_IDENTIFIER_LENGTH).setValue("16"));
+		String shortened = this.unitUnderTest.getIdentifier("IX_BOOK_RACK_TITLE", 16);
+		// Run
+		String returned = this.unitUnderTest.generate(database, AUTHOR_NAME);
+		// Check
+		assertThat(shortened.length(), equalTo(16));
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"" + shortened + "\">\n"
+				+ "		<createIndex tableName=\"BOOK\" indexName=\"" + shortened + "\">\n"));
+		assertThat(returned, containsString("indexName=\"IX_BOOK_RACK\""));
+		assertThat(returned, not(containsString("IX_BOOK_RACK_TITLE")));
+	}
+
+	@Test
+	public void generate_PassASequenceAllocationSizeOption_CreatesTheSequencesInChangeSetsOfTheirOwn() {
+		// Prepare
+		DatabaseSO database = createDatabase(null);
+		database.getOptions().add(new OptionSO().setName(Options.SEQUENCE_ALLOCATION_SIZE).setValue("25"));
+		// Run
+		String returned = this.unitUnderTest.generate(database, AUTHOR_NAME);
+		// Check
+		assertThat(returned, containsString("		</createTable>\n	</changeSet>\n"));
+		assertThat(returned, containsString("	<changeSet author=\"rest-acf\" id=\"BOOK_IDS\">\n" //
+				+ "		<createSequence sequenceName=\"BOOK_IDS\" startValue=\"1\" incrementBy=\"25\"/>\n" //
+				+ "	</changeSet>\n" //
+				+ "	<changeSet author=\"rest-acf\" id=\"RACK_IDS\">\n" //
+				+ "		<createSequence sequenceName=\"RACK_IDS\" startValue=\"1\" incrementBy=\"25\"/>\n" //
+				+ "	</changeSet>\n"));
+	}
+
+	@Test
+	public void generate_PassNoSequenceAllocationSizeOption_CreatesNoSequences() {
+		// Run
+		String returned = this.unitUnderTest.generate(createDatabase(null), AUTHOR_NAME);
+		// Check
+		assertThat(returned, not(containsString("createSequence")));
+	}
+
+	@Test
+	public void getIdentifier_PassNamesLongerThanTheMaximumLength_ReturnsDistinctNamesEndingWithAHash() {
+		// Run
+		String returned0 = this.unitUnderTest.getIdentifier("IX_LIBRARY_BOOK_TITLE_PUBLISHER_ISBN", 30);
+		String returned1 = this.unitUnderTest.getIdentifier("IX_LIBRARY_BOOK_TITLE_PUBLISHER_YEAR", 30);
+		// Check
+		assertThat(returned0.length(), equalTo(30));
+		assertThat(returned0.matches("IX_LIBRARY_BOOK_TITLE_[0-9A-F]{8}"), equalTo(true));
+		assertThat(returned1, not(equalTo(returned0)));
+	}
+
+	@Test
+	public void getIdentifier_PassANameNotLongerThanTheMaximumLength_ReturnsThePassedName() {
+		assertThat(this.unitUnderTest.getIdentifier("IX_BOOK_TITLE", 13), equalTo("IX_BOOK_TITLE"));
+	}
+
+}
@@ -2,6 +2,7 @@ package rest.acf.generator.converter;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +30,7 @@ import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
 import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+import rest.acf.SyntheticModelBuilder;
 
 /**
  * Unit tests of class "DataModelToSOConverter".
@@ -116,4 +118,46 @@ public class DataModelToSOConverterTest {
 		assertEquals(expected.toString(), returned.toString());
 	}
 
+	@Test
+	public void convert_PassADataModelWithTableOptions_ReturnsTableSOsWithTheOptionsOfTheTables() {
+		// Prepare
+		TableModel table = mock(TableModel.class);
+		when(table.getName()).thenReturn(TABLE_NAME);
+		when(table.getColumns()).thenReturn(new ColumnModel[0]);
+		when(table.getOptions()).thenReturn(new OptionModel[] { new Option(OPTION_NAME, OPTION_CONTENT) });
+		DataModel model = mock(DataModel.class);
+		when(model.getTables()).thenReturn(new TableModel[] { table });
+		when(model.getOptions()).thenReturn(new OptionModel[0]);
+		// Run
+		DatabaseSO returned = this.unitUnderTest.convert(model);
+		// Check
+		TableSO tableSO = returned.getSchemes().get(0).getTables().get(0);
+		assertEquals(OPTION_CONTENT, tableSO.getOptionByName(OPTION_NAME).get().getValue());
+	}
+
+	@Test
+	public void convert_PassALargeDataModel_ResolvesAllReferencesToTheColumnsOfTheReferencedTables() {
+		// Prepare
+		DataModel dataModel = new SyntheticModelBuilder().setSeed(42L).setTableCount(2000)
+				.setMaxForeignKeysPerTable(4).buildDataModel();
+		// Run
+		DatabaseSO returned = this.unitUnderTest.convert(dataModel);
+		// Check
+		for (TableModel tm : dataModel.getTables()) {
+			TableSO tso = returned.getSchemes().get(0).getTables().stream()
+					.filter(table -> table.getName().equals(tm.getName())).findFirst().get();
+			int i = 0;
+			for (ColumnModel cm : tm.getColumns()) {
+				if (cm.getReferencedTable() != null) {
+					ReferenceSO reference = tso.getForeignKeys().get(i++).getReferences().get(0);
+					assertEquals(cm.getName(), reference.getReferencingColumn().getName());
+					assertSame(tso, reference.getReferencingColumn().getTable());
+					assertEquals(cm.getReferencedTable().getName(), reference.getReferencedColumn().getTable().getName());
+					assertEquals(cm.getReferencedColumn().getName(), reference.getReferencedColumn().getName());
+				}
+			}
+			assertEquals(i, tso.getForeignKeys().size());
+		}
+	}
+
 }
\ No newline at end of file
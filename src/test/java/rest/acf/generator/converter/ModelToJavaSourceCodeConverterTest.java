@@ -4,6 +4,7 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.List;
 
@@ -178,4 +179,25 @@ public class ModelToJavaSourceCodeConverterTest {
 		assertEquals(expected, returned);
 	}
 
+	@Test
+	public void writeClassSourceModel_PassASimpleClassSourceModelAndAWriter_WritesACorrectSourceCodeToTheWriter()
+			throws Exception {
+		// Prepare
+		String expected = "package " + PACKAGE_NAME + ";\n\n" //
+				+ "public class " + TABLE_NAME + " {\n" //
+				+ "\n" //
+				+ "\tprivate int column0;\n" //
+				+ "\n" //
+				+ "}";
+		AttributeSourceModel attribute0 = new AttributeSourceModel().setName("column0").setType("int");
+		attribute0.getModifiers().add(ModifierSourceModel.PRIVATE);
+		ClassSourceModel classSourceModel = new ClassSourceModel().setAttributes(Arrays.asList(attribute0))
+				.setName(TABLE_NAME).setPackageModel(new PackageSourceModel().setPackageName(PACKAGE_NAME));
+		StringWriter writer = new StringWriter();
+		// Run
+		this.unitUnderTest.writeClassSourceModel(classSourceModel, writer);
+		// Check
+		assertEquals(expected, writer.toString());
+	}
+
 }
\ No newline at end of file
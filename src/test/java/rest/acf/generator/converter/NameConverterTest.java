@@ -319,6 +319,50 @@ public class NameConverterTest {
 		}
 	}
 
+	@DisplayName("tests for reference id attribute names")
+	@Nested
+	class ReferenceIdAttributeNameTests {
+
+		@Test
+		public void getReferenceIdAttributeName_PassANullValue_ReturnsANullValue() {
+			assertThat(unitUnderTest.getReferenceIdAttributeName(null), equalTo(null));
+		}
+
+		@Test
+		public void getReferenceIdAttributeName_PassAColumnNameWithoutIdSuffix_ReturnsTheAttributeNameWithIdSuffix() {
+			// Prepare
+			String expected = "rackId";
+			ColumnSO columnSO = new ColumnSO().setName("RACK");
+			// Run
+			String returned = unitUnderTest.getReferenceIdAttributeName(columnSO);
+			// Check
+			assertThat(returned, equalTo(expected));
+		}
+
+		@Test
+		public void getReferenceIdAttributeName_PassAColumnNameWithIdSuffix_ReturnsTheAttributeName() {
+			// Prepare
+			String expected = "rackId";
+			ColumnSO columnSO = new ColumnSO().setName("RACK_ID");
+			// Run
+			String returned = unitUnderTest.getReferenceIdAttributeName(columnSO);
+			// Check
+			assertThat(returned, equalTo(expected));
+		}
+
+		@Test
+		public void getReferenceIdSetterName_PassAColumn_ReturnsTheSetterNameOfTheReferenceIdAttribute() {
+			// Prepare
+			String expected = "setRackId";
+			ColumnSO columnSO = new ColumnSO().setName("RACK");
+			// Run
+			String returned = unitUnderTest.getReferenceIdSetterName(columnSO);
+			// Check
+			assertThat(returned, equalTo(expected));
+		}
+
+	}
+
 	@DisplayName("tests for setter names")
 	@Nested
 	class SetterNameTests {
@@ -962,6 +1006,38 @@ public class NameConverterTest {
 		}
 	}
 
+	@DisplayName("tests for metrics tag values")
+	@Nested
+	class MetricsTagValueTests {
+
+		@Test
+		public void tableNameToMetricsTagValue_PassNullValue_ReturnsNullValue() {
+			assertThat(unitUnderTest.tableNameToMetricsTagValue(null), nullValue());
+		}
+
+		@Test
+		public void tableNameToMetricsTagValue_PassTableSOWithNameUpperCase_ReturnsACorrectTagValue() {
+			// Prepare
+			String expected = "table";
+			TableSO tableSO = new TableSO().setName("TABLE");
+			// Run
+			String returned = unitUnderTest.tableNameToMetricsTagValue(tableSO);
+			// Check
+			assertThat(returned, equalTo(expected));
+		}
+
+		@Test
+		public void tableNameToMetricsTagValue_PassTableSOWithNameUnderScoreUpperCaseOnly_ReturnsACorrectTagValue() {
+			// Prepare
+			String expected = "tableName";
+			TableSO tableSO = new TableSO().setName("TABLE_NAME");
+			// Run
+			String returned = unitUnderTest.tableNameToMetricsTagValue(tableSO);
+			// Check
+			assertThat(returned, equalTo(expected));
+		}
+	}
+
 	@DisplayName("tests for persistence adapter class names")
 	@Nested
 	class PersistenceAdapterClassNameTests {
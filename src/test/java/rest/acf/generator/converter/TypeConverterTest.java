@@ -887,6 +887,17 @@ public class TypeConverterTest {
 		assertThat(returned, equalTo(expected));
 	}
 
+	@Test
+	public void typeSOToSQLTypeString_PassAnTimestampTypeSO_ReturnsAnSQLTimestamp() {
+		// Prepare
+		String expected = "TIMESTAMP";
+		TypeSO type = new TypeSO().setSqlType(Types.TIMESTAMP);
+		// Run
+		String returned = this.unitUnderTest.typeSOToSQLTypeString(type);
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
 	@Test
 	public void typeSOToSQLTypeString_PassAnVarcharWithLengthTypeSO_ReturnsAnSQLCharWithLength() {
 		// Prepare
@@ -1,12 +1,17 @@
 package rest.acf.generator.persistence;
 
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static rest.acf.LibraryFixture.createLibrary;
 
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,17 +21,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
 import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+import rest.acf.generator.converter.ModelToJavaSourceCodeConverter;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationSourceModel;
 import rest.acf.model.ClassCommentSourceModel;
 import rest.acf.model.ExtensionSourceModel;
 import rest.acf.model.ImportSourceModel;
 import rest.acf.model.InterfaceSourceModel;
+import rest.acf.model.MethodSourceModel;
 import rest.acf.model.PackageSourceModel;
+import rest.acf.model.ParameterSourceModel;
 
 /**
  * Unit tests for class "CRUDRepositoryInterfaceGenerator".
@@ -58,6 +68,15 @@ public class CRUDRepositoryInterfaceGeneratorTest {
 				this.typeConverter, new DatabaseSO());
 	}
 
+	private InterfaceSourceModel generateBookRepository(DatabaseSO database) {
+		return new CRUDRepositoryInterfaceGenerator(this.classSourceModelUtils, this.nameConverter, this.typeConverter,
+				database).generate(database.getSchemes().get(0).getTables().get(0), AUTHOR_NAME);
+	}
+
+	private Optional<MethodSourceModel> getMethod(InterfaceSourceModel ism, String name) {
+		return ism.getMethods().stream().filter(method -> method.getName().equals(name)).findFirst();
+	}
+
 	@Test
 	public void generate_PassANullValue_ReturnsANullValue() {
 		assertThat(this.unitUnderTest.generate(null, null), nullValue());
@@ -72,13 +91,33 @@ public class CRUDRepositoryInterfaceGeneratorTest {
 		TableSO table = new TableSO().setName(TABLE_NAME).setColumns(columns);
 		column0.setTable(table);
 		column1.setTable(table);
-		ImportSourceModel importCRUDRepository = new ImportSourceModel().setClassName("CrudRepository")
+		ImportSourceModel importCRUDRepository = new ImportSourceModel().setClassName("PagingAndSortingRepository")
 				.setPackageModel(new PackageSourceModel().setPackageName("org.springframework.data.repository"));
 		ImportSourceModel importEntityAnnotation = new ImportSourceModel().setClassName("Repository")
 				.setPackageModel(new PackageSourceModel().setPackageName("org.springframework.stereotype"));
 		ImportSourceModel importRackDBOAnnotation = new ImportSourceModel().setClassName(TABLE_NAME + "DBO")
 				.setPackageModel(new PackageSourceModel().setPackageName("${base.package.name}.persistence.dbo"));
+		ImportSourceModel importList = new ImportSourceModel().setClassName("List")
+				.setPackageModel(new PackageSourceModel().setPackageName("java.util"));
+		ImportSourceModel importModifying = new ImportSourceModel().setClassName("Modifying")
+				.setPackageModel(new PackageSourceModel().setPackageName("org.springframework.data.jpa.repository"));
+		ImportSourceModel importQuery = new ImportSourceModel().setClassName("Query")
+				.setPackageModel(new PackageSourceModel().setPackageName("org.springframework.data.jpa.repository"));
+		ImportSourceModel importTransactional = new ImportSourceModel().setClassName("Transactional")
+				.setPackageModel(new PackageSourceModel().setPackageName("org.springframework.transaction.annotation"));
 		AnnotationSourceModel annotationRepository = new AnnotationSourceModel().setName("Repository");
+		MethodSourceModel deleteWithId = new MethodSourceModel().setName("deleteWithId").setReturnType("int")
+				.addParameters(new ParameterSourceModel().setName("column0").setType("int"))
+				.addAnnotations(new AnnotationSourceModel().setName("Modifying"),
+						new AnnotationSourceModel().setName("Query")
+								.setValue("DELETE FROM " + TABLE_NAME + " t WHERE t.column0=?1"),
+						new AnnotationSourceModel().setName("Transactional"));
+		MethodSourceModel deleteWithIds = new MethodSourceModel().setName("deleteWithIds").setReturnType("int")
+				.addParameters(new ParameterSourceModel().setName("column0s").setType("List<Integer>"))
+				.addAnnotations(new AnnotationSourceModel().setName("Modifying"),
+						new AnnotationSourceModel().setName("Query")
+								.setValue("DELETE FROM " + TABLE_NAME + " t WHERE t.column0 IN ?1"),
+						new AnnotationSourceModel().setName("Transactional"));
 		InterfaceSourceModel expected = new InterfaceSourceModel()
 				.setComment(new ClassCommentSourceModel().setComment("/**\n" //
 						+ " * A CRUD repository for " + TABLE_NAME.toLowerCase() + " access.\n" //
@@ -89,9 +128,11 @@ public class CRUDRepositoryInterfaceGeneratorTest {
 						+ " */\n"))
 				.setPackageModel(new PackageSourceModel().setPackageName("${base.package.name}.persistence.repository"))
 				.setName(TABLE_NAME + "Repository")
-				.setImports(Arrays.asList(importCRUDRepository, importEntityAnnotation, importRackDBOAnnotation))
-				.setAnnotations(Arrays.asList(annotationRepository));
-		String parentClassName = "CrudRepository<" + TABLE_NAME + "DBO, Integer>";
+				.setImports(Arrays.asList(importCRUDRepository, importEntityAnnotation, importRackDBOAnnotation,
+						importList, importModifying, importQuery, importTransactional))
+				.setAnnotations(Arrays.asList(annotationRepository))
+				.setMethods(Arrays.asList(deleteWithId, deleteWithIds));
+		String parentClassName = "PagingAndSortingRepository<" + TABLE_NAME + "DBO, Integer>";
 		expected.setExtendsModel(new ExtensionSourceModel().setParentClassName(parentClassName));
 		// Run
 		InterfaceSourceModel returned = this.unitUnderTest.generate(table, "rest-acf");
@@ -100,4 +141,99 @@ public class CRUDRepositoryInterfaceGeneratorTest {
 		assertEquals(expected.toString(), returned.toString());
 	}
 
+	@Test
+	public void generate_PassATableWithAnIntegerPrimaryKeyAndKeysetPagination_ReturnsAFindAllAfterForThePKType() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.INTEGER), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		MethodSourceModel expected = new MethodSourceModel().setName("findAllAfter").setReturnType("List<BookDBO>")
+				.addAnnotations(new AnnotationSourceModel().setName("Query")
+						.setValue("SELECT b FROM Book b WHERE b.id>?1 ORDER BY b.id"))
+				.addParameters(new ParameterSourceModel().setName("after").setType("int"),
+						new ParameterSourceModel().setName("pageable").setType("Pageable"));
+		// Run
+		InterfaceSourceModel returned = generateBookRepository(database);
+		// Check
+		assertEquals(expected, getMethod(returned, "findAllAfter").get());
+	}
+
+	@Test
+	public void generate_PassATableWithANonNumericPrimaryKeyAndKeysetPagination_ReturnsNoFindAllAfter() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.VARCHAR).setLength(36), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Run
+		InterfaceSourceModel returned = generateBookRepository(database);
+		// Check
+		assertEquals(false, getMethod(returned, "findAllAfter").isPresent());
+	}
+
+	private String generateBookRepositoryCode(String fetchStrategy) {
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.FETCH_STRATEGY).setValue(fetchStrategy)));
+		return new ModelToJavaSourceCodeConverter()
+				.interfaceSourceModelToJavaSourceCode(generateBookRepository(database));
+	}
+
+	@Test
+	public void generate_PassATableWithJoinFetchFetchStrategy_ReturnsFindersWhichFetchTheReferencesByJoin() {
+		// Run
+		String returned = generateBookRepositoryCode(Options.FETCH_STRATEGY_JOIN_FETCH);
+		// Check
+		assertThat(returned, containsString("	@Query(value = \"SELECT b FROM Book b LEFT JOIN FETCH b.rack\", "
+				+ "countQuery = \"SELECT COUNT(b) FROM Book b\")\n" //
+				+ "	Page<BookDBO> findAll(Pageable pageable);\n"));
+		assertThat(returned, containsString("	@Query(\"SELECT b FROM Book b LEFT JOIN FETCH b.rack WHERE b.id=?1\")\n"
+				+ "	Optional<BookDBO> findById(Long id);\n"));
+		assertThat(returned, containsString("	@Query(value = \"SELECT b FROM Book b LEFT JOIN FETCH b.rack "
+				+ "WHERE b.rack.id=?1\", countQuery = \"SELECT COUNT(b) FROM Book b WHERE b.rack.id=?1\")\n" //
+				+ "	Page<BookDBO> findBooksForRack(long rackId, Pageable pageable);\n"));
+		assertThat(returned, not(containsString("EntityGraph")));
+	}
+
+	@Test
+	public void generate_PassATableWithEntityGraphFetchStrategy_ReturnsFindersWithEntityGraphs() {
+		// Run
+		String returned = generateBookRepositoryCode(Options.FETCH_STRATEGY_ENTITY_GRAPH);
+		// Check
+		assertThat(returned, containsString("import org.springframework.data.jpa.repository.EntityGraph;\n"));
+		assertThat(returned, containsString("	@EntityGraph(attributePaths = { \"rack\" })\n" //
+				+ "	Page<BookDBO> findAll(Pageable pageable);\n"));
+		assertThat(returned, containsString("	@EntityGraph(attributePaths = { \"rack\" })\n" //
+				+ "	Optional<BookDBO> findById(Long id);\n"));
+		assertThat(returned, containsString("	@EntityGraph(attributePaths = { \"rack\" })\n" //
+				+ "	@Query(value = \"SELECT b FROM Book b WHERE b.rack.id=?1\", "
+				+ "countQuery = \"SELECT COUNT(b) FROM Book b WHERE b.rack.id=?1\")\n" //
+				+ "	Page<BookDBO> findBooksForRack(long rackId, Pageable pageable);\n"));
+		assertThat(returned, not(containsString("JOIN FETCH")));
+	}
+
+	@Test
+	public void generate_PassATableWithCacheOption_ReturnsFindersWithCacheableQueryHints() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.CACHE).setValue("READ_ONLY")));
+		String hint = "	@QueryHints(value = @QueryHint(name = \"org.hibernate.cacheable\", value = \"true\"))\n";
+		// Run
+		String returned = new ModelToJavaSourceCodeConverter()
+				.interfaceSourceModelToJavaSourceCode(generateBookRepository(database));
+		// Check
+		assertThat(returned, containsString("import javax.persistence.QueryHint;\n"));
+		assertThat(returned, containsString("import org.springframework.data.jpa.repository.QueryHints;\n"));
+		assertThat(returned, containsString(hint + "	Page<BookDBO> findAll(Pageable pageable);\n"));
+		assertThat(returned,
+				containsString(hint + "	Page<BookDBO> findBooksForRack(long rackId, Pageable pageable);\n"));
+	}
+
+	@Test
+	public void generate_PassATableWithoutCacheOption_ReturnsFindersWithoutQueryHints() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = new ModelToJavaSourceCodeConverter()
+				.interfaceSourceModelToJavaSourceCode(generateBookRepository(database));
+		// Check
+		assertThat(returned, not(containsString("QueryHint")));
+	}
+
 }
\ No newline at end of file
@@ -5,8 +5,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,11 +17,17 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import de.ollie.archimedes.alexandrian.service.so.TypeSO;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationSourceModel;
 import rest.acf.model.AttributeSourceModel;
 import rest.acf.model.ClassCommentSourceModel;
@@ -56,7 +64,7 @@ public class DBOJPAClassGeneratorTest {
 	public void setUp() {
 		this.classSourceModelUtils = new ClassSourceModelUtils(this.nameConverter, this.typeConverter);
 		this.unitUnderTest = new DBOJPAClassGenerator(this.classSourceModelUtils, this.nameConverter,
-				this.typeConverter);
+				this.typeConverter, new DatabaseSO());
 	}
 
 	@Test
@@ -134,4 +142,156 @@ public class DBOJPAClassGeneratorTest {
 		assertEquals(expected.toString(), returned.toString());
 	}
 
+	@Test
+	public void generate_PassATableWithCacheOption_ReturnsAClassSourceModelWithCacheAnnotations() {
+		// Prepare
+		ColumnSO column0 = new ColumnSO().setName(COLUMN_NAME_0).setNullable(false).setType(COLUMN_TYPE_0)
+				.setPkMember(true);
+		TableSO table = new TableSO().setName(TABLE_NAME).setColumns(Arrays.asList(column0))
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.CACHE).setValue("READ_ONLY"));
+		column0.setTable(table);
+		AnnotationSourceModel annotationCacheable = new AnnotationSourceModel().setName("Cacheable");
+		AnnotationSourceModel annotationCache = new AnnotationSourceModel().setName("Cache")
+				.setProperties(Arrays.asList(new PropertySourceModel<String>().setName("usage")
+						.setContent("CacheConcurrencyStrategy.READ_ONLY").setQuoted(false)));
+		// Run
+		ClassSourceModel returned = this.unitUnderTest.generate(table, AUTHOR_NAME);
+		// Check
+		assertEquals(Arrays.asList(annotationCacheable, annotationCache).toString(),
+				returned.getAnnotations().subList(4, 6).toString());
+	}
+
+	@Test
+	public void generate_PassATableWithETagOption_ReturnsAClassWithAnUpdateTimestampAttribute() {
+		// Prepare
+		ColumnSO column0 = new ColumnSO().setName(COLUMN_NAME_0).setNullable(false).setType(COLUMN_TYPE_0)
+				.setPkMember(true);
+		TableSO table = new TableSO().setName(TABLE_NAME).setColumns(Arrays.asList(column0))
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.ETAG).setValue("true"));
+		column0.setTable(table);
+		// Run
+		ClassSourceModel returned = this.unitUnderTest.generate(table, AUTHOR_NAME);
+		// Check
+		AttributeSourceModel attribute = returned.getAttributes().get(1);
+		assertEquals("updatedAt", attribute.getName());
+		assertEquals("LocalDateTime", attribute.getType());
+		assertEquals("[Column, UpdateTimestamp]", attribute.getAnnotations().stream()
+				.map(AnnotationSourceModel::getName).collect(Collectors.toList()).toString());
+	}
+
+	@Test
+	public void generate_PassATableWithOptimisticLockingOption_ReturnsAClassWithAVersionAttribute() {
+		// Prepare
+		ColumnSO column0 = new ColumnSO().setName(COLUMN_NAME_0).setNullable(false).setType(COLUMN_TYPE_0)
+				.setPkMember(true);
+		TableSO table = new TableSO().setName(TABLE_NAME).setColumns(Arrays.asList(column0))
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.OPTIMISTIC_LOCKING).setValue("true"));
+		column0.setTable(table);
+		// Run
+		ClassSourceModel returned = this.unitUnderTest.generate(table, AUTHOR_NAME);
+		// Check
+		AttributeSourceModel attribute = returned.getAttributes().get(1);
+		assertEquals("version", attribute.getName());
+		assertEquals("Long", attribute.getType());
+		assertEquals("[Column, Version]", attribute.getAnnotations().stream().map(AnnotationSourceModel::getName)
+				.collect(Collectors.toList()).toString());
+	}
+
+	@Test
+	public void generate_PassADatabaseWithSequenceAllocationSizeOption_ReturnsAClassWithAPooledSequenceGenerator() {
+		// Prepare
+		DatabaseSO database = new DatabaseSO().setOptions(new ArrayList<>());
+		database.getOptions().add(new OptionSO().setName(Options.SEQUENCE_ALLOCATION_SIZE).setValue("25"));
+		ColumnSO column0 = new ColumnSO().setName(COLUMN_NAME_0).setNullable(false).setType(COLUMN_TYPE_0)
+				.setPkMember(true);
+		TableSO table = new TableSO().setName(TABLE_NAME).setColumns(Arrays.asList(column0));
+		column0.setTable(table);
+		AnnotationSourceModel annotationGeneratedValue = new AnnotationSourceModel().setName("GeneratedValue")
+				.setProperties(Arrays.asList( //
+						new PropertySourceModel<String>().setName("strategy").setContent("GenerationType.SEQUENCE")
+								.setQuoted(false), //
+						new PropertySourceModel<String>().setName("generator").setContent(TABLE_NAME + "_IDS")
+								.setQuoted(true)));
+		AnnotationSourceModel annotationSequenceGenerator = new AnnotationSourceModel().setName("SequenceGenerator")
+				.setProperties(Arrays.asList( //
+						new PropertySourceModel<String>().setName("name").setContent(TABLE_NAME + "_IDS")
+								.setQuoted(true), //
+						new PropertySourceModel<String>().setName("sequenceName").setContent(TABLE_NAME + "_IDS")
+								.setQuoted(true), //
+						new PropertySourceModel<String>().setName("allocationSize").setContent("25")
+								.setQuoted(false)));
+		this.unitUnderTest = new DBOJPAClassGenerator(this.classSourceModelUtils, this.nameConverter,
+				this.typeConverter, database);
+		// Run
+		ClassSourceModel returned = this.unitUnderTest.generate(table, AUTHOR_NAME);
+		// Check
+		assertEquals(Arrays.asList(annotationGeneratedValue, annotationSequenceGenerator).toString(),
+				returned.getAttributes().get(0).getAnnotations().subList(1, 3).toString());
+		assertEquals(true, returned.getImports().stream()
+				.anyMatch(i -> "SequenceGenerator".equals(i.getClassName())
+						&& "javax.persistence".equals(i.getPackageModel().getPackageName())));
+	}
+
+	private TableSO createBookTableReferencingRack(String fetchStrategy) {
+		ColumnSO rackId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		TableSO rack = new TableSO().setName("RACK").setColumns(Arrays.asList(rackId));
+		rackId.setTable(rack);
+		ColumnSO bookId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookRack = new ColumnSO().setName("RACK").setType(new TypeSO().setSqlType(Types.BIGINT));
+		TableSO book = new TableSO().setName("BOOK").setColumns(Arrays.asList(bookId, bookRack))
+				.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+						Arrays.asList(new ReferenceSO().setReferencedColumn(rackId).setReferencingColumn(bookRack)))))
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		if (fetchStrategy != null) {
+			book.getMetaInfo().getOptions().add(new OptionSO().setName(Options.FETCH_STRATEGY).setValue(fetchStrategy));
+		}
+		bookId.setTable(book);
+		bookRack.setTable(book);
+		return book;
+	}
+
+	private void assertLazyManyToOne(String fetchStrategy) {
+		// Prepare
+		TableSO table = createBookTableReferencingRack(fetchStrategy);
+		AnnotationSourceModel annotationManyToOne = new AnnotationSourceModel().setName("ManyToOne")
+				.setProperties(Arrays.asList(new PropertySourceModel<String>().setName("fetch")
+						.setContent("FetchType.LAZY").setQuoted(false)));
+		// Run
+		ClassSourceModel returned = this.unitUnderTest.generate(table, AUTHOR_NAME);
+		// Check
+		AttributeSourceModel attribute = returned.getAttributes().get(1);
+		assertEquals("rack", attribute.getName());
+		assertEquals("RackDBO", attribute.getType());
+		assertEquals(annotationManyToOne.toString(), attribute.getAnnotations().get(0).toString());
+		assertEquals(true, returned.getImports().stream()
+				.anyMatch(i -> "FetchType".equals(i.getClassName())
+						&& "javax.persistence".equals(i.getPackageModel().getPackageName())));
+	}
+
+	@Test
+	public void generate_PassATableWithEntityGraphFetchStrategy_ReturnsAClassWithALazyManyToOneReference() {
+		assertLazyManyToOne(Options.FETCH_STRATEGY_ENTITY_GRAPH);
+	}
+
+	@Test
+	public void generate_PassATableWithJoinFetchFetchStrategy_ReturnsAClassWithALazyManyToOneReference() {
+		assertLazyManyToOne(Options.FETCH_STRATEGY_JOIN_FETCH);
+	}
+
+	@Test
+	public void generate_PassATableWithoutFetchStrategy_ReturnsAClassWithAnEagerManyToOneReference() {
+		// Prepare
+		TableSO table = createBookTableReferencingRack(null);
+		// Run
+		ClassSourceModel returned = this.unitUnderTest.generate(table, AUTHOR_NAME);
+		// Check
+		AttributeSourceModel attribute = returned.getAttributes().get(1);
+		assertEquals(new AnnotationSourceModel().setName("ManyToOne").toString(),
+				attribute.getAnnotations().get(0).toString());
+		assertEquals(false, returned.getImports().stream().anyMatch(i -> "FetchType".equals(i.getClassName())));
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package rest.acf.generator.persistence;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static rest.acf.LibraryFixture.createLibrary;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+import rest.acf.generator.converter.ModelToJavaSourceCodeConverter;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
+
+/**
+ * Unit tests for class "PersistenceAdapterClassGenerator".
+ *
+ * @author ollie
+ *
+ */
+public class PersistenceAdapterClassGeneratorTest {
+
+	private static final String AUTHOR_NAME = "rest-acf";
+
+	private String generateBookAdapter(DatabaseSO database) {
+		NameConverter nameConverter = new NameConverter();
+		TypeConverter typeConverter = new TypeConverter();
+		return new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(
+				new PersistenceAdapterClassGenerator(new ClassSourceModelUtils(nameConverter, typeConverter),
+						nameConverter, typeConverter, database)
+								.generate(database.getSchemes().get(0).getTables().get(0), AUTHOR_NAME));
+	}
+
+	@Test
+	public void generate_PassATableWithAnIntegerPrimaryKeyAndKeysetPagination_ReturnsAFindAllAfterForThePKType() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.INTEGER), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Run
+		String returned = generateBookAdapter(database);
+		// Check
+		assertThat(returned, containsString("	public List<BookSO> findAllAfter(int after, int size) "
+				+ "throws PersistenceException {\n" //
+				+ "		try {\n" //
+				+ "			List<BookSO> sos = new ArrayList<>(size);\n" //
+				+ "			for (BookDBO dbo : this.bookRepository.findAllAfter(after, PageRequest.of(0, size))) {\n"));
+	}
+
+	@Test
+	public void generate_PassATableWithANonNumericPrimaryKeyAndKeysetPagination_ReturnsNoFindAllAfter() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.VARCHAR).setLength(36), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Run
+		String returned = generateBookAdapter(database);
+		// Check
+		assertThat(returned, not(containsString("findAllAfter")));
+	}
+
+
+	@Test
+	public void generate_PassATable_ReturnsACreateSortWhichAcceptsThePersistentAttributesOnly() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookAdapter(database);
+		// Check
+		assertThat(returned, containsString("	private static final Set<String> SORT_ATTRIBUTE_NAMES = "
+				+ "Set.of(\"id\", \"rack\", \"title\");\n"));
+		assertThat(returned, containsString("	private Sort createSort(String sort) throws PersistenceException {\n"));
+		assertThat(returned, containsString("				if (!SORT_ATTRIBUTE_NAMES.contains(attributeName)) {\n"
+				+ "					throw new PersistenceException(PersistenceException.Type.InvalidSortError, "
+				+ "\"unknown sort attribute: \" + attributeName, null);\n"));
+		assertThat(returned, containsString("		Sort order = createSort(sort);\n" //
+				+ "		try {\n" //
+				+ "			Page<BookDBO> dbos = this.bookRepository.findAll(PageRequest.of(page, size, order));\n"));
+	}
+
+
+	@Test
+	public void generate_PassADatabaseWithMetricsOption_ReturnsAnAdapterWithInjectedMeterRegistryTimersAndRowSummaries() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>(),
+				new OptionSO().setName(Options.METRICS).setValue("true"));
+		// Run
+		String returned = generateBookAdapter(database);
+		// Check
+		assertThat(returned, containsString("import io.micrometer.core.instrument.MeterRegistry;\n"));
+		assertThat(returned, containsString("	private final MeterRegistry meterRegistry;\n"));
+		assertThat(returned, containsString("	public BookRDBMSPersistenceAdapter(BookDBOConverter bookDBOConverter, "
+				+ "BookRepository bookRepository, MeterRegistry meterRegistry) {\n" //
+				+ "		super();\n" //
+				+ "		this.bookDBOConverter = bookDBOConverter;\n" //
+				+ "		this.bookRepository = bookRepository;\n" //
+				+ "		this.meterRegistry = meterRegistry;\n" //
+				+ "	}\n"));
+		assertThat(returned, containsString("sample.stop(this.meterRegistry.timer(\"persistence.calls\", "
+				+ "\"table\", \"book\", \"method\", \"findAll\"));\n"));
+		assertThat(returned, containsString("this.meterRegistry.summary(\"persistence.rows\", \"table\", \"book\", "
+				+ "\"method\", \"findAll\").record(sos.size());\n"));
+		assertThat(returned, containsString("this.meterRegistry.summary(\"persistence.rows\", \"table\", \"book\", "
+				+ "\"method\", \"findBooksForRack\").record(sos.size());\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithoutMetricsOption_ReturnsAnAdapterWithoutMeterRegistry() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookAdapter(database);
+		// Check
+		assertThat(returned, not(containsString("meterRegistry")));
+	}
+
+
+	@Test
+	public void generate_PassATableWithOptimisticLockingOption_ReturnsAnAdapterWhichReportsLockErrorsAndMissingVersions() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.OPTIMISTIC_LOCKING).setValue("true")));
+		// Run
+		String returned = generateBookAdapter(database);
+		// Check
+		assertThat(returned, containsString("	public long save(BookSO so) throws PersistenceException {\n" //
+				+ "		checkVersion(so);\n" //
+				+ "		try {\n"));
+		assertThat(returned, containsString("			this.entityManager.flush();\n" //
+				+ "			return id;\n" //
+				+ "		} catch (OptimisticLockingFailureException | OptimisticLockException e) {\n" //
+				+ "			throw new PersistenceException(PersistenceException.Type.OptimisticLockError, "
+				+ "\"concurrent modification of: \" + so, e);\n"));
+		assertThat(returned, containsString("		for (BookSO so : sos) {\n" //
+				+ "			checkVersion(so);\n" //
+				+ "		}\n"));
+		assertThat(returned, containsString("	private void checkVersion(BookSO so) throws PersistenceException {\n" //
+				+ "		if ((so.getId() != 0) && (so.getVersion() == null)) {\n" //
+				+ "			throw new PersistenceException(PersistenceException.Type.OptimisticLockError, "
+				+ "\"missing version of: \" + so, null);\n" //
+				+ "		}\n" //
+				+ "	}\n"));
+	}
+
+	@Test
+	public void generate_PassATableWithoutOptimisticLockingOption_ReturnsAnAdapterWithoutVersionCheck() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookAdapter(database);
+		// Check
+		assertThat(returned, not(containsString("checkVersion")));
+		assertThat(returned, not(containsString("OptimisticLock")));
+	}
+
+}
@@ -5,6 +5,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -15,11 +16,16 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import de.ollie.archimedes.alexandrian.service.so.TypeSO;
 import rest.acf.generator.converter.NameConverter;
 import rest.acf.generator.converter.TypeConverter;
 import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
 import rest.acf.model.AnnotationSourceModel;
 import rest.acf.model.AttributeSourceModel;
 import rest.acf.model.ClassCommentSourceModel;
@@ -103,4 +109,26 @@ public class DTOClassGeneratorTest {
 		assertEquals(expected.toString(), returned.toString());
 	}
 
+	@Test
+	public void generate_PassATableWithReferencesByIdOption_ReturnsAClassWithAReferenceIdAttribute() {
+		// Prepare
+		ColumnSO referencedColumn = new ColumnSO().setName("ID").setNullable(false).setType(COLUMN_TYPE_0)
+				.setPkMember(true);
+		TableSO referencedTable = new TableSO().setName("Rack").setColumns(Arrays.asList(referencedColumn));
+		referencedColumn.setTable(referencedTable);
+		ColumnSO column = new ColumnSO().setName("RACK").setNullable(false).setType(COLUMN_TYPE_0);
+		TableSO table = new TableSO().setName(TABLE_NAME).setColumns(Arrays.asList(column))
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.DTO_REFERENCES_BY_ID).setValue("true"));
+		table.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+				Arrays.asList(new ReferenceSO().setReferencedColumn(referencedColumn).setReferencingColumn(column)))));
+		column.setTable(table);
+		AttributeSourceModel expected = new AttributeSourceModel().setName("rackId").setType("Integer");
+		expected.addModifier(ModifierSourceModel.PRIVATE);
+		// Run
+		ClassSourceModel returned = this.unitUnderTest.generate(table, AUTHOR_NAME);
+		// Check
+		assertEquals(Arrays.asList(expected).toString(), returned.getAttributes().toString());
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package rest.acf.generator.rest;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import rest.acf.generator.converter.ModelToJavaSourceCodeConverter;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
+
+/**
+ * Unit tests for class "ResultPageDTOClassGenerator".
+ *
+ * @author ollie
+ *
+ */
+public class ResultPageDTOClassGeneratorTest {
+
+	private static final String AUTHOR_NAME = "rest-acf";
+
+	private ResultPageDTOClassGenerator unitUnderTest = new ResultPageDTOClassGenerator(
+			new ClassSourceModelUtils(new NameConverter(), new TypeConverter()), new NameConverter(),
+			new TypeConverter());
+
+	private String generate(OptionSO... options) {
+		DatabaseSO database = new DatabaseSO().setName("Library").setOptions(new ArrayList<>());
+		for (OptionSO option : options) {
+			database.getOptions().add(option);
+		}
+		return new ModelToJavaSourceCodeConverter()
+				.classSourceModelToJavaSourceCode(this.unitUnderTest.generate(database, AUTHOR_NAME));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithKeysetPagination_ReturnsAClassWithANextCursor() {
+		// Run
+		String returned = generate(new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Check
+		assertThat(returned, containsString("@Accessors(chain = true)\n"));
+		assertThat(returned, containsString("	private String nextCursor;\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithoutKeysetPagination_ReturnsAClassWithoutANextCursor() {
+		// Run
+		String returned = generate();
+		// Check
+		assertThat(returned, not(containsString("nextCursor")));
+	}
+
+}
@@ -0,0 +1,272 @@
+package rest.acf.generator.rest;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static rest.acf.LibraryFixture.createLibrary;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+import rest.acf.generator.utils.Options;
+
+/**
+ * Unit tests for class "TemplateRESTControllerClassGenerator".
+ *
+ * @author ollie
+ *
+ */
+public class TemplateRESTControllerClassGeneratorTest {
+
+	private static final String AUTHOR_NAME = "rest-acf";
+	private static final String BASE_PACKAGE_NAME = "de.ollie.library";
+
+	private TemplateRESTControllerClassGenerator unitUnderTest = new TemplateRESTControllerClassGenerator();
+
+	private String generateBookController(DatabaseSO database) {
+		return this.unitUnderTest.generate(database.getSchemes().get(0).getTables().get(0), database, BASE_PACKAGE_NAME,
+				AUTHOR_NAME);
+	}
+
+	@Test
+	public void generate_PassABasePackageName_ReturnsAControllerWithTheResolvedBasePackageName() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, startsWith("package de.ollie.library.rest.v1.controller;\n"));
+		assertThat(returned, containsString("import de.ollie.library.rest.v1.converter.BookDTOConverter;\n"));
+		assertThat(returned, containsString("import de.ollie.library.service.so.ResultPageSO;\n"));
+		assertThat(returned, not(containsString("${base.package.name}")));
+	}
+
+	@Test
+	public void generate_PassATableWithAnIntegerPrimaryKeyAndKeysetPagination_ReturnsAFindAllAfterWithAnIntCursor() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.INTEGER), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, containsString("import java.util.Base64;\n"));
+		assertThat(returned, containsString("	@GetMapping(params = \"cursor\")\n"));
+		assertThat(returned, containsString("		int after = Integer.MIN_VALUE;\n"));
+		assertThat(returned, containsString("				after = Integer.parseInt(new String("
+				+ "Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));\n"));
+		assertThat(returned, containsString("			ResultPageSO<BookSO> result = "
+				+ "this.bookService.findAllAfter(after, size);\n"));
+		assertThat(returned,
+				containsString("String.valueOf(result.getResults().get(size - 1).getId()).getBytes("));
+		assertThat(returned, containsString(".setNextCursor(nextCursor));\n"));
+	}
+
+	@Test
+	public void generate_PassATableWithANonNumericPrimaryKeyAndKeysetPagination_ReturnsNoFindAllAfter() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.VARCHAR).setLength(36), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, not(containsString("cursor")));
+		assertThat(returned, not(containsString("import java.util.Base64;")));
+	}
+
+
+	@Test
+	public void generate_PassATable_ReturnsAFindAllWhichAnswersInvalidSortAttributesWithBadRequest() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, containsString("import de.ollie.library.service.persistence.exception."
+				+ "PersistenceException;\n"));
+		assertThat(returned, containsString(".setTotalResults(result.getTotalResults()));\n" //
+				+ "		} catch (PersistenceException e) {\n" //
+				+ "			if (e.getType() != PersistenceException.Type.InvalidSortError) {\n" //
+				+ "				return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();\n" //
+				+ "			}\n" //
+				+ "			logger.debug(\"invalid sort: \" + sort);\n" //
+				+ "			return ResponseEntity.badRequest().build();\n" //
+				+ "		} catch (Exception e) {\n"));
+	}
+
+
+	@Test
+	public void generate_PassADatabaseWithMetricsOption_ReturnsAControllerWithTimedEndpoints() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>(),
+				new OptionSO().setName(Options.METRICS).setValue("true"));
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, containsString("import io.micrometer.core.annotation.Timed;\n"));
+		assertThat(returned, containsString("	@Timed(value = \"rest.requests\", extraTags = { \"table\", \"book\" }, "
+				+ "histogram = true)\n" //
+				+ "	@GetMapping\n"));
+		assertThat(returned, containsString("	@Timed(value = \"rest.requests\", extraTags = { \"table\", \"book\" }, "
+				+ "histogram = true)\n" //
+				+ "	@GetMapping(\"/{id}\")\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithoutMetricsOption_ReturnsAControllerWithoutTimedEndpoints() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, not(containsString("Timed")));
+	}
+
+
+	@Test
+	public void generate_PassATableWithOptimisticLockingOption_ReturnsAControllerWhichAnswersLockErrorsWithConflict() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.OPTIMISTIC_LOCKING).setValue("true")));
+		String conflictCode = "		} catch (PersistenceException e) {\n" //
+				+ "			if (e.getType() != PersistenceException.Type.OptimisticLockError) {\n" //
+				+ "				return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();\n" //
+				+ "			}\n" //
+				+ "			logger.debug(\"concurrent modification of books: \" + e.getMessage());\n" //
+				+ "			return ResponseEntity.status(HttpStatus.CONFLICT).build();\n" //
+				+ "		} catch (Exception e) {\n";
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, containsString("			this.bookService.save(so);\n" + conflictCode));
+		assertThat(returned, containsString(
+				"			return ResponseEntity.ok().body(this.bookService.saveAll(sos));\n" + conflictCode));
+	}
+
+	@Test
+	public void generate_PassATableWithoutOptimisticLockingOption_ReturnsAControllerWithoutConflictAnswers() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, not(containsString("HttpStatus.CONFLICT")));
+	}
+
+
+	@Test
+	public void generate_PassATableWithETagOption_ReturnsAControllerWhichAnswersConditionalRequestsWithNotModified() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true"),
+						new OptionSO().setName(Options.DTO_REFERENCES_BY_ID).setValue("true")));
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, containsString("import org.springframework.web.context.request.WebRequest;\n"));
+		assertThat(returned, containsString("			@RequestParam(name = \"sort\", required = false) String sort, "
+				+ "WebRequest request) {\n"));
+		assertThat(returned, containsString("this.bookService.findAll(page, size, sort);\n" //
+				+ "			if (request.checkNotModified(eTag(result))) {\n" //
+				+ "				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();\n" //
+				+ "			}\n"));
+		assertThat(returned,
+				containsString("	public ResponseEntity<BookDTO> findById(@PathVariable(\"id\") long id, "
+						+ "WebRequest request) {\n"));
+		assertThat(returned, containsString("if (request.checkNotModified(eTag(so.get()), lastModified(so.get()))) {\n"
+				+ "				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();\n" //
+				+ "			}\n" //
+				+ "			return ResponseEntity.ok().body(this.bookDTOConverter.convertSOToDTO(so.get()));\n"));
+		assertThat(returned, containsString("	private String eTag(BookSO so) {\n" //
+				+ "		return \"\\\"\" + so.getId() + \"-\" + lastModified(so) + \"\\\"\";\n" //
+				+ "	}\n"));
+		assertThat(returned, containsString("	private long lastModified(BookSO so) {\n" //
+				+ "		long lastModified = toEpochMilli(so.getUpdatedAt());\n" //
+				+ "		return lastModified;\n" //
+				+ "	}\n"));
+	}
+
+	@Test
+	public void generate_PassATableWithETagOptionReferencingATableWithETagOption_ReturnsALastModifiedOfBothObjects() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true")));
+		database.getSchemes().get(0).getTables().get(1).setMetaInfo(new TableMetaInfo()
+				.setOptions(new ArrayList<>(Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true")))));
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, containsString("		long lastModified = toEpochMilli(so.getUpdatedAt());\n" //
+				+ "		if (so.getRack() != null) {\n" //
+				+ "			lastModified = Math.max(lastModified, toEpochMilli(so.getRack().getUpdatedAt()));\n" //
+				+ "		}\n" //
+				+ "		return lastModified;\n"));
+	}
+
+	@Test
+	public void generate_PassATableWithETagOptionReferencingAReferenceChainWithETagOptions_ReturnsALastModifiedOfAll() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true")));
+		TableSO rack = database.getSchemes().get(0).getTables().get(1);
+		ColumnSO roomId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		TableSO room = new TableSO().setName("ROOM").setColumns(Arrays.asList(roomId)).setForeignKeys(new ArrayList<>())
+				.setMetaInfo(new TableMetaInfo().setOptions(
+						new ArrayList<>(Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true")))));
+		roomId.setTable(room);
+		ColumnSO rackRoom = new ColumnSO().setName("ROOM").setType(new TypeSO().setSqlType(Types.BIGINT)).setTable(rack);
+		rack.setColumns(Arrays.asList(rack.getColumns().get(0), rackRoom))
+				.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+						Arrays.asList(new ReferenceSO().setReferencedColumn(roomId).setReferencingColumn(rackRoom)))))
+				.setMetaInfo(new TableMetaInfo().setOptions(
+						new ArrayList<>(Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true")))));
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, containsString("		long lastModified = toEpochMilli(so.getUpdatedAt());\n" //
+				+ "		if (so.getRack() != null) {\n" //
+				+ "			lastModified = Math.max(lastModified, toEpochMilli(so.getRack().getUpdatedAt()));\n" //
+				+ "			if (so.getRack().getRoom() != null) {\n" //
+				+ "				lastModified = Math.max(lastModified, " //
+				+ "toEpochMilli(so.getRack().getRoom().getUpdatedAt()));\n" //
+				+ "			}\n" //
+				+ "		}\n" //
+				+ "		return lastModified;\n"));
+	}
+
+	@Test
+	public void generate_PassATableWithETagOptionReferencingATableWithoutETagOption_ReturnsAControllerWithoutETags() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT),
+				Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true")));
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, not(containsString("WebRequest")));
+		assertThat(returned, not(containsString("NOT_MODIFIED")));
+		assertThat(returned, not(containsString("lastModified")));
+	}
+
+	@Test
+	public void generate_PassATableWithoutETagOption_ReturnsAControllerWithoutConditionalRequests() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookController(database);
+		// Check
+		assertThat(returned, not(containsString("WebRequest")));
+		assertThat(returned, not(containsString("NOT_MODIFIED")));
+	}
+
+}
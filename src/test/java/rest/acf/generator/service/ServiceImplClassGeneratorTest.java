@@ -0,0 +1,119 @@
+package rest.acf.generator.service;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static rest.acf.LibraryFixture.createLibrary;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+import rest.acf.generator.converter.ModelToJavaSourceCodeConverter;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+import rest.acf.generator.utils.ClassSourceModelUtils;
+import rest.acf.generator.utils.Options;
+
+/**
+ * Unit tests for class "ServiceImplClassGenerator".
+ *
+ * @author ollie
+ *
+ */
+public class ServiceImplClassGeneratorTest {
+
+	private static final String AUTHOR_NAME = "rest-acf";
+
+	private String generateBookServiceImpl(DatabaseSO database) {
+		NameConverter nameConverter = new NameConverter();
+		TypeConverter typeConverter = new TypeConverter();
+		return new ModelToJavaSourceCodeConverter().classSourceModelToJavaSourceCode(
+				new ServiceImplClassGenerator(new ClassSourceModelUtils(nameConverter, typeConverter), nameConverter,
+						typeConverter, database).generate(database.getSchemes().get(0).getTables().get(0),
+								AUTHOR_NAME));
+	}
+
+	private String generateBookService(DatabaseSO database) {
+		NameConverter nameConverter = new NameConverter();
+		TypeConverter typeConverter = new TypeConverter();
+		return new ModelToJavaSourceCodeConverter().interfaceSourceModelToJavaSourceCode(
+				new ServiceInterfaceGenerator(new ClassSourceModelUtils(nameConverter, typeConverter), nameConverter,
+						typeConverter, database).generate(database.getSchemes().get(0).getTables().get(0),
+								AUTHOR_NAME));
+	}
+
+	@Test
+	public void generate_PassATableWithAnIntegerPrimaryKeyAndKeysetPagination_ReturnsAFindAllAfterForThePKType() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.INTEGER), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Run
+		String returned = generateBookServiceImpl(database);
+		// Check
+		assertThat(returned, containsString("	@Override\n" //
+				+ "	@Transactional(readOnly = true)\n" //
+				+ "	public ResultPageSO<BookSO> findAllAfter(int after, int size) throws PersistenceException {\n" //
+				+ "		List<BookSO> l = this.bookPersistencePort.findAllAfter(after, size);\n"));
+		assertThat(generateBookService(database),
+				containsString("	ResultPageSO<BookSO> findAllAfter(int after, int size) "
+						+ "throws PersistenceException;"));
+	}
+
+	@Test
+	public void generate_PassATableWithANonNumericPrimaryKeyAndKeysetPagination_ReturnsNoFindAllAfter() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.VARCHAR).setLength(36), new ArrayList<>(),
+				new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("true"));
+		// Run
+		String returned = generateBookServiceImpl(database);
+		// Check
+		assertThat(returned, not(containsString("findAllAfter")));
+		assertThat(generateBookService(database), not(containsString("findAllAfter")));
+	}
+
+
+	@Test
+	public void generate_PassADatabaseWithMetricsOption_ReturnsAServiceWithAnInjectedMeterRegistryAndTimers() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>(),
+				new OptionSO().setName(Options.METRICS).setValue("true"));
+		// Run
+		String returned = generateBookServiceImpl(database);
+		// Check
+		assertThat(returned, containsString("import io.micrometer.core.instrument.MeterRegistry;\n"));
+		assertThat(returned, containsString("	private final MeterRegistry meterRegistry;\n"));
+		assertThat(returned,
+				containsString("	public BookServiceImpl(BookPersistencePort bookPersistencePort, "
+						+ "MeterRegistry meterRegistry) {\n" //
+						+ "		super();\n" //
+						+ "		this.bookPersistencePort = bookPersistencePort;\n" //
+						+ "		this.meterRegistry = meterRegistry;\n" //
+						+ "	}\n"));
+		assertThat(returned, containsString("	public boolean delete(long id) throws PersistenceException {\n" //
+				+ "		Timer.Sample sample = Timer.start(this.meterRegistry);\n" //
+				+ "		try {\n" //
+				+ "			return this.bookPersistencePort.delete(id);\n" //
+				+ "		} finally {\n" //
+				+ "			sample.stop(this.meterRegistry.timer(\"service.calls\", \"table\", \"book\", "
+				+ "\"method\", \"delete\"));\n" //
+				+ "		}\n" //
+				+ "	}\n"));
+	}
+
+	@Test
+	public void generate_PassADatabaseWithoutMetricsOption_ReturnsAServiceWithoutMeterRegistry() {
+		// Prepare
+		DatabaseSO database = createLibrary(new TypeSO().setSqlType(Types.BIGINT), new ArrayList<>());
+		// Run
+		String returned = generateBookServiceImpl(database);
+		// Check
+		assertThat(returned, not(containsString("meterRegistry")));
+	}
+
+}
@@ -0,0 +1,73 @@
+package rest.acf.generator.template;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for class "CompiledTemplate".
+ *
+ * @author ollie
+ *
+ */
+public class CompiledTemplateTest {
+
+	@Test
+	public void render_PassValuesForAllPlaceholders_ReturnsTheTextWithTheValues() {
+		// Prepare
+		String expected = "public class Book {\n\tprivate BookService bookService;\n}";
+		Map<String, String> values = new HashMap<>();
+		values.put("class.name", "Book");
+		values.put("service.class.name", "BookService");
+		values.put("service.attribute.name", "bookService");
+		CompiledTemplate unitUnderTest = CompiledTemplate
+				.compile("public class ${class.name} {\n\tprivate ${service.class.name} ${service.attribute.name};\n}");
+		// Run
+		String returned = unitUnderTest.render(values);
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
+	@Test
+	public void render_PassAnEmptyBlockValue_RemovesTheLineOfTheBlock() {
+		// Prepare
+		String expected = "a\nb\n";
+		Map<String, String> values = new HashMap<>();
+		values.put("block", "");
+		CompiledTemplate unitUnderTest = CompiledTemplate.compile("a\n$^{block}\nb\n");
+		// Run
+		String returned = unitUnderTest.render(values);
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
+	@Test
+	public void render_PassNoValueForAPlaceholder_ThrowsAnException() {
+		// Prepare
+		CompiledTemplate unitUnderTest = CompiledTemplate.compile("import ${base.package.name}.${class.name};");
+		// Run
+		IllegalArgumentException thrown = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> unitUnderTest.render(Map.of("class.name", "Book")));
+		// Check
+		assertThat(thrown.getMessage(), equalTo("unresolved placeholders: base.package.name"));
+	}
+
+	@Test
+	public void render_PassAStringBuilder_AppendsTheRenderedTextForEachCall() {
+		// Prepare
+		String expected = "[a][b]";
+		StringBuilder out = new StringBuilder();
+		CompiledTemplate unitUnderTest = CompiledTemplate.compile("[${x}]");
+		// Run
+		unitUnderTest.render(Map.of("x", "a"), out);
+		unitUnderTest.render(Map.of("x", "b"), out);
+		// Check
+		assertThat(out.toString(), equalTo(expected));
+	}
+
+}
\ No newline at end of file
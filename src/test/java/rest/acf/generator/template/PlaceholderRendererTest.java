@@ -0,0 +1,101 @@
+package rest.acf.generator.template;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for class "PlaceholderRenderer".
+ *
+ * @author ollie
+ *
+ */
+public class PlaceholderRendererTest {
+
+	@Test
+	public void render_PassATextWithPlaceholdersAndBlocks_ReturnsTheTextWithTheValues() {
+		// Prepare
+		String expected = "package de.ollie.library;\n\nimport de.ollie.library.service.BookService;\nclass A {}";
+		Map<String, String> context = new HashMap<>();
+		context.put("base.package.name", "de.ollie.library");
+		context.put("imports", "import de.ollie.library.service.BookService;\n");
+		context.put("block", "");
+		// Run
+		String returned = PlaceholderRenderer.render(
+				"package ${base.package.name};\n\n$^{imports}\n$^{block}\nclass A {}", context);
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
+	@Test
+	public void render_PassATextWithoutPlaceholders_ReturnsThePassedText() {
+		// Prepare
+		String text = "class A {}";
+		// Run
+		String returned = PlaceholderRenderer.render(text, Map.of());
+		// Check
+		assertThat(returned, sameInstance(text));
+	}
+
+	@Test
+	public void render_PassATextWithUnresolvedPlaceholders_ThrowsAnExceptionWithAllUnresolvedNames() {
+		// Prepare
+		String text = "${a}.${b}.${c}.${a}";
+		// Run
+		IllegalArgumentException thrown = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> PlaceholderRenderer.render(text, Map.of("b", "B")));
+		// Check
+		assertThat(thrown.getMessage(), equalTo("unresolved placeholders: a, c"));
+	}
+
+	@Test
+	public void render_PassAValueContainingAPlaceholder_DoesNotRenderTheValueAgain() {
+		// Prepare
+		String expected = "${base.package.name}.Book";
+		// Run
+		String returned = PlaceholderRenderer.render("${package}.Book", Map.of("package", "${base.package.name}"));
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
+	@Test
+	public void render_PassATextWithSequencesWhichAreNoPlaceholderNames_KeepsTheSequencesAsTheyAre() {
+		// Prepare
+		String expected = "String s = `${a + b}` + \"${}\" + \"${ x }\" + \"${1st}\"; // Book";
+		// Run
+		String returned = PlaceholderRenderer.render(
+				"String s = `${a + b}` + \"${}\" + \"${ x }\" + \"${1st}\"; // ${table.name}",
+				Map.of("table.name", "Book"));
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
+	@Test
+	public void renderLenient_PassATextWithUnresolvedPlaceholders_KeepsTheUnresolvedPlaceholdersAsTheyAre() {
+		// Prepare
+		String expected = "package de.ollie.library;\n$^{imports}\nString s = \"${user.name}\";";
+		// Run
+		String returned = PlaceholderRenderer.renderLenient(
+				"package ${base.package.name};\n$^{imports}\nString s = \"${user.name}\";",
+				Map.of("base.package.name", "de.ollie.library"));
+		// Check
+		assertThat(returned, equalTo(expected));
+	}
+
+	@Test
+	public void renderLenient_PassATextWithoutPlaceholders_ReturnsThePassedText() {
+		// Prepare
+		String text = "class A {}";
+		// Run
+		String returned = PlaceholderRenderer.renderLenient(text, Map.of("base.package.name", "de.ollie.library"));
+		// Check
+		assertThat(returned, sameInstance(text));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package rest.acf.generator.template;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for class "TemplateCache".
+ *
+ * @author ollie
+ *
+ */
+public class TemplateCacheTest {
+
+	private static final String TEMPLATE_PATH_PROPERTY = "restacf.template.path";
+
+	private TemplateCache unitUnderTest = new TemplateCache();
+
+	@Test
+	public void getTemplatesDescription_PassADirectoryWithTemplates_ReturnsTheNamesAndContentsOfTheTemplatesOnly()
+			throws IOException {
+		// Prepare
+		String expected = "template:A.template\na ${x}\n\ntemplate:B.template\nb\n\n";
+		Path directory = Files.createTempDirectory("templates");
+		Files.writeString(directory.resolve("B.template"), "b");
+		Files.writeString(directory.resolve("A.template"), "a ${x}\n");
+		Files.writeString(directory.resolve("README.txt"), "no template");
+		String templatePath = System.getProperty(TEMPLATE_PATH_PROPERTY);
+		System.setProperty(TEMPLATE_PATH_PROPERTY, directory.toString() + "/");
+		try {
+			// Run
+			String returned = this.unitUnderTest.getTemplatesDescription();
+			// Check
+			assertThat(returned, equalTo(expected));
+		} finally {
+			if (templatePath == null) {
+				System.clearProperty(TEMPLATE_PATH_PROPERTY);
+			} else {
+				System.setProperty(TEMPLATE_PATH_PROPERTY, templatePath);
+			}
+		}
+	}
+
+	@Test
+	public void getTemplatesDescription_PassAChangedCachedTemplate_ReturnsTheChangedContentAndRendersIt()
+			throws IOException {
+		// Prepare
+		String expected = "template:A.template\nnew ${x}\n\n";
+		Path directory = Files.createTempDirectory("templates");
+		Files.writeString(directory.resolve("A.template"), "old ${x}\n");
+		String templatePath = System.getProperty(TEMPLATE_PATH_PROPERTY);
+		System.setProperty(TEMPLATE_PATH_PROPERTY, directory.toString() + "/");
+		try {
+			this.unitUnderTest.get("A.template");
+			Files.writeString(directory.resolve("A.template"), "new ${x}\n");
+			// Run
+			String returned = this.unitUnderTest.getTemplatesDescription();
+			// Check
+			assertThat(returned, equalTo(expected));
+			assertThat(this.unitUnderTest.get("A.template").render(Collections.singletonMap("x", "1")),
+					equalTo("new 1\n"));
+		} finally {
+			if (templatePath == null) {
+				System.clearProperty(TEMPLATE_PATH_PROPERTY);
+			} else {
+				System.setProperty(TEMPLATE_PATH_PROPERTY, templatePath);
+			}
+		}
+	}
+
+}
\ No newline at end of file
@@ -5,7 +5,9 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.Matchers.nullValue;
 
@@ -16,8 +18,11 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
 import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
 import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
 import de.ollie.archimedes.alexandrian.service.so.TableSO;
 import de.ollie.archimedes.alexandrian.service.so.TypeSO;
 import rest.acf.generator.converter.NameConverter;
@@ -26,6 +31,7 @@ import rest.acf.model.AnnotationSourceModel;
 import rest.acf.model.AttributeSourceModel;
 import rest.acf.model.ClassSourceModel;
 import rest.acf.model.ImportSourceModel;
+import rest.acf.model.MethodSourceModel;
 import rest.acf.model.PackageSourceModel;
 import rest.acf.model.PropertySourceModel;
 
@@ -163,4 +169,348 @@ public class ClassSourceModelUtilsTest {
 		assertThat(returned, equalTo(expected));
 	}
 
+
+	@Test
+	public void isOptionSet_PassADatabaseWithoutTheOption_ReturnsFalse() {
+		assertThat(this.unitUnderTest.isOptionSet(new DatabaseSO(), Options.KEYSET_PAGINATION), equalTo(false));
+	}
+
+	@Test
+	public void isOptionSet_PassADatabaseWithTheOptionSetToFalse_ReturnsFalse() {
+		// Prepare
+		DatabaseSO database = new DatabaseSO()
+				.addOptions(new OptionSO().setName(Options.KEYSET_PAGINATION).setValue("FALSE"));
+		// Run
+		boolean returned = this.unitUnderTest.isOptionSet(database, Options.KEYSET_PAGINATION);
+		// Check
+		assertThat(returned, equalTo(false));
+	}
+
+	@Test
+	public void isOptionSet_PassADatabaseWithTheOptionWithoutValue_ReturnsTrue() {
+		// Prepare
+		DatabaseSO database = new DatabaseSO().addOptions(new OptionSO().setName(Options.KEYSET_PAGINATION));
+		// Run
+		boolean returned = this.unitUnderTest.isOptionSet(database, Options.KEYSET_PAGINATION);
+		// Check
+		assertThat(returned, equalTo(true));
+	}
+
+
+	@Test
+	public void getIntOptionValue_PassADatabaseWithoutTheOption_ReturnsTheDefaultValue() {
+		assertThat(this.unitUnderTest.getIntOptionValue(new DatabaseSO(), Options.JDBC_BATCH_SIZE, 50), equalTo(50));
+	}
+
+	@Test
+	public void getIntOptionValue_PassADatabaseWithANumericOptionValue_ReturnsTheOptionValue() {
+		// Prepare
+		DatabaseSO database = new DatabaseSO()
+				.addOptions(new OptionSO().setName(Options.JDBC_BATCH_SIZE).setValue(" 100 "));
+		// Run
+		int returned = this.unitUnderTest.getIntOptionValue(database, Options.JDBC_BATCH_SIZE, 50);
+		// Check
+		assertThat(returned, equalTo(100));
+	}
+
+	@Test
+	public void getIntOptionValue_PassADatabaseWithANonNumericOptionValue_ReturnsTheDefaultValue() {
+		// Prepare
+		DatabaseSO database = new DatabaseSO()
+				.addOptions(new OptionSO().setName(Options.JDBC_BATCH_SIZE).setValue("true"));
+		// Run
+		int returned = this.unitUnderTest.getIntOptionValue(database, Options.JDBC_BATCH_SIZE, 50);
+		// Check
+		assertThat(returned, equalTo(50));
+	}
+
+	@Test
+	public void getTableOptionValue_PassATableWithTheOption_ReturnsTheTrimmedOptionValue() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table")
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(
+				new OptionSO().setName(Options.FETCH_STRATEGY).setValue(" " + Options.FETCH_STRATEGY_JOIN_FETCH));
+		// Run
+		String returned = this.unitUnderTest.getTableOptionValue(table, Options.FETCH_STRATEGY, "");
+		// Check
+		assertThat(returned, equalTo(Options.FETCH_STRATEGY_JOIN_FETCH));
+	}
+
+	@Test
+	public void isLazyFetched_PassATableWithoutAFetchStrategy_ReturnsFalse() {
+		assertThat(this.unitUnderTest.isLazyFetched(new TableSO().setName("Table")), equalTo(false));
+	}
+
+	@Test
+	public void isLazyFetched_PassATableWithTheEntityGraphFetchStrategy_ReturnsTrue() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table")
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(
+				new OptionSO().setName(Options.FETCH_STRATEGY).setValue(Options.FETCH_STRATEGY_ENTITY_GRAPH));
+		// Run
+		boolean returned = this.unitUnderTest.isLazyFetched(table);
+		// Check
+		assertThat(returned, equalTo(true));
+	}
+
+	@Test
+	public void getCacheConcurrencyStrategy_PassATableWithAStrategyAsCacheOption_ReturnsTheStrategy() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table")
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.CACHE).setValue("read_only"));
+		// Run
+		String returned = this.unitUnderTest.getCacheConcurrencyStrategy(table);
+		// Check
+		assertThat(returned, equalTo("READ_ONLY"));
+	}
+
+	@Test
+	public void getCacheConcurrencyStrategy_PassATableWithAnUnknownStrategyAsCacheOption_ReturnsReadWrite() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table")
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.CACHE).setValue("true"));
+		// Run
+		String returned = this.unitUnderTest.getCacheConcurrencyStrategy(table);
+		// Check
+		assertThat(returned, equalTo("READ_WRITE"));
+	}
+
+	@Test
+	public void getPersistentColumns_PassATableWithoutETagOption_ReturnsTheColumnsOfTheTable() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table");
+		ColumnSO column = new ColumnSO().setName("Column").setTable(table);
+		table.getColumns().add(column);
+		// Run
+		List<ColumnSO> returned = this.unitUnderTest.getPersistentColumns(table);
+		// Check
+		assertThat(returned, equalTo(Arrays.asList(column)));
+	}
+
+	@Test
+	public void getPersistentColumns_PassATableWithETagOption_ReturnsTheColumnsAndAnUpdatedAtTimestamp() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table")
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.ETAG).setValue("true"));
+		ColumnSO column = new ColumnSO().setName("Column").setTable(table);
+		table.getColumns().add(column);
+		// Run
+		List<ColumnSO> returned = this.unitUnderTest.getPersistentColumns(table);
+		// Check
+		assertThat(returned.size(), equalTo(2));
+		assertThat(returned.get(0), sameInstance(column));
+		assertThat(returned.get(1).getName(), equalTo(ClassSourceModelUtils.UPDATED_AT_COLUMN_NAME));
+		assertThat(returned.get(1).getType().getSqlType(), equalTo(Types.TIMESTAMP));
+		assertThat(this.unitUnderTest.isUpdatedAtColumn(returned.get(1)), equalTo(true));
+		assertThat(table.getColumns().size(), equalTo(1));
+	}
+
+	@Test
+	public void getUpdatedAtColumn_PassATableWithETagOptionAndAnUpdatedAtColumn_ReturnsTheColumnOfTheTable() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table")
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.ETAG).setValue("true"));
+		ColumnSO column = new ColumnSO().setName("UPDATED_AT").setTable(table)
+				.setType(new TypeSO().setSqlType(Types.TIMESTAMP));
+		table.getColumns().add(column);
+		// Run
+		ColumnSO returned = this.unitUnderTest.getUpdatedAtColumn(table).get();
+		// Check
+		assertThat(returned, sameInstance(column));
+		assertThat(this.unitUnderTest.getPersistentColumns(table).size(), equalTo(1));
+	}
+
+	@Test
+	public void getTransferredColumns_PassATableWithOptimisticLockingAndETagOption_ReturnsTheColumnsAndAVersion() {
+		// Prepare
+		TableSO table = new TableSO().setName("Table")
+				.setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.ETAG).setValue("true"));
+		table.getMetaInfo().getOptions().add(new OptionSO().setName(Options.OPTIMISTIC_LOCKING).setValue("true"));
+		ColumnSO column = new ColumnSO().setName("Column").setTable(table);
+		table.getColumns().add(column);
+		// Run
+		List<ColumnSO> returned = this.unitUnderTest.getTransferredColumns(table);
+		// Check
+		assertThat(returned.size(), equalTo(2));
+		assertThat(returned.get(0), sameInstance(column));
+		assertThat(returned.get(1).getName(), equalTo(ClassSourceModelUtils.VERSION_COLUMN_NAME));
+		assertThat(returned.get(1).getType().getSqlType(), equalTo(Types.BIGINT));
+		assertThat(this.unitUnderTest.isVersionColumn(returned.get(1)), equalTo(true));
+		assertThat(this.unitUnderTest.getPersistentColumns(table).size(), equalTo(3));
+	}
+
+	@Test
+	public void addTimer_PassAMethod_WrapsTheCodeOfTheMethodIntoATimerSample() {
+		// Prepare
+		MethodSourceModel method = new MethodSourceModel().setName("findAll")
+				.setCode("\t\tif (true) {\n\t\t\treturn 42;\n\t\t}\n\n\t\treturn 0;\n\t}\n");
+		String expected = "\t\tTimer.Sample sample = Timer.start(this.meterRegistry);\n" //
+				+ "\t\ttry {\n" //
+				+ "\t\t\tif (true) {\n" //
+				+ "\t\t\t\treturn 42;\n" //
+				+ "\t\t\t}\n" //
+				+ "\n" //
+				+ "\t\t\treturn 0;\n" //
+				+ "\t\t} finally {\n" //
+				+ "\t\t\tsample.stop(this.meterRegistry.timer(\"service.calls\", \"table\", \"book\", \"method\", "
+				+ "\"findAll\"));\n" //
+				+ "\t\t}\n" //
+				+ "\t}\n";
+		// Run
+		MethodSourceModel returned = this.unitUnderTest.addTimer(method, "meterRegistry", "service.calls", "book");
+		// Check
+		assertThat(returned, sameInstance(method));
+		assertThat(returned.getCode(), equalTo(expected));
+	}
+
+	private TableSO createTable(ColumnSO... columns) {
+		TableSO table = new TableSO().setName(TABLE_NAME).setColumns(Arrays.asList(columns));
+		for (ColumnSO column : columns) {
+			column.setTable(table);
+		}
+		return table;
+	}
+
+	@Test
+	public void getKeysetColumn_PassATableWithASingleIntegralPrimaryKeyColumn_ReturnsThePrimaryKeyColumn() {
+		// Prepare
+		ColumnSO column = new ColumnSO().setName("Id").setPkMember(true).setType(new TypeSO().setSqlType(Types.INTEGER));
+		TableSO table = createTable(column,
+				new ColumnSO().setName(COLUMN0_NAME).setType(new TypeSO().setSqlType(TYPE_BIGINT)));
+		// Run
+		ColumnSO returned = this.unitUnderTest.getKeysetColumn(table).get();
+		// Check
+		assertThat(returned, sameInstance(column));
+		assertThat(this.unitUnderTest.getKeysetType(table), equalTo("int"));
+	}
+
+	@Test
+	public void getKeysetColumn_PassATableWithANonNumericPrimaryKeyColumn_ReturnsAnEmptyOptional() {
+		// Prepare
+		TableSO table = createTable(new ColumnSO().setName("Id").setPkMember(true)
+				.setType(new TypeSO().setSqlType(Types.VARCHAR).setLength(36)));
+		// Run
+		boolean returned = this.unitUnderTest.getKeysetColumn(table).isPresent();
+		// Check
+		assertThat(returned, equalTo(false));
+		assertThat(this.unitUnderTest.getKeysetType(table), nullValue());
+	}
+
+	@Test
+	public void getKeysetColumn_PassATableWithACompositePrimaryKey_ReturnsAnEmptyOptional() {
+		// Prepare
+		TableSO table = createTable(
+				new ColumnSO().setName("Id0").setPkMember(true).setType(new TypeSO().setSqlType(TYPE_BIGINT)),
+				new ColumnSO().setName("Id1").setPkMember(true).setType(new TypeSO().setSqlType(TYPE_BIGINT)));
+		// Run
+		boolean returned = this.unitUnderTest.getKeysetColumn(table).isPresent();
+		// Check
+		assertThat(returned, equalTo(false));
+	}
+
+	@Test
+	public void isKeysetPaginated_PassADatabaseWithTheOptionAndATableWithoutKeysetColumn_ReturnsFalse() {
+		// Prepare
+		DatabaseSO database = new DatabaseSO().addOptions(new OptionSO().setName(Options.KEYSET_PAGINATION));
+		TableSO table = createTable(new ColumnSO().setName("Id").setPkMember(true)
+				.setType(new TypeSO().setSqlType(Types.VARCHAR).setLength(36)));
+		// Run
+		boolean returned = this.unitUnderTest.isKeysetPaginated(database, table);
+		// Check
+		assertThat(returned, equalTo(false));
+	}
+
+	/**
+	 * Creates a table with an ID column and the passed options. If a referenced table is passed, the table gets a
+	 * column which references the ID column of the referenced table.
+	 */
+	private TableSO createReferencingTable(String tableName, TableSO referencedTable, String... optionNames) {
+		TableSO table = new TableSO().setName(tableName).setMetaInfo(new TableMetaInfo().setOptions(new ArrayList<>()));
+		List<ColumnSO> columns = new ArrayList<>();
+		columns.add(new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(TYPE_BIGINT))
+				.setTable(table));
+		List<ForeignKeySO> foreignKeys = new ArrayList<>();
+		if (referencedTable != null) {
+			ColumnSO referencingColumn = new ColumnSO().setName(referencedTable.getName())
+					.setType(new TypeSO().setSqlType(TYPE_BIGINT)).setTable(table);
+			columns.add(referencingColumn);
+			foreignKeys.add(new ForeignKeySO().setReferences(Arrays.asList(new ReferenceSO()
+					.setReferencedColumn(referencedTable.getColumns().get(0)).setReferencingColumn(referencingColumn))));
+		}
+		for (String optionName : optionNames) {
+			table.getMetaInfo().getOptions().add(new OptionSO().setName(optionName).setValue("true"));
+		}
+		return table.setColumns(columns).setForeignKeys(foreignKeys);
+	}
+
+	@Test
+	public void isETagged_PassATableWithoutETagOption_ReturnsFalse() {
+		// Prepare
+		TableSO table = createReferencingTable("BOOK", null);
+		// Run & Check
+		assertThat(this.unitUnderTest.isETagged(table), equalTo(false));
+	}
+
+	@Test
+	public void isETagged_PassATableWhoseReferenceChainHasETagOptions_ReturnsTrue() {
+		// Prepare
+		TableSO room = createReferencingTable("ROOM", null, Options.ETAG);
+		TableSO rack = createReferencingTable("RACK", room, Options.ETAG);
+		TableSO book = createReferencingTable("BOOK", rack, Options.ETAG);
+		// Run & Check
+		assertThat(this.unitUnderTest.isETagged(book), equalTo(true));
+		assertThat(this.unitUnderTest.getUpdatedAtColumn(book).isPresent(), equalTo(true));
+	}
+
+	@Test
+	public void isETagged_PassATableReferencingATableWithoutETagOption_ReturnsFalse() {
+		// Prepare
+		TableSO rack = createReferencingTable("RACK", null);
+		TableSO book = createReferencingTable("BOOK", rack, Options.ETAG);
+		// Run & Check
+		assertThat(this.unitUnderTest.isETagged(book), equalTo(false));
+		assertThat(this.unitUnderTest.getUpdatedAtColumn(book).isPresent(), equalTo(false));
+		assertThat(this.unitUnderTest.getPersistentColumns(book), equalTo(book.getColumns()));
+	}
+
+	@Test
+	public void isETagged_PassATableWithAReferenceWithoutETagOptionTwoLevelsDown_ReturnsFalse() {
+		// Prepare
+		TableSO room = createReferencingTable("ROOM", null);
+		TableSO rack = createReferencingTable("RACK", room, Options.ETAG);
+		TableSO book = createReferencingTable("BOOK", rack, Options.ETAG);
+		// Run & Check
+		assertThat(this.unitUnderTest.isETagged(book), equalTo(false));
+		assertThat(this.unitUnderTest.isETagged(rack), equalTo(false));
+	}
+
+	@Test
+	public void isETagged_PassATableWithDTOReferencesByIdReferencingATableWithoutETagOption_ReturnsTrue() {
+		// Prepare
+		TableSO rack = createReferencingTable("RACK", null);
+		TableSO book = createReferencingTable("BOOK", rack, Options.ETAG, Options.DTO_REFERENCES_BY_ID);
+		// Run & Check
+		assertThat(this.unitUnderTest.isETagged(book), equalTo(true));
+	}
+
+	@Test
+	public void isETagged_PassATableWithASelfReference_ReturnsFalse() {
+		// Prepare
+		TableSO employee = createReferencingTable("EMPLOYEE", null, Options.ETAG);
+		ColumnSO manager = new ColumnSO().setName("MANAGER").setType(new TypeSO().setSqlType(TYPE_BIGINT))
+				.setTable(employee);
+		employee.getColumns().add(manager);
+		employee.getForeignKeys().add(new ForeignKeySO().setReferences(Arrays.asList(
+				new ReferenceSO().setReferencedColumn(employee.getColumns().get(0)).setReferencingColumn(manager))));
+		// Run & Check
+		assertThat(this.unitUnderTest.isETagged(employee), equalTo(false));
+	}
+
 }
\ No newline at end of file
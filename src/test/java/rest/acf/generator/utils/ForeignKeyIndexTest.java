@@ -0,0 +1,93 @@
+package rest.acf.generator.utils;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import rest.acf.SyntheticModelBuilder;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+
+/**
+ * Unit tests for class "ForeignKeyIndex".
+ *
+ * @author ollie
+ *
+ */
+public class ForeignKeyIndexTest {
+
+	private DatabaseSO databaseSO = new SyntheticModelBuilder().setSeed(42L).setTableCount(100)
+			.setMaxForeignKeysPerTable(3).setHubTableCount(3).setHubReferenceRatio(0.5D).buildDatabaseSO();
+	private ForeignKeyIndex unitUnderTest = new ForeignKeyIndex(this.databaseSO);
+
+	@Test
+	public void getReferencedColumns_PassATable_ReturnsTheSameColumnsAsTheScanOverTheDatabase() {
+		// Prepare
+		ClassSourceModelUtils utils = new ClassSourceModelUtils(new NameConverter(), new TypeConverter());
+		for (TableSO table : this.databaseSO.getSchemes().get(0).getTables()) {
+			// Run
+			// Check
+			assertThat(this.unitUnderTest.getReferencedColumns(table),
+					equalTo(utils.getReferencedColumns(table, this.databaseSO)));
+		}
+	}
+
+	@Test
+	public void getForeignKeys_PassAColumn_ReturnsTheSameForeignKeysAsTheScanOverTheTable() {
+		// Prepare
+		ClassSourceModelUtils utils = new ClassSourceModelUtils(new NameConverter(), new TypeConverter());
+		for (TableSO table : this.databaseSO.getSchemes().get(0).getTables()) {
+			for (ColumnSO column : table.getColumns()) {
+				// Run
+				// Check
+				assertThat(this.unitUnderTest.getForeignKeys(column),
+						equalTo(Arrays.asList(utils.getForeignkeyByColumn(column))));
+			}
+		}
+	}
+
+	@Test
+	public void getReferencingReferences_PassATable_ReturnsAllReferencesToTheTable() {
+		// Prepare
+		int references = 0;
+		for (TableSO table : this.databaseSO.getSchemes().get(0).getTables()) {
+			// Run
+			references += this.unitUnderTest.getReferencingReferences(table).size();
+			// Check
+			this.unitUnderTest.getReferencingReferences(table)
+					.forEach(reference -> assertThat(reference.getReferencedColumn().getTable() == table,
+							equalTo(true)));
+		}
+		int expected = 0;
+		for (TableSO table : this.databaseSO.getSchemes().get(0).getTables()) {
+			expected += table.getForeignKeys().size();
+		}
+		assertThat(references, equalTo(expected));
+	}
+
+	@Test
+	public void getReferencingReferences_PassAReferencedTable_ReturnsAnUnmodifiableList() {
+		// Prepare
+		TableSO table = this.databaseSO.getSchemes().get(0).getTables().stream()
+				.filter(t -> !this.unitUnderTest.getReferencingReferences(t).isEmpty()).findFirst().get();
+		// Run
+		// Check
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+			this.unitUnderTest.getReferencingReferences(table).clear();
+		});
+		assertThat(this.unitUnderTest.getReferencingReferences(table).isEmpty(), equalTo(false));
+	}
+
+	@Test
+	public void isIndexOf_PassAnotherDatabase_ReturnsFalse() {
+		assertThat(this.unitUnderTest.isIndexOf(new DatabaseSO()), equalTo(false));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package rest.acf.generator.utils;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.ollie.archimedes.alexandrian.service.so.ColumnSO;
+import de.ollie.archimedes.alexandrian.service.so.DatabaseSO;
+import de.ollie.archimedes.alexandrian.service.so.ForeignKeySO;
+import de.ollie.archimedes.alexandrian.service.so.OptionSO;
+import de.ollie.archimedes.alexandrian.service.so.ReferenceSO;
+import de.ollie.archimedes.alexandrian.service.so.SchemeSO;
+import de.ollie.archimedes.alexandrian.service.so.TableMetaInfo;
+import de.ollie.archimedes.alexandrian.service.so.TableSO;
+import de.ollie.archimedes.alexandrian.service.so.TypeSO;
+import rest.acf.generator.converter.NameConverter;
+import rest.acf.generator.converter.TypeConverter;
+
+/**
+ * Unit tests for class "ModelFingerprintBuilder".
+ *
+ * @author ollie
+ *
+ */
+public class ModelFingerprintBuilderTest {
+
+	private static final String BASE_PACKAGE_NAME = "base.pack.age";
+	private static final String VERSION = "1.0.0";
+
+	private ModelFingerprintBuilder unitUnderTest = new ModelFingerprintBuilder(
+			new ClassSourceModelUtils(new NameConverter(), new TypeConverter()));
+
+	private DatabaseSO createDatabase(int titleLength) {
+		ColumnSO rackId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookRack = new ColumnSO().setName("RACK").setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookTitle = new ColumnSO().setName("TITLE")
+				.setType(new TypeSO().setSqlType(Types.VARCHAR).setLength(titleLength));
+		ColumnSO authorId = new ColumnSO().setName("ID").setPkMember(true)
+				.setType(new TypeSO().setSqlType(Types.BIGINT));
+		TableSO rack = new TableSO().setName("RACK").setColumns(Arrays.asList(rackId))
+				.setForeignKeys(new ArrayList<>());
+		TableSO book = new TableSO().setName("BOOK").setColumns(Arrays.asList(bookId, bookRack, bookTitle))
+				.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+						Arrays.asList(new ReferenceSO().setReferencedColumn(rackId).setReferencingColumn(bookRack)))));
+		TableSO author = new TableSO().setName("AUTHOR").setColumns(Arrays.asList(authorId))
+				.setForeignKeys(new ArrayList<>());
+		rackId.setTable(rack);
+		bookId.setTable(book);
+		bookRack.setTable(book);
+		bookTitle.setTable(book);
+		authorId.setTable(author);
+		return new DatabaseSO().setName("Library").setSchemes(
+				Arrays.asList(new SchemeSO().setName("public").setTables(Arrays.asList(author, book, rack))));
+	}
+
+	/**
+	 * Creates a database with a table BOOK which references a table RACK which references a table ROOM. The tables BOOK
+	 * and RACK have the option ETAG.
+	 */
+	private DatabaseSO createETagChainDatabase(boolean roomETag) {
+		ColumnSO roomId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO rackId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO rackRoom = new ColumnSO().setName("ROOM").setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookId = new ColumnSO().setName("ID").setPkMember(true).setType(new TypeSO().setSqlType(Types.BIGINT));
+		ColumnSO bookRack = new ColumnSO().setName("RACK").setType(new TypeSO().setSqlType(Types.BIGINT));
+		List<OptionSO> roomOptions = new ArrayList<>();
+		if (roomETag) {
+			roomOptions.add(new OptionSO().setName(Options.ETAG).setValue("true"));
+		}
+		TableSO room = new TableSO().setName("ROOM").setColumns(Arrays.asList(roomId))
+				.setForeignKeys(new ArrayList<>()).setMetaInfo(new TableMetaInfo().setOptions(roomOptions));
+		TableSO rack = new TableSO().setName("RACK").setColumns(Arrays.asList(rackId, rackRoom))
+				.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+						Arrays.asList(new ReferenceSO().setReferencedColumn(roomId).setReferencingColumn(rackRoom)))))
+				.setMetaInfo(new TableMetaInfo()
+						.setOptions(Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true"))));
+		TableSO book = new TableSO().setName("BOOK").setColumns(Arrays.asList(bookId, bookRack))
+				.setForeignKeys(Arrays.asList(new ForeignKeySO().setReferences(
+						Arrays.asList(new ReferenceSO().setReferencedColumn(rackId).setReferencingColumn(bookRack)))))
+				.setMetaInfo(new TableMetaInfo()
+						.setOptions(Arrays.asList(new OptionSO().setName(Options.ETAG).setValue("true"))));
+		roomId.setTable(room);
+		rackId.setTable(rack);
+		rackRoom.setTable(rack);
+		bookId.setTable(book);
+		bookRack.setTable(book);
+		return new DatabaseSO().setName("Library").setSchemes(
+				Arrays.asList(new SchemeSO().setName("public").setTables(Arrays.asList(book, rack, room))));
+	}
+
+	@Test
+	public void build_PassTheSameModelTwice_ReturnsEqualFingerprints() {
+		// Prepare
+		Map<String, String> expected = this.unitUnderTest.build(createDatabase(100), BASE_PACKAGE_NAME, VERSION);
+		// Run
+		Map<String, String> returned = this.unitUnderTest.build(createDatabase(100), BASE_PACKAGE_NAME, VERSION);
+		// Check
+		assertThat(returned, equalTo(expected));
+		assertThat(returned.size(), equalTo(4));
+	}
+
+	@Test
+	public void build_ChangeAColumnOfAReferencingTable_ChangesTheFingerprintsOfTheTableAndTheReferencedTable() {
+		// Prepare
+		Map<String, String> before = this.unitUnderTest.build(createDatabase(100), BASE_PACKAGE_NAME, VERSION);
+		// Run
+		Map<String, String> returned = this.unitUnderTest.build(createDatabase(200), BASE_PACKAGE_NAME, VERSION);
+		// Check
+		assertThat(returned.get("table.public.BOOK"), not(equalTo(before.get("table.public.BOOK"))));
+		assertThat(returned.get("table.public.RACK"), not(equalTo(before.get("table.public.RACK"))));
+		assertThat(returned.get("table.public.AUTHOR"), equalTo(before.get("table.public.AUTHOR")));
+		assertThat(returned.get(ModelFingerprintBuilder.DATABASE_KEY),
+				equalTo(before.get(ModelFingerprintBuilder.DATABASE_KEY)));
+	}
+
+	@Test
+	public void build_ChangeATableTwoLevelsDownTheReferenceChainOfAnETagTable_ChangesTheFingerprintOfTheETagTable() {
+		// Prepare
+		Map<String, String> before = this.unitUnderTest.build(createETagChainDatabase(false), BASE_PACKAGE_NAME,
+				VERSION);
+		// Run
+		Map<String, String> returned = this.unitUnderTest.build(createETagChainDatabase(true), BASE_PACKAGE_NAME,
+				VERSION);
+		// Check
+		assertThat(returned.get("table.public.BOOK"), not(equalTo(before.get("table.public.BOOK"))));
+	}
+
+	@Test
+	public void build_ChangeTheGeneratorVersion_ChangesTheDatabaseFingerprint() {
+		// Prepare
+		Map<String, String> before = this.unitUnderTest.build(createDatabase(100), BASE_PACKAGE_NAME, VERSION);
+		// Run
+		Map<String, String> returned = this.unitUnderTest.build(createDatabase(100), BASE_PACKAGE_NAME, "1.0.1");
+		// Check
+		assertThat(returned.get(ModelFingerprintBuilder.DATABASE_KEY),
+				not(equalTo(before.get(ModelFingerprintBuilder.DATABASE_KEY))));
+		assertThat(returned.get("table.public.BOOK"), equalTo(before.get("table.public.BOOK")));
+	}
+
+	@Test
+	public void getTableName_PassATableKey_ReturnsTheNameOfTheTable() {
+		assertThat(this.unitUnderTest.getTableName("table.public.BOOK"), equalTo("BOOK"));
+	}
+
+	@Test
+	public void getTableName_PassTheDatabaseKey_ReturnsANullValue() {
+		assertThat(this.unitUnderTest.getTableName(ModelFingerprintBuilder.DATABASE_KEY), nullValue());
+	}
+
+}
\ No newline at end of file
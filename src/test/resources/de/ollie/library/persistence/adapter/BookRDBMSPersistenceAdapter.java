@@ -3,8 +3,13 @@ package de.ollie.library.persistence.adapter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import de.ollie.library.persistence.converter.BookDBOConverter;
 import de.ollie.library.persistence.dbo.BookDBO;
@@ -12,6 +17,7 @@ import de.ollie.library.persistence.repository.BookRepository;
 import de.ollie.library.service.persistence.exception.PersistenceException;
 import de.ollie.library.service.persistence.port.BookPersistencePort;
 import de.ollie.library.service.so.BookSO;
+import de.ollie.library.service.so.ResultPageSO;
 
 /**
  * An implementation of the book persistence port interface for RDBMS.
@@ -23,6 +29,8 @@ import de.ollie.library.service.so.BookSO;
 @Service
 public class BookRDBMSPersistenceAdapter implements BookPersistencePort {
 
+	private static final int DELETE_CHUNK_SIZE = 1000;
+	private static final Set<String> SORT_ATTRIBUTE_NAMES = Set.of("id", "rack", "referenceLibrary", "title");
 	private final BookDBOConverter bookDBOConverter;
 	private final BookRepository bookRepository;
 
@@ -34,27 +42,41 @@ public class BookRDBMSPersistenceAdapter implements BookPersistencePort {
 
 	@Override
 	public boolean delete(long id) throws PersistenceException {
-		boolean result = false;
 		try {
-			Optional<BookDBO> dbo = this.bookRepository.findById(id);
-			if (dbo.isPresent()) {
-				this.bookRepository.delete(dbo.get());
-				result = true;
-			}
+			return this.bookRepository.deleteWithId(id) > 0;
 		} catch (Exception e) {
 			throw new PersistenceException(PersistenceException.Type.WriteError, "error while deleting book with id: " + id, e);
 		}
-		return result;
 	}
 
 	@Override
-	public List<BookSO> findAll() throws PersistenceException {
+	@Transactional
+	public int deleteAll(List<Long> ids) throws PersistenceException {
 		try {
-			List<BookSO> sos = new ArrayList<>();
-			for (BookDBO dbo : this.bookRepository.findAll()) {
+			int result = 0;
+			for (int i = 0, leni = ids.size(); i < leni; i += DELETE_CHUNK_SIZE) {
+				result += this.bookRepository.deleteWithIds(ids.subList(i, Math.min(i + DELETE_CHUNK_SIZE, leni)));
+			}
+			return result;
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while deleting " + ids.size() + " books.", e);
+		}
+	}
+
+	@Override
+	public ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException {
+		Sort order = createSort(sort);
+		try {
+			Page<BookDBO> dbos = this.bookRepository.findAll(PageRequest.of(page, size, order));
+			List<BookSO> sos = new ArrayList<>(dbos.getNumberOfElements());
+			for (BookDBO dbo : dbos) {
 				sos.add(this.bookDBOConverter.convertDBOToSO(dbo));
 			}
-			return sos;
+			return new ResultPageSO<BookSO>() //
+					.setCurrentPage(dbos.getNumber()) //
+					.setResultsPerPage(dbos.getSize()) //
+					.setResults(sos) //
+					.setTotalResults((int) dbos.getTotalElements());
 		} catch (Exception e) {
 			throw new PersistenceException(PersistenceException.Type.ReadError, "error while finding all books.", e);
 		}
@@ -84,16 +106,59 @@ public class BookRDBMSPersistenceAdapter implements BookPersistencePort {
 	}
 
 	@Override
-	public List<BookSO> findBooksForRack(long rackId) throws PersistenceException {
+	public List<Long> saveAll(List<BookSO> sos) throws PersistenceException {
 		try {
-			List<BookSO> sos = new ArrayList<>();
-			for (BookDBO dbo : this.bookRepository.findBooksForRack(rackId)) {
+			List<BookDBO> dbos = new ArrayList<>(sos.size());
+			for (BookSO so : sos) {
+				dbos.add(this.bookDBOConverter.convertSOToDBO(so));
+			}
+			List<Long> ids = new ArrayList<>(dbos.size());
+			for (BookDBO dbo : this.bookRepository.saveAll(dbos)) {
+				ids.add(dbo.getId());
+			}
+			return ids;
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while saving " + sos.size() + " books.", e);
+		}
+	}
+
+	@Override
+	public ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException {
+		Sort order = createSort(sort);
+		try {
+			Page<BookDBO> dbos = this.bookRepository.findBooksForRack(rackId, PageRequest.of(page, size, order));
+			List<BookSO> sos = new ArrayList<>(dbos.getNumberOfElements());
+			for (BookDBO dbo : dbos) {
 				sos.add(this.bookDBOConverter.convertDBOToSO(dbo));
 			}
-			return sos;
+			return new ResultPageSO<BookSO>() //
+					.setCurrentPage(dbos.getNumber()) //
+					.setResultsPerPage(dbos.getSize()) //
+					.setResults(sos) //
+					.setTotalResults((int) dbos.getTotalElements());
 		} catch (Exception e) {
 			throw new PersistenceException(PersistenceException.Type.ReadError, "error while finding all books for rack:" + rackId, e);
 		}
 	}
 
+	private Sort createSort(String sort) throws PersistenceException {
+		Sort result = Sort.unsorted();
+		if (sort != null) {
+			for (String attributeName : sort.split(",")) {
+				attributeName = attributeName.trim();
+				boolean descending = attributeName.startsWith("-");
+				if (descending) {
+					attributeName = attributeName.substring(1);
+				} else if (attributeName.isEmpty()) {
+					continue;
+				}
+				if (!SORT_ATTRIBUTE_NAMES.contains(attributeName)) {
+					throw new PersistenceException(PersistenceException.Type.InvalidSortError, "unknown sort attribute: " + attributeName, null);
+				}
+				result = result.and(descending ? Sort.by(attributeName).descending() : Sort.by(attributeName));
+			}
+		}
+		return result.isUnsorted() ? Sort.by("id") : result;
+	}
+
 }
\ No newline at end of file
@@ -3,8 +3,13 @@ package de.ollie.library.persistence.adapter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import de.ollie.library.persistence.converter.RackDBOConverter;
 import de.ollie.library.persistence.dbo.RackDBO;
@@ -12,6 +17,7 @@ import de.ollie.library.persistence.repository.RackRepository;
 import de.ollie.library.service.persistence.exception.PersistenceException;
 import de.ollie.library.service.persistence.port.RackPersistencePort;
 import de.ollie.library.service.so.RackSO;
+import de.ollie.library.service.so.ResultPageSO;
 
 /**
  * An implementation of the rack persistence port interface for RDBMS.
@@ -23,6 +29,8 @@ import de.ollie.library.service.so.RackSO;
 @Service
 public class RackRDBMSPersistenceAdapter implements RackPersistencePort {
 
+	private static final int DELETE_CHUNK_SIZE = 1000;
+	private static final Set<String> SORT_ATTRIBUTE_NAMES = Set.of("id", "name");
 	private final RackDBOConverter rackDBOConverter;
 	private final RackRepository rackRepository;
 
@@ -34,27 +42,41 @@ public class RackRDBMSPersistenceAdapter implements RackPersistencePort {
 
 	@Override
 	public boolean delete(long id) throws PersistenceException {
-		boolean result = false;
 		try {
-			Optional<RackDBO> dbo = this.rackRepository.findById(id);
-			if (dbo.isPresent()) {
-				this.rackRepository.delete(dbo.get());
-				result = true;
-			}
+			return this.rackRepository.deleteWithId(id) > 0;
 		} catch (Exception e) {
 			throw new PersistenceException(PersistenceException.Type.WriteError, "error while deleting rack with id: " + id, e);
 		}
-		return result;
 	}
 
 	@Override
-	public List<RackSO> findAll() throws PersistenceException {
+	@Transactional
+	public int deleteAll(List<Long> ids) throws PersistenceException {
 		try {
-			List<RackSO> sos = new ArrayList<>();
-			for (RackDBO dbo : this.rackRepository.findAll()) {
+			int result = 0;
+			for (int i = 0, leni = ids.size(); i < leni; i += DELETE_CHUNK_SIZE) {
+				result += this.rackRepository.deleteWithIds(ids.subList(i, Math.min(i + DELETE_CHUNK_SIZE, leni)));
+			}
+			return result;
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while deleting " + ids.size() + " racks.", e);
+		}
+	}
+
+	@Override
+	public ResultPageSO<RackSO> findAll(int page, int size, String sort) throws PersistenceException {
+		Sort order = createSort(sort);
+		try {
+			Page<RackDBO> dbos = this.rackRepository.findAll(PageRequest.of(page, size, order));
+			List<RackSO> sos = new ArrayList<>(dbos.getNumberOfElements());
+			for (RackDBO dbo : dbos) {
 				sos.add(this.rackDBOConverter.convertDBOToSO(dbo));
 			}
-			return sos;
+			return new ResultPageSO<RackSO>() //
+					.setCurrentPage(dbos.getNumber()) //
+					.setResultsPerPage(dbos.getSize()) //
+					.setResults(sos) //
+					.setTotalResults((int) dbos.getTotalElements());
 		} catch (Exception e) {
 			throw new PersistenceException(PersistenceException.Type.ReadError, "error while finding all racks.", e);
 		}
@@ -83,4 +105,41 @@ public class RackRDBMSPersistenceAdapter implements RackPersistencePort {
 		}
 	}
 
+	@Override
+	public List<Long> saveAll(List<RackSO> sos) throws PersistenceException {
+		try {
+			List<RackDBO> dbos = new ArrayList<>(sos.size());
+			for (RackSO so : sos) {
+				dbos.add(this.rackDBOConverter.convertSOToDBO(so));
+			}
+			List<Long> ids = new ArrayList<>(dbos.size());
+			for (RackDBO dbo : this.rackRepository.saveAll(dbos)) {
+				ids.add(dbo.getId());
+			}
+			return ids;
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while saving " + sos.size() + " racks.", e);
+		}
+	}
+
+	private Sort createSort(String sort) throws PersistenceException {
+		Sort result = Sort.unsorted();
+		if (sort != null) {
+			for (String attributeName : sort.split(",")) {
+				attributeName = attributeName.trim();
+				boolean descending = attributeName.startsWith("-");
+				if (descending) {
+					attributeName = attributeName.substring(1);
+				} else if (attributeName.isEmpty()) {
+					continue;
+				}
+				if (!SORT_ATTRIBUTE_NAMES.contains(attributeName)) {
+					throw new PersistenceException(PersistenceException.Type.InvalidSortError, "unknown sort attribute: " + attributeName, null);
+				}
+				result = result.and(descending ? Sort.by(attributeName).descending() : Sort.by(attributeName));
+			}
+		}
+		return result.isUnsorted() ? Sort.by("id") : result;
+	}
+
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package de.ollie.library.persistence.repository;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import de.ollie.library.persistence.dbo.BookDBO;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * A CRUD repository for book access.
@@ -17,9 +21,19 @@ import org.springframework.data.jpa.repository.Query;
  * GENERATED CODE!!! DO NOT CHANGE!!!
  */
 @Repository
-public interface BookRepository extends CrudRepository<BookDBO, Long> {
+public interface BookRepository extends PagingAndSortingRepository<BookDBO, Long> {
 
-	@Query("SELECT b FROM Book b WHERE b.rack.id=?1")
-	List<BookDBO> findBooksForRack(long rackId);
+	@Modifying
+	@Query("DELETE FROM Book b WHERE b.id=?1")
+	@Transactional
+	int deleteWithId(long id);
+
+	@Modifying
+	@Query("DELETE FROM Book b WHERE b.id IN ?1")
+	@Transactional
+	int deleteWithIds(List<Long> ids);
+
+	@Query(value = "SELECT b FROM Book b WHERE b.rack.id=?1", countQuery = "SELECT COUNT(b) FROM Book b WHERE b.rack.id=?1")
+	Page<BookDBO> findBooksForRack(long rackId, Pageable pageable);
 
 }
\ No newline at end of file
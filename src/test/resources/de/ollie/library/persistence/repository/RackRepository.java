@@ -1,10 +1,16 @@
 package de.ollie.library.persistence.repository;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import de.ollie.library.persistence.dbo.RackDBO;
 
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
 /**
  * A CRUD repository for rack access.
  *
@@ -13,5 +19,16 @@ import de.ollie.library.persistence.dbo.RackDBO;
  * GENERATED CODE!!! DO NOT CHANGE!!!
  */
 @Repository
-public interface RackRepository extends CrudRepository<RackDBO, Long> {
+public interface RackRepository extends PagingAndSortingRepository<RackDBO, Long> {
+
+	@Modifying
+	@Query("DELETE FROM Rack r WHERE r.id=?1")
+	@Transactional
+	int deleteWithId(long id);
+
+	@Modifying
+	@Query("DELETE FROM Rack r WHERE r.id IN ?1")
+	@Transactional
+	int deleteWithIds(List<Long> ids);
+
 }
\ No newline at end of file
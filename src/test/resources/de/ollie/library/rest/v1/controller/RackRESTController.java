@@ -15,12 +15,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import de.ollie.library.rest.v1.converter.RackDTOConverter;
 import de.ollie.library.rest.v1.dto.RackDTO;
 import de.ollie.library.rest.v1.dto.ResultPageDTO;
 import de.ollie.library.service.RackService;
+import de.ollie.library.service.persistence.exception.PersistenceException;
 import de.ollie.library.service.so.RackSO;
 import de.ollie.library.service.so.ResultPageSO;
 import de.ollie.library.rest.v1.converter.BookDTOConverter;
@@ -39,6 +41,9 @@ import de.ollie.library.service.so.BookSO;
 @RequestMapping("api/v1/racks")
 public class RackRESTController {
 
+	private static final int MAX_BATCH_SIZE = 1000;
+	private static final int MAX_PAGE_SIZE = 1000;
+
 	private final Logger logger = LogManager.getLogger(RackRESTController.class);
 	@Autowired
 	private RackDTOConverter rackDTOConverter;
@@ -62,20 +67,39 @@ public class RackRESTController {
 		return ResponseEntity.ok().build();
 	}
 
+	@DeleteMapping
+	public ResponseEntity<Integer> deleteAll(@RequestBody List<Long> ids) {
+		try {
+			logger.debug("deleting " + ids.size() + " racks");
+			return ResponseEntity.ok().body(this.rackService.deleteAll(ids));
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
 	@GetMapping
-	public ResponseEntity<ResultPageDTO<RackDTO>> findAll() {
+	public ResponseEntity<ResultPageDTO<RackDTO>> findAll(
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "50") int size,
+			@RequestParam(name = "sort", required = false) String sort) {
+		if ((page < 0) || (size < 1) || (size > MAX_PAGE_SIZE)) {
+			return ResponseEntity.badRequest().build();
+		}
 		try {
-			List<RackDTO> dtos = new ArrayList<>();
-			ResultPageSO<RackSO> result = this.rackService.findAll();
-			for (RackSO so : result.getResults()) {
-				dtos.add(this.rackDTOConverter.convertSOToDTO(so));
-			}
+			ResultPageSO<RackSO> result = this.rackService.findAll(page, size, sort);
+			List<RackDTO> dtos = this.rackDTOConverter.convertSOsToDTOs(result.getResults());
 			return ResponseEntity.ok() //
 					.body(new ResultPageDTO<RackDTO>() //
 							.setCurrentPage(result.getCurrentPage()) //
 							.setResultsPerPage(result.getResultsPerPage()) //
 							.setResults(dtos) //
 							.setTotalResults(result.getTotalResults()));
+		} catch (PersistenceException e) {
+			if (e.getType() != PersistenceException.Type.InvalidSortError) {
+				return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+			}
+			logger.debug("invalid sort: " + sort);
+			return ResponseEntity.badRequest().build();
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 		}
@@ -107,20 +131,47 @@ public class RackRESTController {
 		return ResponseEntity.ok().build();
 	}
 
+	@PostMapping("/batch")
+	public ResponseEntity<List<Long>> saveAll(@RequestBody List<RackDTO> dtos) {
+		if (dtos.size() > MAX_BATCH_SIZE) {
+			return ResponseEntity.badRequest().build();
+		}
+		List<RackSO> sos = new ArrayList<>(dtos.size());
+		for (RackDTO dto : dtos) {
+			sos.add(this.rackDTOConverter.convertDTOToSO(dto));
+		}
+		try {
+			logger.debug("saving " + sos.size() + " racks");
+			return ResponseEntity.ok().body(this.rackService.saveAll(sos));
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
 	@GetMapping("/{id}/books")
-	public ResponseEntity<ResultPageDTO<BookDTO>> findBooksForRack(@PathVariable("id") long rackId) {
+	public ResponseEntity<ResultPageDTO<BookDTO>> findBooksForRack(
+			@PathVariable("id") long rackId,
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "50") int size,
+			@RequestParam(name = "sort", required = false) String sort) {
+		if ((page < 0) || (size < 1) || (size > MAX_PAGE_SIZE)) {
+			return ResponseEntity.badRequest().build();
+		}
 		try {
-			List<BookDTO> dtos = new ArrayList<>();
-			ResultPageSO<BookSO> result = this.bookService.findBooksForRack(rackId);
-			for (BookSO so : result.getResults()) {
-				dtos.add(this.bookDTOConverter.convertSOToDTO(so));
-			}
+			ResultPageSO<BookSO> result = this.bookService.findBooksForRack(rackId, page, size, sort);
+			List<BookDTO> dtos = this.bookDTOConverter.convertSOsToDTOs(result.getResults());
 			return ResponseEntity.ok() //
 					.body(new ResultPageDTO<BookDTO>() //
 							.setCurrentPage(result.getCurrentPage()) //
 							.setResultsPerPage(result.getResultsPerPage()) //
 							.setResults(dtos) //
 							.setTotalResults(result.getTotalResults()));
+		} catch (PersistenceException e) {
+			if (e.getType() != PersistenceException.Type.InvalidSortError) {
+				return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+			}
+			logger.debug("invalid sort: " + sort);
+			return ResponseEntity.badRequest().build();
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 		}
@@ -1,5 +1,8 @@
 package de.ollie.library.rest.v1.converter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import de.ollie.library.rest.v1.dto.BookDTO;
@@ -7,6 +10,11 @@ import de.ollie.library.service.so.BookSO;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import de.ollie.library.rest.v1.dto.RackDTO;
+
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * A converter for book DTO's.
  *
@@ -27,6 +35,18 @@ public class BookDTOConverter {
 		return new BookDTO().setId(so.getId()).setRack(this.rackDTOConverter.convertSOToDTO(so.getRack())).setReferenceLibrary(so.getReferenceLibrary()).setTitle(so.getTitle());
 	}
 
+	public List<BookDTO> convertSOsToDTOs(List<BookSO> sos) {
+		if (sos == null) {
+			return null;
+		}
+		Map<Long, RackDTO> rackDTOs = new HashMap<>();
+		List<BookDTO> dtos = new ArrayList<>(sos.size());
+		for (BookSO so : sos) {
+			dtos.add(so == null ? null : new BookDTO().setId(so.getId()).setRack(so.getRack() == null ? null : rackDTOs.computeIfAbsent(so.getRack().getId(), id -> this.rackDTOConverter.convertSOToDTO(so.getRack()))).setReferenceLibrary(so.getReferenceLibrary()).setTitle(so.getTitle()));
+		}
+		return dtos;
+	}
+
 	public BookSO convertDTOToSO(BookDTO dto) {
 		if (dto == null) {
 			return null;
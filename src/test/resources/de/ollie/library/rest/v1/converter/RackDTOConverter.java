@@ -1,5 +1,8 @@
 package de.ollie.library.rest.v1.converter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import de.ollie.library.rest.v1.dto.RackDTO;
@@ -22,6 +25,17 @@ public class RackDTOConverter {
 		return new RackDTO().setId(so.getId()).setName(so.getName());
 	}
 
+	public List<RackDTO> convertSOsToDTOs(List<RackSO> sos) {
+		if (sos == null) {
+			return null;
+		}
+		List<RackDTO> dtos = new ArrayList<>(sos.size());
+		for (RackSO so : sos) {
+			dtos.add(convertSOToDTO(so));
+		}
+		return dtos;
+	}
+
 	public RackSO convertDTOToSO(RackDTO dto) {
 		if (dto == null) {
 			return null;
@@ -1,5 +1,6 @@
 package de.ollie.library.service;
 
+import java.util.List;
 import java.util.Optional;
 
 import de.ollie.library.service.persistence.exception.PersistenceException;
@@ -17,12 +18,16 @@ public interface BookService {
 
 	boolean delete(long id) throws PersistenceException;
 
-	ResultPageSO<BookSO> findAll() throws PersistenceException;
+	int deleteAll(List<Long> ids) throws PersistenceException;
+
+	ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException;
 
 	Optional<BookSO> findById(long id) throws PersistenceException;
 
 	long save(BookSO book) throws PersistenceException;
 
-	ResultPageSO<BookSO> findBooksForRack(long rackId) throws PersistenceException;
+	List<Long> saveAll(List<BookSO> books) throws PersistenceException;
+
+	ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException;
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package de.ollie.library.service;
 
+import java.util.List;
 import java.util.Optional;
 
 import de.ollie.library.service.persistence.exception.PersistenceException;
@@ -17,10 +18,14 @@ public interface RackService {
 
 	boolean delete(long id) throws PersistenceException;
 
-	ResultPageSO<RackSO> findAll() throws PersistenceException;
+	int deleteAll(List<Long> ids) throws PersistenceException;
+
+	ResultPageSO<RackSO> findAll(int page, int size, String sort) throws PersistenceException;
 
 	Optional<RackSO> findById(long id) throws PersistenceException;
 
 	long save(RackSO rack) throws PersistenceException;
 
+	List<Long> saveAll(List<RackSO> racks) throws PersistenceException;
+
 }
\ No newline at end of file
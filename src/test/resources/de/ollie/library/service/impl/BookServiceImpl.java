@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import de.ollie.library.service.BookService;
 import de.ollie.library.service.persistence.exception.PersistenceException;
@@ -29,30 +30,45 @@ public class BookServiceImpl implements BookService {
 	}
 
 	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
 	public boolean delete(long id) throws PersistenceException {
 		return this.bookPersistencePort.delete(id);
 	}
 
 	@Override
-	public ResultPageSO<BookSO> findAll() throws PersistenceException {
-		List<BookSO> l = this.bookPersistencePort.findAll();
-		return new ResultPageSO<BookSO>().setCurrentPage(0).setResultsPerPage(l.size()).setResults(l).setTotalResults(l.size());
+	@Transactional(rollbackFor = PersistenceException.class)
+	public int deleteAll(List<Long> ids) throws PersistenceException {
+		return this.bookPersistencePort.deleteAll(ids);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException {
+		return this.bookPersistencePort.findAll(page, size, sort);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
 	public Optional<BookSO> findById(long id) throws PersistenceException {
 		return this.bookPersistencePort.findById(id);
 	}
 
 	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
 	public long save(BookSO book) throws PersistenceException {
 		return this.bookPersistencePort.save(book);
 	}
 
 	@Override
-	public ResultPageSO<BookSO> findBooksForRack(long rackId) throws PersistenceException {
-		List<BookSO> l = this.bookPersistencePort.findBooksForRack(rackId);
-		return new ResultPageSO<BookSO>().setCurrentPage(0).setResultsPerPage(l.size()).setResults(l).setTotalResults(l.size());
+	@Transactional(rollbackFor = PersistenceException.class)
+	public List<Long> saveAll(List<BookSO> books) throws PersistenceException {
+		return this.bookPersistencePort.saveAll(books);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException {
+		return this.bookPersistencePort.findBooksForRack(rackId, page, size, sort);
 	}
 
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import de.ollie.library.service.RackService;
 import de.ollie.library.service.persistence.exception.PersistenceException;
@@ -29,24 +30,39 @@ public class RackServiceImpl implements RackService {
 	}
 
 	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
 	public boolean delete(long id) throws PersistenceException {
 		return this.rackPersistencePort.delete(id);
 	}
 
 	@Override
-	public ResultPageSO<RackSO> findAll() throws PersistenceException {
-		List<RackSO> l = this.rackPersistencePort.findAll();
-		return new ResultPageSO<RackSO>().setCurrentPage(0).setResultsPerPage(l.size()).setResults(l).setTotalResults(l.size());
+	@Transactional(rollbackFor = PersistenceException.class)
+	public int deleteAll(List<Long> ids) throws PersistenceException {
+		return this.rackPersistencePort.deleteAll(ids);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public ResultPageSO<RackSO> findAll(int page, int size, String sort) throws PersistenceException {
+		return this.rackPersistencePort.findAll(page, size, sort);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
 	public Optional<RackSO> findById(long id) throws PersistenceException {
 		return this.rackPersistencePort.findById(id);
 	}
 
 	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
 	public long save(RackSO rack) throws PersistenceException {
 		return this.rackPersistencePort.save(rack);
 	}
 
+	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
+	public List<Long> saveAll(List<RackSO> racks) throws PersistenceException {
+		return this.rackPersistencePort.saveAll(racks);
+	}
+
 }
\ No newline at end of file
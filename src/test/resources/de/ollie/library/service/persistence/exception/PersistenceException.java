@@ -9,7 +9,7 @@ package de.ollie.library.service.persistence.exception;
  */
 public class PersistenceException extends Exception {
 
-	public enum Type { ReadError, WriteError }
+	public enum Type { InvalidSortError, OptimisticLockError, ReadError, WriteError }
 
 	private Type type;
 
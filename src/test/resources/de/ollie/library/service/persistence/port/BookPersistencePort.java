@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import de.ollie.library.service.persistence.exception.PersistenceException;
 import de.ollie.library.service.so.BookSO;
+import de.ollie.library.service.so.ResultPageSO;
 
 /**
  * An interface for book persistence ports.
@@ -17,12 +18,16 @@ public interface BookPersistencePort {
 
 	boolean delete(long id) throws PersistenceException;
 
-	List<BookSO> findAll() throws PersistenceException;
+	int deleteAll(List<Long> ids) throws PersistenceException;
+
+	ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException;
 
 	Optional<BookSO> findById(long id) throws PersistenceException;
 
 	long save(BookSO so) throws PersistenceException;
 
-	List<BookSO> findBooksForRack(long rackId) throws PersistenceException;
+	List<Long> saveAll(List<BookSO> sos) throws PersistenceException;
+
+	ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException;
 
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import de.ollie.library.service.persistence.exception.PersistenceException;
 import de.ollie.library.service.so.RackSO;
+import de.ollie.library.service.so.ResultPageSO;
 
 /**
  * An interface for rack persistence ports.
@@ -17,10 +18,14 @@ public interface RackPersistencePort {
 
 	boolean delete(long id) throws PersistenceException;
 
-	List<RackSO> findAll() throws PersistenceException;
+	int deleteAll(List<Long> ids) throws PersistenceException;
+
+	ResultPageSO<RackSO> findAll(int page, int size, String sort) throws PersistenceException;
 
 	Optional<RackSO> findById(long id) throws PersistenceException;
 
 	long save(RackSO so) throws PersistenceException;
 
+	List<Long> saveAll(List<RackSO> sos) throws PersistenceException;
+
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package de.ollie.library.persistence.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import de.ollie.library.persistence.converter.BookDBOConverter;
+import de.ollie.library.persistence.dbo.BookDBO;
+import de.ollie.library.persistence.repository.BookRepository;
+import de.ollie.library.service.persistence.exception.PersistenceException;
+import de.ollie.library.service.persistence.port.BookPersistencePort;
+import de.ollie.library.service.so.BookSO;
+import de.ollie.library.service.so.ResultPageSO;
+
+/**
+ * An implementation of the book persistence port interface for RDBMS.
+ *
+ * @author rest-acf
+ *
+ * GENERATED CODE!!! DO NOT CHANGE!!!
+ */
+@Service
+public class BookRDBMSPersistenceAdapter implements BookPersistencePort {
+
+	private static final int DELETE_CHUNK_SIZE = 1000;
+	private static final Set<String> SORT_ATTRIBUTE_NAMES = Set.of("id", "rack", "referenceLibrary", "title");
+	private final BookDBOConverter bookDBOConverter;
+	private final BookRepository bookRepository;
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	public BookRDBMSPersistenceAdapter(BookDBOConverter bookDBOConverter, BookRepository bookRepository) {
+		super();
+		this.bookDBOConverter = bookDBOConverter;
+		this.bookRepository = bookRepository;
+	}
+
+	@Override
+	public boolean delete(long id) throws PersistenceException {
+		try {
+			return this.bookRepository.deleteWithId(id) > 0;
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while deleting book with id: " + id, e);
+		}
+	}
+
+	@Override
+	@Transactional
+	public int deleteAll(List<Long> ids) throws PersistenceException {
+		try {
+			int result = 0;
+			for (int i = 0, leni = ids.size(); i < leni; i += DELETE_CHUNK_SIZE) {
+				result += this.bookRepository.deleteWithIds(ids.subList(i, Math.min(i + DELETE_CHUNK_SIZE, leni)));
+			}
+			return result;
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while deleting " + ids.size() + " books.", e);
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(Consumer<BookSO> consumer) throws PersistenceException {
+		try (Stream<BookDBO> dbos = this.bookRepository.streamAll()) {
+			dbos.forEach(dbo -> {
+				consumer.accept(this.bookDBOConverter.convertDBOToSO(dbo));
+				this.entityManager.detach(dbo);
+			});
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.ReadError, "error while exporting books.", e);
+		}
+	}
+
+	@Override
+	public ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException {
+		Sort order = createSort(sort);
+		try {
+			Page<BookDBO> dbos = this.bookRepository.findAll(PageRequest.of(page, size, order));
+			List<BookSO> sos = new ArrayList<>(dbos.getNumberOfElements());
+			for (BookDBO dbo : dbos) {
+				sos.add(this.bookDBOConverter.convertDBOToSO(dbo));
+			}
+			return new ResultPageSO<BookSO>() //
+					.setCurrentPage(dbos.getNumber()) //
+					.setResultsPerPage(dbos.getSize()) //
+					.setResults(sos) //
+					.setTotalResults((int) dbos.getTotalElements());
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.ReadError, "error while finding all books.", e);
+		}
+	}
+
+	@Override
+	public Optional<BookSO> findById(long id) throws PersistenceException {
+		try {
+			Optional<BookDBO> dbo = this.bookRepository.findById(id);
+			if (dbo.isEmpty()) {
+				return Optional.empty();
+			}
+			return Optional.of(this.bookDBOConverter.convertDBOToSO(dbo.get()));
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.ReadError, "error while finding by id: " + id, e);
+		}
+	}
+
+	@Override
+	public long save(BookSO so) throws PersistenceException {
+		try {
+			BookDBO dbo = this.bookDBOConverter.convertSOToDBO(so);
+			return this.bookRepository.save(dbo).getId();
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while saving: " + so, e);
+		}
+	}
+
+	@Override
+	public List<Long> saveAll(List<BookSO> sos) throws PersistenceException {
+		try {
+			List<BookDBO> dbos = new ArrayList<>(sos.size());
+			for (BookSO so : sos) {
+				dbos.add(this.bookDBOConverter.convertSOToDBO(so));
+			}
+			List<Long> ids = new ArrayList<>(dbos.size());
+			for (BookDBO dbo : this.bookRepository.saveAll(dbos)) {
+				ids.add(dbo.getId());
+			}
+			return ids;
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.WriteError, "error while saving " + sos.size() + " books.", e);
+		}
+	}
+
+	@Override
+	public ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException {
+		Sort order = createSort(sort);
+		try {
+			Page<BookDBO> dbos = this.bookRepository.findBooksForRack(rackId, PageRequest.of(page, size, order));
+			List<BookSO> sos = new ArrayList<>(dbos.getNumberOfElements());
+			for (BookDBO dbo : dbos) {
+				sos.add(this.bookDBOConverter.convertDBOToSO(dbo));
+			}
+			return new ResultPageSO<BookSO>() //
+					.setCurrentPage(dbos.getNumber()) //
+					.setResultsPerPage(dbos.getSize()) //
+					.setResults(sos) //
+					.setTotalResults((int) dbos.getTotalElements());
+		} catch (Exception e) {
+			throw new PersistenceException(PersistenceException.Type.ReadError, "error while finding all books for rack:" + rackId, e);
+		}
+	}
+
+	private Sort createSort(String sort) throws PersistenceException {
+		Sort result = Sort.unsorted();
+		if (sort != null) {
+			for (String attributeName : sort.split(",")) {
+				attributeName = attributeName.trim();
+				boolean descending = attributeName.startsWith("-");
+				if (descending) {
+					attributeName = attributeName.substring(1);
+				} else if (attributeName.isEmpty()) {
+					continue;
+				}
+				if (!SORT_ATTRIBUTE_NAMES.contains(attributeName)) {
+					throw new PersistenceException(PersistenceException.Type.InvalidSortError, "unknown sort attribute: " + attributeName, null);
+				}
+				result = result.and(descending ? Sort.by(attributeName).descending() : Sort.by(attributeName));
+			}
+		}
+		return result.isUnsorted() ? Sort.by("id") : result;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+package de.ollie.library.rest.v1.controller;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.ollie.library.rest.v1.converter.BookDTOConverter;
+import de.ollie.library.rest.v1.dto.BookDTO;
+import de.ollie.library.rest.v1.dto.ResultPageDTO;
+import de.ollie.library.service.BookService;
+import de.ollie.library.service.persistence.exception.PersistenceException;
+import de.ollie.library.service.so.BookSO;
+import de.ollie.library.service.so.ResultPageSO;
+
+/**
+ * A REST controller for books.
+ *
+ * @author rest-acf
+ *
+ * GENERATED CODE!!! DO NOT CHANGE!!!
+ */
+@RestController
+@RequestMapping("api/v1/books")
+public class BookRESTController {
+
+	private static final int MAX_BATCH_SIZE = 1000;
+	private static final int MAX_PAGE_SIZE = 1000;
+
+	private final Logger logger = LogManager.getLogger(BookRESTController.class);
+	@Autowired
+	private BookDTOConverter bookDTOConverter;
+	@Autowired
+	private BookService bookService;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@DeleteMapping("/{id}")
+	public ResponseEntity delete(@PathVariable("id") long id) {
+		try {
+			logger.debug("deleting book with id: " + id);
+			if (!this.bookService.delete(id)) {
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+			}
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+		return ResponseEntity.ok().build();
+	}
+
+	@DeleteMapping
+	public ResponseEntity<Integer> deleteAll(@RequestBody List<Long> ids) {
+		try {
+			logger.debug("deleting " + ids.size() + " books");
+			return ResponseEntity.ok().body(this.bookService.deleteAll(ids));
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	@GetMapping(value = "/export", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> exportAll() {
+		StreamingResponseBody body = out -> {
+			Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+			try {
+				this.bookService.exportAll(so -> {
+					try {
+						writer.write(this.objectMapper.writeValueAsString(this.bookDTOConverter.convertSOToDTO(so)));
+						writer.write("\n");
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (Exception e) {
+				logger.error("error while exporting books", e);
+				throw new IOException(e);
+			}
+			writer.flush();
+		};
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+	}
+
+	@GetMapping
+	public ResponseEntity<ResultPageDTO<BookDTO>> findAll(
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "50") int size,
+			@RequestParam(name = "sort", required = false) String sort) {
+		if ((page < 0) || (size < 1) || (size > MAX_PAGE_SIZE)) {
+			return ResponseEntity.badRequest().build();
+		}
+		try {
+			ResultPageSO<BookSO> result = this.bookService.findAll(page, size, sort);
+			List<BookDTO> dtos = this.bookDTOConverter.convertSOsToDTOs(result.getResults());
+			return ResponseEntity.ok() //
+					.body(new ResultPageDTO<BookDTO>() //
+							.setCurrentPage(result.getCurrentPage()) //
+							.setResultsPerPage(result.getResultsPerPage()) //
+							.setResults(dtos) //
+							.setTotalResults(result.getTotalResults()));
+		} catch (PersistenceException e) {
+			if (e.getType() != PersistenceException.Type.InvalidSortError) {
+				return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+			}
+			logger.debug("invalid sort: " + sort);
+			return ResponseEntity.badRequest().build();
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	@GetMapping("/{id}")
+	public ResponseEntity<BookDTO> findById(@PathVariable("id") long id) {
+		try {
+			Optional<BookSO> so = this.bookService.findById(id);
+			if (so.isEmpty()) {
+				logger.debug("no book found for id: " + id);
+				return ResponseEntity.notFound().build();
+			}
+			return ResponseEntity.ok().body(this.bookDTOConverter.convertSOToDTO(so.get()));
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	@PostMapping
+	public ResponseEntity save(@RequestBody BookDTO dto) {
+		BookSO so = this.bookDTOConverter.convertDTOToSO(dto);
+		try {
+			logger.debug("saving book: " + so);
+			this.bookService.save(so);
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+		return ResponseEntity.ok().build();
+	}
+
+	@PostMapping("/batch")
+	public ResponseEntity<List<Long>> saveAll(@RequestBody List<BookDTO> dtos) {
+		if (dtos.size() > MAX_BATCH_SIZE) {
+			return ResponseEntity.badRequest().build();
+		}
+		List<BookSO> sos = new ArrayList<>(dtos.size());
+		for (BookDTO dto : dtos) {
+			sos.add(this.bookDTOConverter.convertDTOToSO(dto));
+		}
+		try {
+			logger.debug("saving " + sos.size() + " books");
+			return ResponseEntity.ok().body(this.bookService.saveAll(sos));
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package de.ollie.library.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import de.ollie.library.service.persistence.exception.PersistenceException;
+import de.ollie.library.service.so.BookSO;
+import de.ollie.library.service.so.ResultPageSO;
+
+/**
+ * An interface for a book service.
+ *
+ * @author rest-acf
+ *
+ * GENERATED CODE!!! DO NOT CHANGE!!!
+ */
+public interface BookService {
+
+	boolean delete(long id) throws PersistenceException;
+
+	int deleteAll(List<Long> ids) throws PersistenceException;
+
+	void exportAll(Consumer<BookSO> consumer) throws PersistenceException;
+
+	ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException;
+
+	Optional<BookSO> findById(long id) throws PersistenceException;
+
+	long save(BookSO book) throws PersistenceException;
+
+	List<Long> saveAll(List<BookSO> books) throws PersistenceException;
+
+	ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException;
+
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package de.ollie.library.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import de.ollie.library.service.BookService;
+import de.ollie.library.service.persistence.exception.PersistenceException;
+import de.ollie.library.service.persistence.port.BookPersistencePort;
+import de.ollie.library.service.so.BookSO;
+import de.ollie.library.service.so.ResultPageSO;
+
+/**
+ * An implementation of the book service interface.
+ *
+ * @author rest-acf
+ *
+ * GENERATED CODE!!! DO NOT CHANGE!!!
+ */
+@Service
+public class BookServiceImpl implements BookService {
+
+	private final BookPersistencePort bookPersistencePort;
+
+	public BookServiceImpl(BookPersistencePort bookPersistencePort) {
+		super();
+		this.bookPersistencePort = bookPersistencePort;
+	}
+
+	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
+	public boolean delete(long id) throws PersistenceException {
+		return this.bookPersistencePort.delete(id);
+	}
+
+	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
+	public int deleteAll(List<Long> ids) throws PersistenceException {
+		return this.bookPersistencePort.deleteAll(ids);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(Consumer<BookSO> consumer) throws PersistenceException {
+		this.bookPersistencePort.exportAll(consumer);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException {
+		return this.bookPersistencePort.findAll(page, size, sort);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<BookSO> findById(long id) throws PersistenceException {
+		return this.bookPersistencePort.findById(id);
+	}
+
+	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
+	public long save(BookSO book) throws PersistenceException {
+		return this.bookPersistencePort.save(book);
+	}
+
+	@Override
+	@Transactional(rollbackFor = PersistenceException.class)
+	public List<Long> saveAll(List<BookSO> books) throws PersistenceException {
+		return this.bookPersistencePort.saveAll(books);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException {
+		return this.bookPersistencePort.findBooksForRack(rackId, page, size, sort);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package de.ollie.library.service.persistence.port;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import de.ollie.library.service.persistence.exception.PersistenceException;
+import de.ollie.library.service.so.BookSO;
+import de.ollie.library.service.so.ResultPageSO;
+
+/**
+ * An interface for book persistence ports.
+ *
+ * @author rest-acf
+ *
+ * GENERATED CODE!!! DO NOT CHANGE!!!
+ */
+public interface BookPersistencePort {
+
+	boolean delete(long id) throws PersistenceException;
+
+	int deleteAll(List<Long> ids) throws PersistenceException;
+
+	void exportAll(Consumer<BookSO> consumer) throws PersistenceException;
+
+	ResultPageSO<BookSO> findAll(int page, int size, String sort) throws PersistenceException;
+
+	Optional<BookSO> findById(long id) throws PersistenceException;
+
+	long save(BookSO so) throws PersistenceException;
+
+	List<Long> saveAll(List<BookSO> sos) throws PersistenceException;
+
+	ResultPageSO<BookSO> findBooksForRack(long rackId, int page, int size, String sort) throws PersistenceException;
+
+}
\ No newline at end of file